@@ -19,7 +19,9 @@
 package org.soulwing.jwt.extension.api;
 
 import java.security.Principal;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * A {@link java.security.Principal} with additional JWT-specific API.
@@ -57,4 +59,71 @@ public interface UserPrincipal extends Principal {
    */
   Map<String, Claim> getClaims();
 
+  /**
+   * Gets the value of the specified claim as a string.
+   * @param name name of the claim to retrieve
+   * @return string value or {@code null} if the claim has no value
+   * @throws ClassCastException if the claim's value is not a string
+   */
+  default String getString(String name) {
+    return (String) getClaim(name).getValue();
+  }
+
+  /**
+   * Gets the value of the specified claim as a primitive long.
+   * @param name name of the claim to retrieve
+   * @param defaultValue value to return if the claim has no value
+   * @return claim value or {@code defaultValue}
+   * @throws ClassCastException if the claim's value is not a number
+   */
+  default long getLong(String name, long defaultValue) {
+    final Number value = (Number) getClaim(name).getValue();
+    return value != null ? value.longValue() : defaultValue;
+  }
+
+  /**
+   * Tests whether the specified claim has a given value.
+   * <p>
+   * For an array claim, this method tests whether any element of the
+   * array is equal to the given value. Values are compared using
+   * {@link Object#equals(Object)}, so the type of {@code value} must match
+   * the type of the claim value; e.g. a {@link Long} will not match a
+   * claim value of type {@link Integer}.
+   *
+   * @param name name of the claim to test
+   * @param value the value to look for
+   * @return {@code true} if the claim has the given value
+   */
+  default boolean hasClaimValue(String name, Object value) {
+    final Object claimValue = getClaim(name).getValue();
+    if (claimValue == null) return false;
+    if (claimValue instanceof List) {
+      return ((List<?>) claimValue).contains(value);
+    }
+    return claimValue.equals(value);
+  }
+
+  /**
+   * Invokes a consumer for each value of the specified claim.
+   * <p>
+   * For an array claim, the consumer is invoked for each element of the
+   * array. For a scalar claim, the consumer is invoked once. If the claim
+   * has no value, the consumer is not invoked.
+   *
+   * @param name name of the claim
+   * @param consumer the consumer to invoke
+   */
+  default void forEachValue(String name, Consumer<Object> consumer) {
+    final Object claimValue = getClaim(name).getValue();
+    if (claimValue == null) return;
+    if (claimValue instanceof List) {
+      final List<?> values = (List<?>) claimValue;
+      for (int i = 0, size = values.size(); i < size; i++) {
+        consumer.accept(values.get(i));
+      }
+      return;
+    }
+    consumer.accept(claimValue);
+  }
+
 }
@@ -0,0 +1,351 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Predicates that make up a compiled claim expression.
+ * <p>
+ * Each predicate obtains claim values using an accessor function, so that
+ * the same compiled expression can be evaluated against any source of
+ * claims. Leaf predicates are specialized for each operator and literal
+ * type when the expression is compiled, so that evaluation involves no
+ * interpretation of the expression itself.
+ *
+ * @author Carl Harris
+ */
+class ClaimPredicates {
+
+  /**
+   * A relation between a claim value and a literal, expressed in terms
+   * of the result of comparing the two.
+   */
+  interface Relation {
+    boolean holds(int comparison);
+  }
+
+  static final Relation EQ = c -> c == 0;
+  static final Relation LT = c -> c < 0;
+  static final Relation LE = c -> c <= 0;
+  static final Relation GT = c -> c > 0;
+  static final Relation GE = c -> c >= 0;
+
+  private ClaimPredicates() {}
+
+  static <T> Predicate<T> and(Predicate<T> left, Predicate<T> right) {
+    return new And<>(left, right);
+  }
+
+  static <T> Predicate<T> or(Predicate<T> left, Predicate<T> right) {
+    return new Or<>(left, right);
+  }
+
+  static <T> Predicate<T> not(Predicate<T> operand) {
+    return new Not<>(operand);
+  }
+
+  private static final class And<T> implements Predicate<T> {
+
+    private final Predicate<T> left;
+    private final Predicate<T> right;
+
+    And(Predicate<T> left, Predicate<T> right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean test(T claims) {
+      return left.test(claims) && right.test(claims);
+    }
+
+  }
+
+  private static final class Or<T> implements Predicate<T> {
+
+    private final Predicate<T> left;
+    private final Predicate<T> right;
+
+    Or(Predicate<T> left, Predicate<T> right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean test(T claims) {
+      return left.test(claims) || right.test(claims);
+    }
+
+  }
+
+  private static final class Not<T> implements Predicate<T> {
+
+    private final Predicate<T> operand;
+
+    Not(Predicate<T> operand) {
+      this.operand = operand;
+    }
+
+    @Override
+    public boolean test(T claims) {
+      return !operand.test(claims);
+    }
+
+  }
+
+  /**
+   * Base type for predicates on the value of a single claim.
+   * @param <T> claims type
+   */
+  abstract static class ClaimPredicate<T> implements Predicate<T> {
+
+    private final BiFunction<? super T, String, Object> accessor;
+    private final String name;
+
+    ClaimPredicate(BiFunction<? super T, String, Object> accessor,
+        String name) {
+      this.accessor = accessor;
+      this.name = name;
+    }
+
+    @Override
+    public final boolean test(T claims) {
+      return testValue(accessor.apply(claims, name));
+    }
+
+    abstract boolean testValue(Object value);
+
+  }
+
+  /**
+   * A predicate that is satisfied when a claim is present and not
+   * {@code false}.
+   * @param <T> claims type
+   */
+  static final class Present<T> extends ClaimPredicate<T> {
+
+    Present(BiFunction<? super T, String, Object> accessor, String name) {
+      super(accessor, name);
+    }
+
+    @Override
+    boolean testValue(Object value) {
+      return value != null && !Boolean.FALSE.equals(value);
+    }
+
+  }
+
+  /**
+   * A predicate that is satisfied when a scalar claim value equals a
+   * string or boolean literal.
+   * @param <T> claims type
+   */
+  static final class EqualTo<T> extends ClaimPredicate<T> {
+
+    private final Object literal;
+
+    EqualTo(BiFunction<? super T, String, Object> accessor, String name,
+        Object literal) {
+      super(accessor, name);
+      this.literal = literal;
+    }
+
+    @Override
+    boolean testValue(Object value) {
+      return literal.equals(value);
+    }
+
+  }
+
+  /**
+   * A predicate that is satisfied when a numeric claim value has a given
+   * relation to a numeric literal.
+   * @param <T> claims type
+   */
+  static final class NumberRelation<T> extends ClaimPredicate<T> {
+
+    private final Number literal;
+    private final Relation relation;
+
+    NumberRelation(BiFunction<? super T, String, Object> accessor,
+        String name, Number literal, Relation relation) {
+      super(accessor, name);
+      this.literal = literal;
+      this.relation = relation;
+    }
+
+    @Override
+    boolean testValue(Object value) {
+      return value instanceof Number
+          && relation.holds(compare((Number) value, literal));
+    }
+
+  }
+
+  /**
+   * A predicate that is satisfied when a claim value equals a literal or,
+   * for an array claim, when any element of the array equals the literal.
+   * @param <T> claims type
+   */
+  static final class Contains<T> extends ClaimPredicate<T> {
+
+    private final Object literal;
+
+    Contains(BiFunction<? super T, String, Object> accessor, String name,
+        Object literal) {
+      super(accessor, name);
+      this.literal = literal;
+    }
+
+    @Override
+    boolean testValue(Object value) {
+      if (value instanceof Collection) {
+        for (final Object element : (Collection<?>) value) {
+          if (matches(element)) return true;
+        }
+        return false;
+      }
+      if (value instanceof Object[]) {
+        for (final Object element : (Object[]) value) {
+          if (matches(element)) return true;
+        }
+        return false;
+      }
+      return matches(value);
+    }
+
+    private boolean matches(Object element) {
+      if (literal instanceof Number) {
+        return element instanceof Number
+            && compare((Number) element, (Number) literal) == 0;
+      }
+      return literal.equals(element);
+    }
+
+  }
+
+  /**
+   * Base type for predicates on string claim values. If the predicate is
+   * an <em>any</em> predicate, it is satisfied when any string element of
+   * an array claim satisfies it.
+   * @param <T> claims type
+   */
+  abstract static class StringPredicate<T> extends ClaimPredicate<T> {
+
+    private final boolean any;
+
+    StringPredicate(BiFunction<? super T, String, Object> accessor,
+        String name, boolean any) {
+      super(accessor, name);
+      this.any = any;
+    }
+
+    @Override
+    final boolean testValue(Object value) {
+      if (value instanceof String) return testString((String) value);
+      if (!any) return false;
+      if (value instanceof Collection) {
+        for (final Object element : (Collection<?>) value) {
+          if (element instanceof String && testString((String) element)) {
+            return true;
+          }
+        }
+      }
+      else if (value instanceof Object[]) {
+        for (final Object element : (Object[]) value) {
+          if (element instanceof String && testString((String) element)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    abstract boolean testString(String value);
+
+  }
+
+  static final class StartsWith<T> extends StringPredicate<T> {
+
+    private final String prefix;
+
+    StartsWith(BiFunction<? super T, String, Object> accessor, String name,
+        boolean any, String prefix) {
+      super(accessor, name, any);
+      this.prefix = prefix;
+    }
+
+    @Override
+    boolean testString(String value) {
+      return value.startsWith(prefix);
+    }
+
+  }
+
+  static final class EndsWith<T> extends StringPredicate<T> {
+
+    private final String suffix;
+
+    EndsWith(BiFunction<? super T, String, Object> accessor, String name,
+        boolean any, String suffix) {
+      super(accessor, name, any);
+      this.suffix = suffix;
+    }
+
+    @Override
+    boolean testString(String value) {
+      return value.endsWith(suffix);
+    }
+
+  }
+
+  static final class Matches<T> extends StringPredicate<T> {
+
+    private final Pattern pattern;
+
+    Matches(BiFunction<? super T, String, Object> accessor, String name,
+        boolean any, Pattern pattern) {
+      super(accessor, name, any);
+      this.pattern = pattern;
+    }
+
+    @Override
+    boolean testString(String value) {
+      return pattern.matcher(value).matches();
+    }
+
+  }
+
+  private static int compare(Number value, Number literal) {
+    if (isIntegral(value) && isIntegral(literal)) {
+      return Long.compare(value.longValue(), literal.longValue());
+    }
+    return Double.compare(value.doubleValue(), literal.doubleValue());
+  }
+
+  private static boolean isIntegral(Number n) {
+    return n instanceof Long || n instanceof Integer
+        || n instanceof Short || n instanceof Byte;
+  }
+
+}
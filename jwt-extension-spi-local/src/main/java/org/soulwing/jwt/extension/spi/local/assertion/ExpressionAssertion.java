@@ -0,0 +1,75 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import java.util.Properties;
+import java.util.function.Predicate;
+
+import org.soulwing.jwt.api.Claims;
+import org.soulwing.jwt.extension.spi.Assertion;
+
+/**
+ * An {@link Assertion} that evaluates an expression on the claims of a JWT.
+ * <p>
+ * The expression is given by the {@value #EXPRESSION} property; for example
+ * <pre>
+ * aud contains 'svc' &amp;&amp; uid &gt; 1000 &amp;&amp; grp any-startswith 'research.'
+ * </pre>
+ * The expression is compiled once when the assertion is initialized; see
+ * {@link ExpressionCompiler} for the supported syntax.
+ *
+ * @author Carl Harris
+ */
+public class ExpressionAssertion implements Assertion {
+
+  static final String EXPRESSION = "expression";
+
+  private String expression;
+  private Predicate<Claims> predicate;
+
+  @Override
+  public String getName() {
+    return "Expression";
+  }
+
+  @Override
+  public void initialize(Properties properties) {
+    expression = properties.getProperty(EXPRESSION);
+    if (expression == null) {
+      throw new IllegalArgumentException("expression is required");
+    }
+    predicate = ExpressionCompiler.compile(expression,
+        ExpressionAssertion::claimValue);
+  }
+
+  private static Object claimValue(Claims claims, String name) {
+    return claims.claim(name, Object.class).orElse(null);
+  }
+
+  @Override
+  public boolean test(Claims claims) {
+    return predicate.test(claims);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(%s=%s)", getName(), EXPRESSION, expression);
+  }
+
+}
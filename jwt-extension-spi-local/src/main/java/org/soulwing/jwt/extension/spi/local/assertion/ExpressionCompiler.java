@@ -0,0 +1,398 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A compiler for claim expressions.
+ * <p>
+ * The grammar for an expression is as follows.
+ * <pre>
+ * expression  := and ( '||' and )*
+ * and         := unary ( '&amp;&amp;' unary )*
+ * unary       := '!' unary | '(' expression ')' | comparison
+ * comparison  := claim [ operator literal ]
+ * operator    := '==' | '!=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;='
+ *              | 'contains' | 'startswith' | 'endswith' | 'matches'
+ *              | 'any-startswith' | 'any-endswith' | 'any-matches'
+ * literal     := string | number | 'true' | 'false'
+ * </pre>
+ * A claim name that appears without an operator is satisfied when the claim
+ * is present and not {@code false}. String literals are enclosed in single
+ * or double quotes, and may use a backslash to escape the quote character.
+ * <p>
+ * An expression is compiled into a tree of specialized predicates (see
+ * {@link ClaimPredicates}); any regular expressions are compiled once, when
+ * the expression is compiled.
+ *
+ * @author Carl Harris
+ */
+class ExpressionCompiler<T> {
+
+  private enum TokenType {
+    LPAREN, RPAREN, AND, OR, NOT, EQ, NE, LT, LE, GT, GE,
+    WORD, STRING, NUMBER, END
+  }
+
+  private final BiFunction<? super T, String, Object> accessor;
+  private final String expression;
+
+  private int position;
+  private int tokenStart;
+  private TokenType tokenType;
+  private String tokenText;
+
+  private ExpressionCompiler(String expression,
+      BiFunction<? super T, String, Object> accessor) {
+    this.expression = expression;
+    this.accessor = accessor;
+  }
+
+  /**
+   * Compiles an expression.
+   * @param expression the expression to compile
+   * @param accessor a function that obtains the value of a named claim;
+   *    it should return {@code null} for a claim that is not present
+   * @param <T> claims type
+   * @return predicate that evaluates the expression
+   * @throws IllegalArgumentException if the expression is not valid
+   */
+  static <T> Predicate<T> compile(String expression,
+      BiFunction<? super T, String, Object> accessor) {
+    final ExpressionCompiler<T> compiler =
+        new ExpressionCompiler<>(expression, accessor);
+    compiler.next();
+    final Predicate<T> predicate = compiler.or();
+    compiler.expect(TokenType.END, "end of expression");
+    return predicate;
+  }
+
+  private Predicate<T> or() {
+    Predicate<T> predicate = and();
+    while (tokenType == TokenType.OR) {
+      next();
+      predicate = ClaimPredicates.or(predicate, and());
+    }
+    return predicate;
+  }
+
+  private Predicate<T> and() {
+    Predicate<T> predicate = unary();
+    while (tokenType == TokenType.AND) {
+      next();
+      predicate = ClaimPredicates.and(predicate, unary());
+    }
+    return predicate;
+  }
+
+  private Predicate<T> unary() {
+    if (tokenType == TokenType.NOT) {
+      next();
+      return ClaimPredicates.not(unary());
+    }
+    if (tokenType == TokenType.LPAREN) {
+      next();
+      final Predicate<T> predicate = or();
+      expect(TokenType.RPAREN, "`)`");
+      return predicate;
+    }
+    return comparison();
+  }
+
+  private Predicate<T> comparison() {
+    if (tokenType != TokenType.WORD) {
+      throw error("expected claim name");
+    }
+    final String name = tokenText;
+    next();
+    final TokenType operatorType = tokenType;
+    final String operator = tokenText;
+    final int operatorStart = tokenStart;
+    switch (operatorType) {
+      case EQ:
+        next();
+        return equalTo(name, literal());
+      case NE:
+        next();
+        return ClaimPredicates.not(equalTo(name, literal()));
+      case LT:
+        next();
+        return relation(name, ClaimPredicates.LT);
+      case LE:
+        next();
+        return relation(name, ClaimPredicates.LE);
+      case GT:
+        next();
+        return relation(name, ClaimPredicates.GT);
+      case GE:
+        next();
+        return relation(name, ClaimPredicates.GE);
+      case WORD:
+        next();
+        return wordOperator(name, operator, operatorStart);
+      default:
+        return new ClaimPredicates.Present<>(accessor, name);
+    }
+  }
+
+  private Predicate<T> wordOperator(String name, String operator,
+      int operatorStart) {
+    switch (operator) {
+      case "contains":
+        return new ClaimPredicates.Contains<>(accessor, name, literal());
+      case "startswith":
+        return new ClaimPredicates.StartsWith<>(accessor, name, false,
+            stringLiteral());
+      case "any-startswith":
+        return new ClaimPredicates.StartsWith<>(accessor, name, true,
+            stringLiteral());
+      case "endswith":
+        return new ClaimPredicates.EndsWith<>(accessor, name, false,
+            stringLiteral());
+      case "any-endswith":
+        return new ClaimPredicates.EndsWith<>(accessor, name, true,
+            stringLiteral());
+      case "matches":
+        return new ClaimPredicates.Matches<>(accessor, name, false,
+            Pattern.compile(stringLiteral()));
+      case "any-matches":
+        return new ClaimPredicates.Matches<>(accessor, name, true,
+            Pattern.compile(stringLiteral()));
+      default:
+        throw error("unknown operator `" + operator + "`", operatorStart);
+    }
+  }
+
+  private Predicate<T> equalTo(String name, Object literal) {
+    if (literal instanceof Number) {
+      return new ClaimPredicates.NumberRelation<>(accessor, name,
+          (Number) literal, ClaimPredicates.EQ);
+    }
+    return new ClaimPredicates.EqualTo<>(accessor, name, literal);
+  }
+
+  private Predicate<T> relation(String name,
+      ClaimPredicates.Relation relation) {
+    if (tokenType != TokenType.NUMBER) {
+      throw error("expected number");
+    }
+    return new ClaimPredicates.NumberRelation<>(accessor, name,
+        (Number) literal(), relation);
+  }
+
+  private String stringLiteral() {
+    if (tokenType != TokenType.STRING) {
+      throw error("expected string");
+    }
+    return (String) literal();
+  }
+
+  private Object literal() {
+    final Object literal;
+    switch (tokenType) {
+      case STRING:
+        literal = tokenText;
+        break;
+      case NUMBER:
+        literal = tokenText.indexOf('.') != -1 ?
+            (Number) Double.valueOf(tokenText) : Long.valueOf(tokenText);
+        break;
+      case WORD:
+        if ("true".equals(tokenText)) {
+          literal = Boolean.TRUE;
+        }
+        else if ("false".equals(tokenText)) {
+          literal = Boolean.FALSE;
+        }
+        else {
+          throw error("expected literal");
+        }
+        break;
+      default:
+        throw error("expected literal");
+    }
+    next();
+    return literal;
+  }
+
+  private void expect(TokenType type, String description) {
+    if (tokenType != type) {
+      throw error("expected " + description);
+    }
+    next();
+  }
+
+  private IllegalArgumentException error(String message) {
+    return error(message, tokenStart);
+  }
+
+  private IllegalArgumentException error(String message, int at) {
+    return new IllegalArgumentException(message + " at position " + at
+        + " in expression `" + expression + "`");
+  }
+
+  private void next() {
+    final int length = expression.length();
+    while (position < length
+        && Character.isWhitespace(expression.charAt(position))) {
+      position++;
+    }
+    tokenStart = position;
+    tokenText = null;
+    if (position == length) {
+      tokenType = TokenType.END;
+      return;
+    }
+    final char c = expression.charAt(position);
+    switch (c) {
+      case '(':
+        single(TokenType.LPAREN);
+        break;
+      case ')':
+        single(TokenType.RPAREN);
+        break;
+      case '&':
+        pair('&', TokenType.AND);
+        break;
+      case '|':
+        pair('|', TokenType.OR);
+        break;
+      case '=':
+        pair('=', TokenType.EQ);
+        break;
+      case '!':
+        optionalEquals(TokenType.NOT, TokenType.NE);
+        break;
+      case '<':
+        optionalEquals(TokenType.LT, TokenType.LE);
+        break;
+      case '>':
+        optionalEquals(TokenType.GT, TokenType.GE);
+        break;
+      case '\'':
+      case '"':
+        string(c);
+        break;
+      default:
+        if (c == '-' || isDigit(c)) {
+          number();
+        }
+        else if (isWordStart(c)) {
+          word();
+        }
+        else {
+          throw error("unexpected character `" + c + "`");
+        }
+    }
+  }
+
+  private void single(TokenType type) {
+    tokenType = type;
+    position++;
+  }
+
+  private void pair(char second, TokenType type) {
+    if (position + 1 >= expression.length()
+        || expression.charAt(position + 1) != second) {
+      throw error("expected `" + expression.charAt(position) + second + "`");
+    }
+    tokenType = type;
+    position += 2;
+  }
+
+  private void optionalEquals(TokenType type, TokenType withEquals) {
+    if (position + 1 < expression.length()
+        && expression.charAt(position + 1) == '=') {
+      tokenType = withEquals;
+      position += 2;
+    }
+    else {
+      tokenType = type;
+      position++;
+    }
+  }
+
+  private void string(char quote) {
+    final StringBuilder sb = new StringBuilder();
+    position++;
+    while (position < expression.length()) {
+      char c = expression.charAt(position++);
+      if (c == quote) {
+        tokenType = TokenType.STRING;
+        tokenText = sb.toString();
+        return;
+      }
+      if (c == '\\' && position < expression.length()) {
+        c = expression.charAt(position++);
+      }
+      sb.append(c);
+    }
+    throw error("unterminated string");
+  }
+
+  private void number() {
+    final int start = position;
+    if (expression.charAt(position) == '-') position++;
+    final int digits = position;
+    while (position < expression.length()
+        && isDigit(expression.charAt(position))) {
+      position++;
+    }
+    if (position < expression.length()
+        && expression.charAt(position) == '.') {
+      position++;
+      while (position < expression.length()
+          && isDigit(expression.charAt(position))) {
+        position++;
+      }
+    }
+    if (position == digits || !isDigit(expression.charAt(position - 1))) {
+      throw error("invalid number");
+    }
+    tokenType = TokenType.NUMBER;
+    tokenText = expression.substring(start, position);
+  }
+
+  private void word() {
+    final int start = position;
+    while (position < expression.length()
+        && isWordPart(expression.charAt(position))) {
+      position++;
+    }
+    tokenType = TokenType.WORD;
+    tokenText = expression.substring(start, position);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWordStart(char c) {
+    return Character.isLetter(c) || c == '_' || c == '$';
+  }
+
+  private static boolean isWordPart(char c) {
+    return isWordStart(c) || isDigit(c)
+        || c == '-' || c == '.' || c == ':';
+  }
+
+}
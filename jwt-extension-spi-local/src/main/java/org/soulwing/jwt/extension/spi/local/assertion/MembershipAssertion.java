@@ -0,0 +1,139 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.soulwing.jwt.api.Claims;
+import org.soulwing.jwt.extension.spi.Assertion;
+import org.soulwing.jwt.extension.spi.local.file.ReloadableFile;
+
+/**
+ * An {@link Assertion} that tests the value of a claim for membership in a
+ * list of identifiers loaded from a file.
+ * <p>
+ * The file given by the {@value #PATH} property contains one identifier per
+ * line; blank lines and lines that start with {@code #} are ignored. In
+ * {@code allow} mode (the default), the assertion is satisfied when the
+ * value of the claim named by {@value #CLAIM} (default {@code sub}) is in
+ * the list; in {@code deny} mode, it is satisfied when the value is not in
+ * the list. For an array claim, the value is in the list if any element
+ * of the array is in the list.
+ * <p>
+ * The list is held in a {@link MembershipIndex}, and is reloaded in the
+ * background when the file changes; the file is checked for changes at the
+ * interval (in seconds) given by {@value #RELOAD_INTERVAL}, and a value of
+ * zero disables reloading. To change the list, write a new file and rename
+ * it over the old one (see {@link ReloadableFile}).
+ *
+ * @author Carl Harris
+ */
+public class MembershipAssertion implements Assertion {
+
+  static final String PATH = "path";
+  static final String CLAIM = "claim";
+  static final String MODE = "mode";
+  static final String RELOAD_INTERVAL = "reload-interval";
+
+  static final String DEFAULT_CLAIM = "sub";
+  static final long DEFAULT_RELOAD_INTERVAL = 60;
+
+  enum Mode {
+    ALLOW,
+    DENY
+  }
+
+  private String claim;
+  private Mode mode;
+  private ReloadableFile<MembershipIndex> index;
+
+  @Override
+  public String getName() {
+    return "Membership";
+  }
+
+  @Override
+  public void initialize(Properties properties) {
+    final Path path = Optional.ofNullable(properties.getProperty(PATH))
+        .map(Paths::get).orElseThrow(() -> new IllegalArgumentException(
+            "`" + PATH + "` property is required"));
+    claim = properties.getProperty(CLAIM, DEFAULT_CLAIM);
+    mode = Mode.valueOf(properties.getProperty(MODE,
+        Mode.ALLOW.name()).toUpperCase(Locale.ROOT));
+    final long reloadInterval = Long.parseLong(properties.getProperty(
+        RELOAD_INTERVAL, Long.toString(DEFAULT_RELOAD_INTERVAL)));
+    if (reloadInterval < 0) {
+      throw new IllegalArgumentException(
+          "`" + RELOAD_INTERVAL + "` must not be negative");
+    }
+    try {
+      index = new ReloadableFile<>(path, Duration.ofSeconds(reloadInterval),
+          MembershipIndex::load);
+    }
+    catch (IOException ex) {
+      throw new IllegalArgumentException("cannot load " + path + ": "
+          + ex.getMessage(), ex);
+    }
+  }
+
+  @Override
+  public boolean test(Claims claims) {
+    return isSatisfiedBy(claims.claim(claim, Object.class).orElse(null));
+  }
+
+  boolean isSatisfiedBy(Object value) {
+    return isMember(value) == (mode == Mode.ALLOW);
+  }
+
+  private boolean isMember(Object value) {
+    final MembershipIndex index = this.index.get();
+    if (value instanceof String) {
+      return index.contains((String) value);
+    }
+    if (value instanceof Collection) {
+      for (final Object element : (Collection<?>) value) {
+        if (element instanceof String && index.contains((String) element)) {
+          return true;
+        }
+      }
+    }
+    else if (value instanceof Object[]) {
+      for (final Object element : (Object[]) value) {
+        if (element instanceof String && index.contains((String) element)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(%s=%s, %s=%s)", getName(), CLAIM, claim,
+        MODE, mode.name().toLowerCase(Locale.ROOT));
+  }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.soulwing.jwt.extension.spi.local.file.TextFileEntries;
+
+/**
+ * An immutable set of strings, stored in a compact hashed index.
+ * <p>
+ * The UTF-8 encoded keys are stored end-to-end in a single off-heap
+ * buffer, and an open-addressing table (using linear probing and a load
+ * factor of at most one half) holds the hash and buffer offset of each
+ * key. Compared with a {@link java.util.HashSet} of strings, this avoids
+ * the per-entry object overhead, which accounts for most of the heap used
+ * by large sets.
+ * <p>
+ * A lookup compares the candidate string with the stored UTF-8 bytes
+ * directly, so {@link #contains(String)} does not allocate.
+ *
+ * @author Carl Harris
+ */
+class MembershipIndex {
+
+  private static final int LENGTH_SIZE = Integer.BYTES;
+
+  private final ByteBuffer keys;
+  private final int[] offsets;
+  private final int[] hashes;
+  private final int mask;
+  private final int size;
+
+  private MembershipIndex(ByteBuffer keys, int[] offsets, int[] hashes,
+      int size) {
+    this.keys = keys;
+    this.offsets = offsets;
+    this.hashes = hashes;
+    this.mask = offsets.length - 1;
+    this.size = size;
+  }
+
+  /**
+   * Loads an index from a text file containing one key per line.
+   * @param path path to the file
+   * @return index
+   * @throws IOException if an error occurs in reading the file
+   * @see TextFileEntries
+   */
+  static MembershipIndex load(Path path) throws IOException {
+    final Builder builder = new Builder();
+    TextFileEntries.forEach(path, builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Creates an index containing the given keys.
+   * @param keys the keys to include
+   * @return index
+   */
+  static MembershipIndex of(Collection<String> keys) {
+    final Builder builder = new Builder();
+    keys.forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Gets the number of distinct keys in this index.
+   * @return number of keys
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Tests whether this index contains the given key.
+   * @param key the key to test
+   * @return {@code true} if {@code key} is in this index
+   */
+  boolean contains(String key) {
+    final int hash = spread(key.hashCode());
+    int i = hash & mask;
+    int offset = offsets[i];
+    while (offset != 0) {
+      if (hashes[i] == hash && keyEquals(offset - 1, key)) return true;
+      i = (i + 1) & mask;
+      offset = offsets[i];
+    }
+    return false;
+  }
+
+  private boolean keyEquals(int offset, String key) {
+    final int length = key.length();
+    int position = offset + LENGTH_SIZE;
+    final int end = position + keys.getInt(offset);
+    int i = 0;
+    while (position < end) {
+      final int b = keys.get(position) & 0xff;
+      final int c;
+      if (b < 0x80) {
+        c = b;
+        position += 1;
+      }
+      else if ((b & 0xe0) == 0xc0) {
+        c = (b & 0x1f) << 6 | continuation(position + 1);
+        position += 2;
+      }
+      else if ((b & 0xf0) == 0xe0) {
+        c = (b & 0x0f) << 12 | continuation(position + 1) << 6
+            | continuation(position + 2);
+        position += 3;
+      }
+      else {
+        final int codePoint = (b & 0x07) << 18
+            | continuation(position + 1) << 12
+            | continuation(position + 2) << 6
+            | continuation(position + 3);
+        position += 4;
+        if (i + 2 > length
+            || key.charAt(i) != Character.highSurrogate(codePoint)
+            || key.charAt(i + 1) != Character.lowSurrogate(codePoint)) {
+          return false;
+        }
+        i += 2;
+        continue;
+      }
+      if (i == length || key.charAt(i) != c) return false;
+      i++;
+    }
+    return i == length;
+  }
+
+  private int continuation(int position) {
+    return keys.get(position) & 0x3f;
+  }
+
+  private static int spread(int hash) {
+    final int h = hash * 0x9e3779b9;
+    return h ^ (h >>> 16);
+  }
+
+  private static class Builder {
+
+    private byte[] data = new byte[4096];
+    private int dataLength;
+    private int[] keyOffsets = new int[256];
+    private int[] keyHashes = new int[256];
+    private int count;
+
+    void add(String key) {
+      final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+      final int required = dataLength + LENGTH_SIZE + bytes.length;
+      if (required > data.length) {
+        data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+      }
+      if (count == keyOffsets.length) {
+        keyOffsets = Arrays.copyOf(keyOffsets, count * 2);
+        keyHashes = Arrays.copyOf(keyHashes, count * 2);
+      }
+      keyOffsets[count] = dataLength;
+      keyHashes[count] = spread(key.hashCode());
+      count++;
+      ByteBuffer.wrap(data, dataLength, LENGTH_SIZE).putInt(bytes.length);
+      System.arraycopy(bytes, 0, data, dataLength + LENGTH_SIZE,
+          bytes.length);
+      dataLength = required;
+    }
+
+    MembershipIndex build() {
+      final ByteBuffer keys = ByteBuffer.allocateDirect(dataLength);
+      keys.put(data, 0, dataLength);
+      final int capacity =
+          Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1;
+      final int mask = capacity - 1;
+      final int[] offsets = new int[capacity];
+      final int[] hashes = new int[capacity];
+      int size = 0;
+      for (int k = 0; k < count; k++) {
+        final int hash = keyHashes[k];
+        int i = hash & mask;
+        boolean duplicate = false;
+        while (offsets[i] != 0) {
+          if (hashes[i] == hash
+              && bytesEqual(keys, offsets[i] - 1, keyOffsets[k])) {
+            duplicate = true;
+            break;
+          }
+          i = (i + 1) & mask;
+        }
+        if (!duplicate) {
+          offsets[i] = keyOffsets[k] + 1;
+          hashes[i] = hash;
+          size++;
+        }
+      }
+      return new MembershipIndex(keys, offsets, hashes, size);
+    }
+
+    private static boolean bytesEqual(ByteBuffer keys, int a, int b) {
+      final int length = keys.getInt(a);
+      if (keys.getInt(b) != length) return false;
+      for (int i = LENGTH_SIZE; i < LENGTH_SIZE + length; i++) {
+        if (keys.get(a + i) != keys.get(b + i)) return false;
+      }
+      return true;
+    }
+
+  }
+
+}
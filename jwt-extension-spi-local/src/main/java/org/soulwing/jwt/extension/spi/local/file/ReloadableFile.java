@@ -0,0 +1,207 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.file;
+
+import static org.soulwing.jwt.extension.spi.local.file.FileLogger.LOGGER;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A value loaded from a file, which is reloaded when the file changes.
+ * <p>
+ * At each check interval, a background task checks the modification time
+ * and size of the file; if either has changed, the file is loaded again
+ * and the new value replaces the old one. The new value is completely
+ * loaded before it is made visible, so {@link #get()} never waits for a
+ * reload and always returns either the old value or the new one. If the
+ * file cannot be loaded, a warning is logged, the previous value is
+ * retained, and loading is attempted again at the next check interval.
+ * <p>
+ * A file that is modified while it is being loaded is not used; the load
+ * is attempted again at the next check interval. This guards against most
+ * (but not all) partially written files, so a file should be replaced by
+ * writing the new content to a temporary file in the same directory and
+ * renaming it to the name of the file, rather than by rewriting the file
+ * in place.
+ * <p>
+ * The background tasks for all instances share a single daemon thread,
+ * which exits when no instances need it. The task for an instance is
+ * cancelled when the instance is closed, or when it is no longer
+ * referenced.
+ *
+ * @param <T> type of the loaded value
+ * @author Carl Harris
+ */
+public class ReloadableFile<T> implements AutoCloseable {
+
+  private static final ScheduledThreadPoolExecutor SCHEDULER =
+      newScheduler();
+
+  /**
+   * A function that loads a value from a file.
+   * @param <T> type of the loaded value
+   */
+  public interface Loader<T> {
+    T load(Path path) throws IOException;
+  }
+
+  private final Path path;
+  private final Loader<T> loader;
+  private final ScheduledFuture<?> task;
+
+  private volatile Snapshot<T> snapshot;
+
+  /**
+   * Constructs a new instance, loading the initial value from the file.
+   * @param path path to the file
+   * @param checkInterval interval between checks for a change to the
+   *    file; if zero, the file is never reloaded
+   * @param loader function that loads the value
+   * @throws IOException if the initial value cannot be loaded
+   */
+  public ReloadableFile(Path path, Duration checkInterval, Loader<T> loader)
+      throws IOException {
+    this.path = path;
+    this.loader = loader;
+    this.snapshot = load();
+    this.task = checkInterval.isZero() ? null : ReloadTask.schedule(this,
+        checkInterval.toMillis());
+  }
+
+  /**
+   * Gets the current value.
+   * @return value loaded from the file
+   */
+  public T get() {
+    return snapshot.value;
+  }
+
+  /**
+   * Stops checking the file for changes; the current value remains
+   * available.
+   */
+  @Override
+  public void close() {
+    if (task != null) {
+      task.cancel(false);
+    }
+  }
+
+  boolean isReloading() {
+    return task != null && !task.isDone();
+  }
+
+  void reloadIfModified() {
+    try {
+      final Snapshot<T> snapshot = this.snapshot;
+      if (!snapshot.modified.equals(Files.getLastModifiedTime(path))
+          || snapshot.size != Files.size(path)) {
+        final Snapshot<T> reloaded = load();
+        if (!reloaded.modified.equals(Files.getLastModifiedTime(path))
+            || reloaded.size != Files.size(path)) {
+          // try again after the next interval, when the writer has finished
+          LOGGER.warning(path + " changed while loading; will retry");
+          return;
+        }
+        this.snapshot = reloaded;
+      }
+    }
+    catch (IOException | RuntimeException ex) {
+      // retain the previous value and try again after the next interval
+      LOGGER.warning("error reloading " + path + ": " + ex);
+    }
+  }
+
+  private Snapshot<T> load() throws IOException {
+    final FileTime modified = Files.getLastModifiedTime(path);
+    final long size = Files.size(path);
+    return new Snapshot<>(loader.load(path), modified, size);
+  }
+
+  private static ScheduledThreadPoolExecutor newScheduler() {
+    final ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(1, runnable -> {
+          final Thread thread = new Thread(runnable, "reloadable-file");
+          thread.setDaemon(true);
+          return thread;
+        });
+    scheduler.setRemoveOnCancelPolicy(true);
+    scheduler.setKeepAliveTime(1, TimeUnit.MINUTES);
+    scheduler.allowCoreThreadTimeOut(true);
+    return scheduler;
+  }
+
+  /**
+   * A task that reloads a file, holding only a weak reference to it so
+   * that an instance that is no longer referenced can be collected.
+   */
+  private static class ReloadTask implements Runnable {
+
+    private final WeakReference<ReloadableFile<?>> file;
+
+    private volatile ScheduledFuture<?> future;
+
+    private ReloadTask(ReloadableFile<?> file) {
+      this.file = new WeakReference<>(file);
+    }
+
+    static ScheduledFuture<?> schedule(ReloadableFile<?> file,
+        long interval) {
+      final ReloadTask task = new ReloadTask(file);
+      task.future = SCHEDULER.scheduleWithFixedDelay(task, interval,
+          interval, TimeUnit.MILLISECONDS);
+      return task.future;
+    }
+
+    @Override
+    public void run() {
+      final ReloadableFile<?> file = this.file.get();
+      if (file != null) {
+        file.reloadIfModified();
+      }
+      else if (future != null) {
+        future.cancel(false);
+      }
+    }
+
+  }
+
+  private static class Snapshot<T> {
+
+    final T value;
+    final FileTime modified;
+    final long size;
+
+    Snapshot(T value, FileTime modified, long size) {
+      this.value = value;
+      this.modified = modified;
+      this.size = size;
+    }
+
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Utility methods for reading line-oriented text files.
+ * <p>
+ * Files are read using UTF-8 encoding. Each line is trimmed of leading
+ * and trailing whitespace; lines that are empty or that start with a
+ * {@code #} character are ignored.
+ *
+ * @author Carl Harris
+ */
+public final class TextFileEntries {
+
+  private TextFileEntries() {}
+
+  /**
+   * Passes each entry in a text file to the given consumer.
+   * @param path path to the file
+   * @param consumer consumer for the (trimmed) entries
+   * @throws IOException if an error occurs in reading the file
+   */
+  public static void forEach(Path path, Consumer<String> consumer)
+      throws IOException {
+    try (final BufferedReader reader =
+        Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line = reader.readLine();
+      while (line != null) {
+        line = line.trim();
+        if (!line.isEmpty() && line.charAt(0) != '#') {
+          consumer.accept(line);
+        }
+        line = reader.readLine();
+      }
+    }
+  }
+
+}
@@ -23,11 +23,18 @@ import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 import javax.naming.ldap.Rdn;
 
+import org.soulwing.jwt.extension.spi.internal.BoundedCache;
 import org.soulwing.jwt.extension.spi.Transformer;
 
 /**
  * An {@link Transformer} that returns a
  * name component of a distinguished name value.
+ * <p>
+ * Names that use only the simple subset of the distinguished name syntax
+ * (no escapes, quoted values, multi-valued RDNs, or hex-encoded values) are
+ * handled by a single-pass scanner; all other names are parsed using
+ * {@link LdapName}. If the {@value #CACHE_SIZE} property is set, results
+ * are memoized in a bounded cache of the given size.
  *
  * @author Carl Harris
  */
@@ -36,10 +43,15 @@ public class DistinguishedToSimpleNameTransformer
 
   static final String NAME_COMPONENT = "name-component";
   static final String FAIL_ON_ERROR = "fail-on-error";
+  static final String CACHE_SIZE = "cache-size";
   static final String DEFAULT_NAME_COMPONENT = "cn";
-  
+
+  private static final String NOT_SIMPLE = new String("not simple");
+
   private String nameComponent;
   private boolean failOnError;
+  private int cacheSize;
+  private BoundedCache<String, String> cache;
 
   @Override
   public String getName() {
@@ -52,10 +64,32 @@ public class DistinguishedToSimpleNameTransformer
         DEFAULT_NAME_COMPONENT); 
     failOnError = Boolean.parseBoolean(properties.getProperty(FAIL_ON_ERROR, 
         Boolean.FALSE.toString()));
+    cacheSize = Integer.parseInt(properties.getProperty(CACHE_SIZE, "0"));
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException(CACHE_SIZE + " must not be negative");
+    }
+    cache = cacheSize > 0 ? new BoundedCache<>(cacheSize) : null;
   }
   
   @Override
   public String apply(String value) {
+    if (cache == null) return transform(value);
+    String result = cache.get(value);
+    if (result == null) {
+      result = transform(value);
+      cache.put(value, result);
+    }
+    return result;
+  }
+
+  private String transform(String value) {
+    final String simpleName = scan(value);
+    if (simpleName == NOT_SIMPLE) return parse(value);
+    if (simpleName != null) return simpleName;
+    return notFound(value);
+  }
+
+  private String parse(String value) {
     try {
       LdapName name = new LdapName(value);
       for (Rdn rdn : name.getRdns()) {
@@ -63,9 +97,7 @@ public class DistinguishedToSimpleNameTransformer
           return rdn.getValue().toString();
         }
       }
-      if (!failOnError) return value;
-      throw new IllegalArgumentException("does not contain a `"
-          + nameComponent + "` component: `" + value + "`");
+      return notFound(value);
     }
     catch (InvalidNameException ex) {
       if (!failOnError) return value;
@@ -74,13 +106,99 @@ public class DistinguishedToSimpleNameTransformer
     }
   }
 
+  private String notFound(String value) {
+    if (!failOnError) return value;
+    throw new IllegalArgumentException("does not contain a `"
+        + nameComponent + "` component: `" + value + "`");
+  }
+
+  /**
+   * Scans a distinguished name in a single pass, looking for the configured
+   * name component.
+   * <p>
+   * As with {@link LdapName#getRdns()}, when the component appears more than
+   * once, the rightmost occurrence is used.
+   *
+   * @param dn the name to scan
+   * @return value of the name component, {@code null} if the name does not
+   *    contain the component, or {@link #NOT_SIMPLE} if the name uses syntax
+   *    that the scanner does not handle
+   */
+  private String scan(String dn) {
+    final int length = dn.length();
+    if (length == 0) return NOT_SIMPLE;
+
+    int matchStart = -1;
+    int matchEnd = -1;
+    int start = 0;
+    while (true) {
+      int equals = -1;
+      int end = start;
+      while (end < length) {
+        final char c = dn.charAt(end);
+        if (c == ',') break;
+        if (c == '=') {
+          if (equals != -1) return NOT_SIMPLE;
+          equals = end;
+        }
+        else if (c == '\\' || c == '"' || c == '+' || c == ';'
+            || c == '#' || c == '<' || c == '>') {
+          return NOT_SIMPLE;
+        }
+        end++;
+      }
+      if (equals == -1) return NOT_SIMPLE;
+
+      final int typeStart = skipSpaces(dn, start, equals);
+      final int typeEnd = trimSpaces(dn, typeStart, equals);
+      final int valueStart = skipSpaces(dn, equals + 1, end);
+      final int valueEnd = trimSpaces(dn, valueStart, end);
+      if (typeStart == typeEnd || valueStart == valueEnd) return NOT_SIMPLE;
+      if (!isAttributeType(dn, typeStart, typeEnd)) return NOT_SIMPLE;
+
+      if (typeEnd - typeStart == nameComponent.length()
+          && dn.regionMatches(true, typeStart, nameComponent, 0,
+              nameComponent.length())) {
+        matchStart = valueStart;
+        matchEnd = valueEnd;
+      }
+
+      if (end == length) break;
+      start = end + 1;
+    }
+
+    return matchStart != -1 ? dn.substring(matchStart, matchEnd) : null;
+  }
+
+  private static int skipSpaces(String s, int start, int end) {
+    while (start < end && s.charAt(start) == ' ') start++;
+    return start;
+  }
+
+  private static int trimSpaces(String s, int start, int end) {
+    while (end > start && s.charAt(end - 1) == ' ') end--;
+    return end;
+  }
+
+  private static boolean isAttributeType(String s, int start, int end) {
+    for (int i = start; i < end; i++) {
+      final char c = s.charAt(i);
+      if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+          || c >= '0' && c <= '9' || c == '-' || c == '.')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public String toString() {
-    return String.format("%s(%s=%s, %s=%s)",
+    return String.format("%s(%s=%s, %s=%s, %s=%d)",
         getClass().getSimpleName().replaceFirst(
             Transformer.class.getSimpleName() + "$", ""),
             NAME_COMPONENT, nameComponent,
-            FAIL_ON_ERROR, failOnError);
+            FAIL_ON_ERROR, failOnError,
+            CACHE_SIZE, cacheSize);
   }
 
 }
@@ -0,0 +1,106 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.soulwing.jwt.extension.spi.Transformer;
+import org.soulwing.jwt.extension.spi.local.file.ReloadableFile;
+
+/**
+ * An {@link Transformer} that maps a value using a
+ * table loaded from a file.
+ * <p>
+ * The file given by the {@value #PATH} property contains entries of the
+ * form {@code source = target}, one per line; a source that ends with
+ * {@code *} matches any value with the given prefix (see
+ * {@link MappingTable}). A value that matches no entry is replaced by the
+ * {@value #DEFAULT_VALUE} property if it is set, and is otherwise returned
+ * unchanged.
+ * <p>
+ * The table is reloaded in the background when the file changes, so that
+ * a lookup never waits for a reload; the file is checked for changes at
+ * the interval (in seconds) given by {@value #RELOAD_INTERVAL}, and a
+ * value of zero disables reloading. To change the table, write a new file
+ * and rename it over the old one (see {@link ReloadableFile}).
+ *
+ * @author Carl Harris
+ */
+public class MapValueTransformer
+    implements Transformer<String, String> {
+
+  static final String PATH = "path";
+  static final String DEFAULT_VALUE = "default-value";
+  static final String RELOAD_INTERVAL = "reload-interval";
+
+  static final long DEFAULT_RELOAD_INTERVAL = 60;
+
+  private Path path;
+  private String defaultValue;
+  private ReloadableFile<MappingTable> table;
+
+  @Override
+  public String getName() {
+    return "MapValue";
+  }
+
+  @Override
+  public void initialize(Properties properties) {
+    path = Optional.ofNullable(properties.getProperty(PATH))
+        .map(Paths::get).orElseThrow(() -> new IllegalArgumentException(
+            "`" + PATH + "` property is required"));
+    defaultValue = properties.getProperty(DEFAULT_VALUE);
+    final long reloadInterval = Long.parseLong(properties.getProperty(
+        RELOAD_INTERVAL, Long.toString(DEFAULT_RELOAD_INTERVAL)));
+    if (reloadInterval < 0) {
+      throw new IllegalArgumentException(
+          "`" + RELOAD_INTERVAL + "` must not be negative");
+    }
+    try {
+      table = new ReloadableFile<>(path, Duration.ofSeconds(reloadInterval),
+          MappingTable::load);
+    }
+    catch (IOException ex) {
+      throw new IllegalArgumentException("cannot load " + path + ": "
+          + ex.getMessage(), ex);
+    }
+  }
+
+  @Override
+  public String apply(String value) {
+    final String target = table.get().get(value);
+    if (target != null) return target;
+    return defaultValue != null ? defaultValue : value;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(%s=%s, %s=%s)",
+        getClass().getSimpleName().replaceFirst(
+            Transformer.class.getSimpleName() + "$", ""),
+            PATH, path,
+            DEFAULT_VALUE, defaultValue);
+  }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.soulwing.jwt.extension.spi.local.file.TextFileEntries;
+
+/**
+ * An immutable table that maps values using exact and prefix entries.
+ * <p>
+ * In the text form of a table, each entry has the form
+ * {@code source = target}. A source that ends with {@code *} is a prefix
+ * entry, which matches any value that starts with the text before the
+ * {@code *}. Exact entries take precedence over prefix entries, and when
+ * more than one prefix entry matches a value, the longest prefix is used.
+ * <p>
+ * Exact entries are held in a hash map. Prefix entries are held in a trie
+ * whose nodes store their children in sorted arrays, so the cost of a
+ * lookup depends on the length of the value, not on the number of entries.
+ *
+ * @author Carl Harris
+ */
+class MappingTable {
+
+  static final char PREFIX_WILDCARD = '*';
+
+  private final Map<String, String> exact;
+  private final Node prefixes;
+
+  private MappingTable(Map<String, String> exact, Node prefixes) {
+    this.exact = exact;
+    this.prefixes = prefixes;
+  }
+
+  /**
+   * Loads a table from a text file.
+   * @param path path to the file
+   * @return table
+   * @throws IOException if an error occurs in reading the file, or if the
+   *    file contains an invalid entry
+   * @see TextFileEntries
+   */
+  static MappingTable load(Path path) throws IOException {
+    final Builder builder = new Builder();
+    try {
+      TextFileEntries.forEach(path, builder::add);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new IOException(path + ": " + ex.getMessage(), ex);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a table from the given entries.
+   * @param entries entries of the form {@code source = target}
+   * @return table
+   * @throws IllegalArgumentException if an entry is invalid
+   */
+  static MappingTable of(String... entries) {
+    final Builder builder = new Builder();
+    Arrays.stream(entries).forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Gets the target for a value.
+   * @param value the value to map
+   * @return target of the exact entry for {@code value} if there is one,
+   *    otherwise the target of the longest matching prefix entry, or
+   *    {@code null} if no entry matches
+   */
+  String get(String value) {
+    final String target = exact.get(value);
+    if (target != null || prefixes == null) return target;
+    return prefixes.longestPrefix(value);
+  }
+
+  private static class Node {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private char[] keys = NO_KEYS;
+    private Node[] children = NO_CHILDREN;
+    private String target;
+
+    Node child(char c) {
+      final int i = Arrays.binarySearch(keys, c);
+      return i >= 0 ? children[i] : null;
+    }
+
+    Node addChild(char c) {
+      int i = Arrays.binarySearch(keys, c);
+      if (i >= 0) return children[i];
+      i = -(i + 1);
+      final Node child = new Node();
+      final char[] keys = new char[this.keys.length + 1];
+      final Node[] children = new Node[this.children.length + 1];
+      System.arraycopy(this.keys, 0, keys, 0, i);
+      System.arraycopy(this.children, 0, children, 0, i);
+      keys[i] = c;
+      children[i] = child;
+      System.arraycopy(this.keys, i, keys, i + 1, this.keys.length - i);
+      System.arraycopy(this.children, i, children, i + 1,
+          this.children.length - i);
+      this.keys = keys;
+      this.children = children;
+      return child;
+    }
+
+    String longestPrefix(String value) {
+      Node node = this;
+      String target = node.target;
+      final int length = value.length();
+      for (int i = 0; i < length && node.keys.length > 0; i++) {
+        node = node.child(value.charAt(i));
+        if (node == null) break;
+        if (node.target != null) {
+          target = node.target;
+        }
+      }
+      return target;
+    }
+
+  }
+
+  private static class Builder {
+
+    private final Map<String, String> exact = new HashMap<>();
+    private Node prefixes;
+
+    void add(String entry) {
+      final int separator = entry.indexOf('=');
+      if (separator == -1) {
+        throw new IllegalArgumentException("entry `" + entry
+            + "` is not of the form `source = target`");
+      }
+      final String source = entry.substring(0, separator).trim();
+      final String target = entry.substring(separator + 1).trim();
+      if (source.isEmpty()) {
+        throw new IllegalArgumentException("entry `" + entry
+            + "` has an empty source");
+      }
+      if (source.charAt(source.length() - 1) == PREFIX_WILDCARD) {
+        if (prefixes == null) {
+          prefixes = new Node();
+        }
+        Node node = prefixes;
+        for (int i = 0; i < source.length() - 1; i++) {
+          node = node.addChild(source.charAt(i));
+        }
+        node.target = target;
+      }
+      else {
+        exact.put(source, target);
+      }
+    }
+
+    MappingTable build() {
+      return new MappingTable(exact, prefixes);
+    }
+
+  }
+
+}
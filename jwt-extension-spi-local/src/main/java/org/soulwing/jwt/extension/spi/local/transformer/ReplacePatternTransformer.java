@@ -19,12 +19,19 @@
 package org.soulwing.jwt.extension.spi.local.transformer;
 
 import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.soulwing.jwt.extension.spi.Transformer;
 
 /**
  * An {@link Transformer} that performs a
  * replacement using a regular expression pattern.
+ * <p>
+ * The pattern is compiled once when the transformer is initialized. When
+ * neither the pattern nor the replacement contains any characters that have
+ * special meaning, replacement is performed using a simple substring search
+ * instead of a regular expression matcher.
  *
  * @author Carl Harris
  */
@@ -34,10 +41,16 @@ public class ReplacePatternTransformer
   static final String PATTERN = "pattern";
   static final String REPLACEMENT = "replacement";
   static final String REPLACE_ALL = "replace-all";
-  
+
+  private static final String PATTERN_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private static final String REPLACEMENT_METACHARACTERS = "\\$";
+
   private String pattern;
   private String replacement;
   private boolean replaceAll;
+  private Pattern compiledPattern;
+  private boolean literal;
 
   @Override
   public String getName() {
@@ -54,14 +67,47 @@ public class ReplacePatternTransformer
     if (pattern == null) {
       throw new IllegalArgumentException("pattern is required");
     }
+
+    compiledPattern = Pattern.compile(pattern);
+    literal = !pattern.isEmpty()
+        && !containsAny(pattern, PATTERN_METACHARACTERS)
+        && !containsAny(replacement, REPLACEMENT_METACHARACTERS);
+  }
+
+  private static boolean containsAny(String s, String chars) {
+    for (int i = 0; i < s.length(); i++) {
+      if (chars.indexOf(s.charAt(i)) != -1) return true;
+    }
+    return false;
   }
 
   @Override
   public String apply(String value) {
+    if (literal) {
+      return replaceLiteral(value);
+    }
+    final Matcher matcher = compiledPattern.matcher(value);
     if (replaceAll) {
-      return value.replaceAll(pattern, replacement);
+      return matcher.replaceAll(replacement);
+    }
+    return matcher.replaceFirst(replacement);
+  }
+
+  private String replaceLiteral(String value) {
+    int index = value.indexOf(pattern);
+    if (index == -1) return value;
+
+    final StringBuilder sb = new StringBuilder(value.length()
+        + Math.max(0, replacement.length() - pattern.length()));
+    int start = 0;
+    do {
+      sb.append(value, start, index).append(replacement);
+      start = index + pattern.length();
+      index = replaceAll ? value.indexOf(pattern, start) : -1;
     }
-    return value.replaceFirst(pattern, replacement);
+    while (index != -1);
+
+    return sb.append(value, start, value.length()).toString();
   }
 
   @Override
@@ -0,0 +1,149 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ExpressionCompiler}.
+ *
+ * @author Carl Harris
+ */
+public class ExpressionCompilerTest {
+
+  private final Map<String, Object> claims = new HashMap<>();
+
+  @Before
+  public void setUp() throws Exception {
+    claims.put("sub", "jdoe");
+    claims.put("aud", Arrays.asList("svc", "other"));
+    claims.put("uid", 1042);
+    claims.put("score", 0.75);
+    claims.put("admin", false);
+    claims.put("grp", new String[] { "staff", "research.lab" });
+  }
+
+  @Test
+  public void testExample() throws Exception {
+    assertThat(evaluate(
+        "aud contains 'svc' && uid > 1000 && grp any-startswith 'research.'"),
+        is(true));
+  }
+
+  @Test
+  public void testPresent() throws Exception {
+    assertThat(evaluate("sub"), is(true));
+    assertThat(evaluate("admin"), is(false));
+    assertThat(evaluate("missing"), is(false));
+  }
+
+  @Test
+  public void testEquality() throws Exception {
+    assertThat(evaluate("sub == 'jdoe'"), is(true));
+    assertThat(evaluate("sub == \"jdoe\""), is(true));
+    assertThat(evaluate("sub != 'jdoe'"), is(false));
+    assertThat(evaluate("uid == 1042"), is(true));
+    assertThat(evaluate("uid == 1042.0"), is(true));
+    assertThat(evaluate("admin == false"), is(true));
+    assertThat(evaluate("missing != 'x'"), is(true));
+  }
+
+  @Test
+  public void testRelations() throws Exception {
+    assertThat(evaluate("uid < 1043"), is(true));
+    assertThat(evaluate("uid <= 1042"), is(true));
+    assertThat(evaluate("uid > 1042"), is(false));
+    assertThat(evaluate("uid >= -1"), is(true));
+    assertThat(evaluate("score > 0.5"), is(true));
+    assertThat(evaluate("sub > 0"), is(false));
+  }
+
+  @Test
+  public void testContains() throws Exception {
+    assertThat(evaluate("aud contains 'other'"), is(true));
+    assertThat(evaluate("aud contains 'none'"), is(false));
+    assertThat(evaluate("sub contains 'jdoe'"), is(true));
+    assertThat(evaluate("grp contains 'staff'"), is(true));
+  }
+
+  @Test
+  public void testStringOperators() throws Exception {
+    assertThat(evaluate("sub startswith 'jd'"), is(true));
+    assertThat(evaluate("sub endswith 'oe'"), is(true));
+    assertThat(evaluate("sub matches '[a-z]+'"), is(true));
+    assertThat(evaluate("grp startswith 'staff'"), is(false));
+    assertThat(evaluate("grp any-endswith '.lab'"), is(true));
+    assertThat(evaluate("aud any-matches 'o.*'"), is(true));
+  }
+
+  @Test
+  public void testLogicalOperators() throws Exception {
+    assertThat(evaluate("!admin && (sub == 'x' || uid > 0)"), is(true));
+    assertThat(evaluate("sub == 'x' || sub == 'y' || sub == 'jdoe'"),
+        is(true));
+    assertThat(evaluate("!(uid > 0)"), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownOperator() throws Exception {
+    evaluate("sub like 'j%'");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRelationWithString() throws Exception {
+    evaluate("uid > 'x'");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnbalancedParentheses() throws Exception {
+    evaluate("(sub == 'x'");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnterminatedString() throws Exception {
+    evaluate("sub == 'x");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTrailingInput() throws Exception {
+    evaluate("sub == 'x' )");
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void testInvalidPattern() throws Exception {
+    evaluate("sub matches '('");
+  }
+
+  private boolean evaluate(String expression) {
+    final Predicate<Map<String, Object>> predicate =
+        ExpressionCompiler.compile(expression, Map::get);
+    return predicate.test(claims);
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MembershipAssertion}.
+ *
+ * @author Carl Harris
+ */
+public class MembershipAssertionTest {
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    path = Files.createTempFile("membership", ".txt");
+    Files.write(path, Arrays.asList("alice", "bob"), StandardCharsets.UTF_8);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testAllowMode() throws Exception {
+    final MembershipAssertion assertion = assertion(null);
+    assertThat(assertion.isSatisfiedBy("alice"), is(true));
+    assertThat(assertion.isSatisfiedBy("carol"), is(false));
+    assertThat(assertion.isSatisfiedBy(null), is(false));
+  }
+
+  @Test
+  public void testDenyMode() throws Exception {
+    final MembershipAssertion assertion = assertion("deny");
+    assertThat(assertion.isSatisfiedBy("alice"), is(false));
+    assertThat(assertion.isSatisfiedBy("carol"), is(true));
+    assertThat(assertion.isSatisfiedBy(null), is(true));
+  }
+
+  @Test
+  public void testWithArrayValue() throws Exception {
+    final MembershipAssertion assertion = assertion(null);
+    assertThat(assertion.isSatisfiedBy(Arrays.asList("carol", "bob")),
+        is(true));
+    assertThat(assertion.isSatisfiedBy(new String[] { "carol" }), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithoutPath() throws Exception {
+    new MembershipAssertion().initialize(new Properties());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithMissingFile() throws Exception {
+    Files.delete(path);
+    assertion(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithInvalidMode() throws Exception {
+    assertion("maybe");
+  }
+
+  private MembershipAssertion assertion(String mode) {
+    final Properties properties = new Properties();
+    properties.setProperty(MembershipAssertion.PATH, path.toString());
+    if (mode != null) {
+      properties.setProperty(MembershipAssertion.MODE, mode);
+    }
+    final MembershipAssertion assertion = new MembershipAssertion();
+    assertion.initialize(properties);
+    return assertion;
+  }
+
+}
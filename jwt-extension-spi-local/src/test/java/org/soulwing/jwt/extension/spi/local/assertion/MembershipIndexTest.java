@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.assertion;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MembershipIndex}.
+ *
+ * @author Carl Harris
+ */
+public class MembershipIndexTest {
+
+  private static final String MULTI_BYTE = "caf\u00e9-\u4e2d";
+  private static final String SUPPLEMENTARY = "smile-\ud83d\ude00";
+
+  @Test
+  public void testContains() throws Exception {
+    final MembershipIndex index = MembershipIndex.of(
+        Arrays.asList("alice", "bob", MULTI_BYTE, SUPPLEMENTARY));
+    assertThat(index.size(), is(equalTo(4)));
+    assertThat(index.contains("alice"), is(true));
+    assertThat(index.contains("bob"), is(true));
+    assertThat(index.contains(MULTI_BYTE), is(true));
+    assertThat(index.contains(SUPPLEMENTARY), is(true));
+    assertThat(index.contains("carol"), is(false));
+    assertThat(index.contains("alic"), is(false));
+    assertThat(index.contains("alicex"), is(false));
+    assertThat(index.contains("caf\u00e9"), is(false));
+    assertThat(index.contains(""), is(false));
+  }
+
+  @Test
+  public void testWithDuplicates() throws Exception {
+    final MembershipIndex index = MembershipIndex.of(
+        Arrays.asList("alice", "bob", "alice"));
+    assertThat(index.size(), is(equalTo(2)));
+    assertThat(index.contains("alice"), is(true));
+  }
+
+  @Test
+  public void testWhenEmpty() throws Exception {
+    final MembershipIndex index = MembershipIndex.of(Collections.emptyList());
+    assertThat(index.size(), is(equalTo(0)));
+    assertThat(index.contains("alice"), is(false));
+  }
+
+  @Test
+  public void testWithManyKeys() throws Exception {
+    final String[] keys = new String[10000];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "user" + i;
+    }
+    final MembershipIndex index = MembershipIndex.of(Arrays.asList(keys));
+    assertThat(index.size(), is(equalTo(keys.length)));
+    for (final String key : keys) {
+      assertThat(index.contains(key), is(true));
+    }
+    assertThat(index.contains("user" + keys.length), is(false));
+  }
+
+  @Test
+  public void testLoad() throws Exception {
+    final Path path = Files.createTempFile("membership", ".txt");
+    try {
+      Files.write(path, Arrays.asList("# users", "  alice  ", "", MULTI_BYTE),
+          StandardCharsets.UTF_8);
+      final MembershipIndex index = MembershipIndex.load(path);
+      assertThat(index.size(), is(equalTo(2)));
+      assertThat(index.contains("alice"), is(true));
+      assertThat(index.contains(MULTI_BYTE), is(true));
+      assertThat(index.contains("# users"), is(false));
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.file;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReloadableFile}.
+ * <p>
+ * The check interval used here is long enough that the background task
+ * never runs during a test; each test performs the check itself.
+ *
+ * @author Carl Harris
+ */
+public class ReloadableFileTest {
+
+  private static final Duration INTERVAL = Duration.ofHours(1);
+
+  private Path path;
+
+  private ReloadableFile<String> file;
+
+  @Before
+  public void setUp() throws Exception {
+    path = Files.createTempFile("reloadable", ".txt");
+    write("first", 1000);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (file != null) {
+      file.close();
+    }
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testReloadWhenModified() throws Exception {
+    file = reloadableFile(INTERVAL);
+    assertThat(file.get(), is(equalTo("first")));
+
+    write("second", 2000);
+    assertThat(file.get(), is(equalTo("first")));
+
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("second")));
+  }
+
+  @Test
+  public void testNoReloadWhenNotModified() throws Exception {
+    final int[] loads = new int[1];
+    file = new ReloadableFile<>(path, INTERVAL,
+        p -> { loads[0]++; return read(p); });
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("first")));
+    assertThat(loads[0], is(equalTo(1)));
+  }
+
+  @Test
+  public void testNoReloadWhenModifiedWhileLoading() throws Exception {
+    final int[] loads = new int[1];
+    file = new ReloadableFile<>(path, INTERVAL, p -> {
+      final String content = read(p);
+      if (loads[0]++ == 1) {
+        write("third", 3000);
+      }
+      return content;
+    });
+    write("second", 2000);
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("first")));
+
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("third")));
+  }
+
+  @Test
+  public void testRetainsValueWhenFileRemoved() throws Exception {
+    file = reloadableFile(INTERVAL);
+    Files.delete(path);
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("first")));
+  }
+
+  @Test
+  public void testRetainsValueWhenLoaderFails() throws Exception {
+    final int[] loads = new int[1];
+    file = new ReloadableFile<>(path, INTERVAL, p -> {
+      if (loads[0]++ > 0) throw new IllegalArgumentException();
+      return read(p);
+    });
+    write("second", 2000);
+    file.reloadIfModified();
+    assertThat(file.get(), is(equalTo("first")));
+  }
+
+  @Test
+  public void testNoReloadWhenIntervalIsZero() throws Exception {
+    file = reloadableFile(Duration.ZERO);
+    assertThat(file.isReloading(), is(false));
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    file = reloadableFile(INTERVAL);
+    assertThat(file.isReloading(), is(true));
+    file.close();
+    assertThat(file.isReloading(), is(false));
+  }
+
+  private ReloadableFile<String> reloadableFile(Duration interval)
+      throws Exception {
+    return new ReloadableFile<>(path, interval, ReloadableFileTest::read);
+  }
+
+  private void write(String content, long modified) throws IOException {
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(path, FileTime.fromMillis(modified));
+  }
+
+  private static String read(Path path) throws IOException {
+    return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+  }
+
+}
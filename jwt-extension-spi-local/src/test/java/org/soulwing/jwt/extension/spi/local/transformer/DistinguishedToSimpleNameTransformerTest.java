@@ -0,0 +1,126 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DistinguishedToSimpleNameTransformer}.
+ *
+ * @author Carl Harris
+ */
+public class DistinguishedToSimpleNameTransformerTest {
+
+  @Test
+  public void testSimpleName() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("cn=alice,ou=people,dc=x"),
+        is(equalTo("alice")));
+  }
+
+  @Test
+  public void testSimpleNameWithSpaces() throws Exception {
+    assertThat(transformer("ou", false, 0).apply("cn=alice , OU = people"),
+        is(equalTo("people")));
+  }
+
+  @Test
+  public void testRightmostComponentIsUsed() throws Exception {
+    assertThat(transformer("ou", false, 0).apply("ou=a,cn=b,ou=c"),
+        is(equalTo("c")));
+  }
+
+  @Test
+  public void testEscapedName() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("cn=Smith\\, John,ou=x"),
+        is(equalTo("Smith, John")));
+  }
+
+  @Test
+  public void testQuotedName() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("cn=\"Smith, John\",ou=x"),
+        is(equalTo("Smith, John")));
+  }
+
+  @Test
+  public void testMultiValuedName() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("uid=jdoe+cn=John,ou=x"),
+        is(equalTo("John")));
+  }
+
+  @Test
+  public void testComponentNotFound() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("uid=jdoe,ou=x"),
+        is(equalTo("uid=jdoe,ou=x")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testComponentNotFoundWhenFailOnError() throws Exception {
+    transformer("cn", true, 0).apply("uid=jdoe,ou=x");
+  }
+
+  @Test
+  public void testInvalidName() throws Exception {
+    assertThat(transformer("cn", false, 0).apply("jdoe"),
+        is(equalTo("jdoe")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidNameWhenFailOnError() throws Exception {
+    transformer("cn", true, 0).apply("jdoe");
+  }
+
+  @Test
+  public void testCachedResult() throws Exception {
+    final DistinguishedToSimpleNameTransformer transformer =
+        transformer("cn", false, 2);
+    final String result = transformer.apply("cn=alice,ou=x");
+    assertThat(transformer.apply("cn=alice,ou=x"), is(sameInstance(result)));
+    assertThat(transformer.apply("cn=bob,ou=x"), is(equalTo("bob")));
+    assertThat(transformer.apply("cn=carol,ou=x"), is(equalTo("carol")));
+    assertThat(transformer.apply("cn=alice,ou=x"), is(equalTo("alice")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInitializeWithNegativeCacheSize() throws Exception {
+    transformer("cn", false, -1);
+  }
+
+  private static DistinguishedToSimpleNameTransformer transformer(
+      String nameComponent, boolean failOnError, int cacheSize) {
+    final Properties properties = new Properties();
+    properties.setProperty(DistinguishedToSimpleNameTransformer.NAME_COMPONENT,
+        nameComponent);
+    properties.setProperty(DistinguishedToSimpleNameTransformer.FAIL_ON_ERROR,
+        Boolean.toString(failOnError));
+    properties.setProperty(DistinguishedToSimpleNameTransformer.CACHE_SIZE,
+        Integer.toString(cacheSize));
+    final DistinguishedToSimpleNameTransformer transformer =
+        new DistinguishedToSimpleNameTransformer();
+    transformer.initialize(properties);
+    return transformer;
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MapValueTransformer}.
+ *
+ * @author Carl Harris
+ */
+public class MapValueTransformerTest {
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    path = Files.createTempFile("mapping", ".txt");
+    Files.write(path, Arrays.asList("staff = user", "research.* = researcher"),
+        StandardCharsets.UTF_8);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testMappedValues() throws Exception {
+    final MapValueTransformer transformer = transformer(null);
+    assertThat(transformer.apply("staff"), is(equalTo("user")));
+    assertThat(transformer.apply("research.math"), is(equalTo("researcher")));
+  }
+
+  @Test
+  public void testUnmappedValue() throws Exception {
+    assertThat(transformer(null).apply("other"), is(equalTo("other")));
+  }
+
+  @Test
+  public void testUnmappedValueWithDefault() throws Exception {
+    assertThat(transformer("none").apply("other"), is(equalTo("none")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithoutPath() throws Exception {
+    new MapValueTransformer().initialize(new Properties());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithInvalidFile() throws Exception {
+    Files.write(path, Arrays.asList("staff"), StandardCharsets.UTF_8);
+    transformer(null);
+  }
+
+  private MapValueTransformer transformer(String defaultValue) {
+    final Properties properties = new Properties();
+    properties.setProperty(MapValueTransformer.PATH, path.toString());
+    if (defaultValue != null) {
+      properties.setProperty(MapValueTransformer.DEFAULT_VALUE, defaultValue);
+    }
+    final MapValueTransformer transformer = new MapValueTransformer();
+    transformer.initialize(properties);
+    return transformer;
+  }
+
+}
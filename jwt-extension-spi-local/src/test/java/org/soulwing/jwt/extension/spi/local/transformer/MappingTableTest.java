@@ -0,0 +1,111 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MappingTable}.
+ *
+ * @author Carl Harris
+ */
+public class MappingTableTest {
+
+  @Test
+  public void testExactMatch() throws Exception {
+    final MappingTable table = MappingTable.of("staff = user",
+        "admins=admin");
+    assertThat(table.get("staff"), is(equalTo("user")));
+    assertThat(table.get("admins"), is(equalTo("admin")));
+    assertThat(table.get("staf"), is(nullValue()));
+    assertThat(table.get("staff2"), is(nullValue()));
+  }
+
+  @Test
+  public void testLongestPrefixMatch() throws Exception {
+    final MappingTable table = MappingTable.of(
+        "research.* = researcher",
+        "research.lab.* = lab-member",
+        "research.lab.admins = lab-admin");
+    assertThat(table.get("research.math"), is(equalTo("researcher")));
+    assertThat(table.get("research.lab.chem"), is(equalTo("lab-member")));
+    assertThat(table.get("research.lab."), is(equalTo("lab-member")));
+    assertThat(table.get("research.lab"), is(equalTo("researcher")));
+    assertThat(table.get("research.lab.admins"), is(equalTo("lab-admin")));
+    assertThat(table.get("research"), is(nullValue()));
+    assertThat(table.get("other"), is(nullValue()));
+  }
+
+  @Test
+  public void testEmptyPrefixMatchesAll() throws Exception {
+    final MappingTable table = MappingTable.of("* = other", "staff = user");
+    assertThat(table.get("staff"), is(equalTo("user")));
+    assertThat(table.get("anything"), is(equalTo("other")));
+    assertThat(table.get(""), is(equalTo("other")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEntryWithoutSeparator() throws Exception {
+    MappingTable.of("staff");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEntryWithEmptySource() throws Exception {
+    MappingTable.of(" = user");
+  }
+
+  @Test
+  public void testLoad() throws Exception {
+    final Path path = Files.createTempFile("mapping", ".txt");
+    try {
+      Files.write(path, Arrays.asList("# groups", "staff = user", "",
+          "research.* = researcher"), StandardCharsets.UTF_8);
+      final MappingTable table = MappingTable.load(path);
+      assertThat(table.get("staff"), is(equalTo("user")));
+      assertThat(table.get("research.math"), is(equalTo("researcher")));
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testLoadWithInvalidEntry() throws Exception {
+    final Path path = Files.createTempFile("mapping", ".txt");
+    try {
+      Files.write(path, Arrays.asList("staff"), StandardCharsets.UTF_8);
+      MappingTable.load(path);
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+
+}
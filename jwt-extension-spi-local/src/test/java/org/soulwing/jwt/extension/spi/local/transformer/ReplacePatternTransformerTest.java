@@ -0,0 +1,96 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.local.transformer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Properties;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReplacePatternTransformer}.
+ *
+ * @author Carl Harris
+ */
+public class ReplacePatternTransformerTest {
+
+  @Test
+  public void testReplaceFirstLiteral() throws Exception {
+    assertThat(transformer("-", "_", false).apply("a-b-c"),
+        is(equalTo("a_b-c")));
+  }
+
+  @Test
+  public void testReplaceAllLiteral() throws Exception {
+    assertThat(transformer("-", "__", true).apply("a-b-c"),
+        is(equalTo("a__b__c")));
+  }
+
+  @Test
+  public void testReplaceLiteralWhenNotFound() throws Exception {
+    assertThat(transformer("x", "y", true).apply("abc"),
+        is(equalTo("abc")));
+  }
+
+  @Test
+  public void testReplaceFirstPattern() throws Exception {
+    assertThat(transformer("[0-9]+", "#", false).apply("a12b34"),
+        is(equalTo("a#b34")));
+  }
+
+  @Test
+  public void testReplaceAllPattern() throws Exception {
+    assertThat(transformer("[0-9]+", "#", true).apply("a12b34"),
+        is(equalTo("a#b#")));
+  }
+
+  @Test
+  public void testReplaceWithGroupReference() throws Exception {
+    assertThat(transformer("b", "[$0]", true).apply("abcb"),
+        is(equalTo("a[b]c[b]")));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void testInitializeWithInvalidPattern() throws Exception {
+    transformer("(", "", false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInitializeWithoutPattern() throws Exception {
+    new ReplacePatternTransformer().initialize(new Properties());
+  }
+
+  private static ReplacePatternTransformer transformer(String pattern,
+      String replacement, boolean replaceAll) {
+    final Properties properties = new Properties();
+    properties.setProperty(ReplacePatternTransformer.PATTERN, pattern);
+    properties.setProperty(ReplacePatternTransformer.REPLACEMENT, replacement);
+    properties.setProperty(ReplacePatternTransformer.REPLACE_ALL,
+        Boolean.toString(replaceAll));
+    final ReplacePatternTransformer transformer =
+        new ReplacePatternTransformer();
+    transformer.initialize(properties);
+    return transformer;
+  }
+
+}
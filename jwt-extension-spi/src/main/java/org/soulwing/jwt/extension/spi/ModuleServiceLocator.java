@@ -19,13 +19,19 @@
 package org.soulwing.jwt.extension.spi;
 
 import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoadException;
 
 /**
  * A {@link ServiceLocator} implemented using JBoss Modules.
+ * <p>
+ * The providers of each service type in each module are indexed by name the
+ * first time the type is requested from the module, so that subsequent
+ * requests need not resolve the module or iterate its service loader. The
+ * cached index for a module is discarded by {@link #invalidate(String)}.
  *
  * @author Carl Harris
  */
@@ -33,6 +39,9 @@ public class ModuleServiceLocator implements ServiceLocator {
 
   public static final ModuleServiceLocator INSTANCE = new ModuleServiceLocator();
 
+  private final ConcurrentMap<String, ModuleProviders> registry =
+      new ConcurrentHashMap<>();
+
   private ModuleServiceLocator() {}
 
   @Override
@@ -40,31 +49,72 @@ public class ModuleServiceLocator implements ServiceLocator {
       Class<T> type, String provider, String module)
       throws ServiceLocatorException {
 
-    final ServiceLoader<T> serviceLoader = getLoader(type, module);
-    return StreamSupport.stream(
-        serviceLoader.spliterator(), false)
-        .filter(p -> p.getName().equals(provider))
-        .findFirst()
-        .orElseThrow(() -> new NoSuchServiceProviderException(type, provider));
+    // this is the caller module that getLoader sees when we invoke it
+    final Module serviceModule = Module.forClass(ModuleServiceLocator.class);
+    if (serviceModule == null) {
+      return ProviderIndex.of(type, ServiceLoader.load(type), "class path")
+          .newInstance(provider);
+    }
+
+    return registry.computeIfAbsent(moduleName(serviceModule, module),
+            name -> new ModuleProviders(getModule(serviceModule, module)))
+        .index(type)
+        .newInstance(provider);
   }
 
   public <T> ServiceLoader<T> getLoader(Class<T> type, String module)
       throws ServiceLocatorException {
 
-    try {
-      final Module serviceModule = Module.getCallerModule();
-      if (serviceModule == null) {
-        return ServiceLoader.load(type);
-      }
+    final Module serviceModule = Module.getCallerModule();
+    if (serviceModule == null) {
+      return ServiceLoader.load(type);
+    }
 
-      final Module providerModule = module != null ?
-          serviceModule.getModule(module) : serviceModule;
+    return getModule(serviceModule, module).loadService(type);
+  }
+
+  @Override
+  public void invalidate(String module) {
+    final Module serviceModule = Module.forClass(ModuleServiceLocator.class);
+    if (serviceModule == null) return;
+    registry.remove(moduleName(serviceModule, module));
+  }
+
+  private static String moduleName(Module serviceModule, String module) {
+    return module != null ? module : serviceModule.getName();
+  }
 
-      return providerModule.loadService(type);
+  private static Module getModule(Module serviceModule, String module)
+      throws ServiceLocatorException {
+    try {
+      return module != null ? serviceModule.getModule(module) : serviceModule;
     }
     catch (ModuleLoadException ex) {
       throw new ServiceLocatorException(ex.getMessage(), ex);
     }
   }
 
+  /**
+   * Provider indexes for the service types requested from a module.
+   */
+  private static class ModuleProviders {
+
+    private final ConcurrentMap<Class<?>, ProviderIndex<?>> indexes =
+        new ConcurrentHashMap<>();
+
+    private final Module module;
+
+    ModuleProviders(Module module) {
+      this.module = module;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends ServiceProvider> ProviderIndex<T> index(Class<T> type) {
+      return (ProviderIndex<T>) indexes.computeIfAbsent(type,
+          t -> ProviderIndex.of(type, module.loadService(type),
+              module.getName()));
+    }
+
+  }
+
 }
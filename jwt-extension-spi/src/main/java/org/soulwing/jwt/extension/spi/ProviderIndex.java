@@ -0,0 +1,103 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.logging.Level;
+
+/**
+ * An immutable index of the providers of a service type, keyed by provider
+ * name.
+ * <p>
+ * The index holds provider classes rather than provider instances, because
+ * a located provider is usually configured by its caller. Each call to
+ * {@link #newInstance(String)} produces a new provider instance.
+ *
+ * @author Carl Harris
+ */
+class ProviderIndex<T extends ServiceProvider> {
+
+  private final Class<T> type;
+  private final Map<String, Class<? extends T>> providers;
+
+  private ProviderIndex(Class<T> type,
+      Map<String, Class<? extends T>> providers) {
+    this.type = type;
+    this.providers = providers;
+  }
+
+  /**
+   * Creates an index of the given providers.
+   * <p>
+   * When more than one provider has the same name, the first one wins.
+   * A provider that cannot be loaded is logged and skipped.
+   * @param type service provider type
+   * @param providers providers to index (typically a service loader)
+   * @param source name of the module (or other source) of the providers,
+   *    used in log messages
+   * @param <T> service provider type
+   * @return provider index
+   */
+  static <T extends ServiceProvider> ProviderIndex<T> of(Class<T> type,
+      Iterable<? extends T> providers, String source) {
+    final Map<String, Class<? extends T>> index = new HashMap<>();
+    final Iterator<? extends T> i = providers.iterator();
+    while (i.hasNext()) {
+      try {
+        final T provider = i.next();
+        index.putIfAbsent(provider.getName(),
+            provider.getClass().asSubclass(type));
+      }
+      catch (ServiceConfigurationError ex) {
+        // a broken provider should not hide the others in the same module
+        SpiLogger.LOGGER.log(Level.WARNING, "ignoring " + type.getName()
+            + " provider in " + source + ": " + ex.getMessage(), ex);
+      }
+    }
+    return new ProviderIndex<>(type, Collections.unmodifiableMap(index));
+  }
+
+  /**
+   * Creates a new instance of the named provider.
+   * @param name provider name
+   * @return provider instance
+   * @throws NoSuchServiceProviderException if the index contains no provider
+   *    with the given name
+   * @throws ServiceLocatorException if the provider cannot be instantiated
+   */
+  T newInstance(String name)
+      throws NoSuchServiceProviderException, ServiceLocatorException {
+    final Class<? extends T> providerClass = providers.get(name);
+    if (providerClass == null) {
+      throw new NoSuchServiceProviderException(type, name);
+    }
+    try {
+      return providerClass.getConstructor().newInstance();
+    }
+    catch (ReflectiveOperationException ex) {
+      throw new ServiceLocatorException("cannot instantiate provider "
+          + providerClass.getName() + ": " + ex, ex);
+    }
+  }
+
+}
@@ -54,4 +54,20 @@ public interface ServiceLocator {
   <T> ServiceLoader<T> getLoader(Class<T> type, String module)
       throws ServiceLocatorException;
 
+  /**
+   * Discards any provider information this locator has cached for the
+   * specified module.
+   * <p>
+   * A service that locates providers in a module should invoke this method
+   * when it stops, so that an unloaded (or redeployed) module is not retained
+   * and is indexed afresh on the next call to {@link #locate}.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param module module name; {@code null} refers to the module that is
+   *    used when no module is specified in a call to {@link #locate}
+   */
+  default void invalidate(String module) {
+  }
+
 }
@@ -0,0 +1,36 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi;
+
+import java.util.logging.Logger;
+
+/**
+ * A static logger implementation for this package.
+ * <p>
+ * This module has no logging dependency of its own, so it uses the JDK
+ * logger, which the container routes to its log manager.
+ *
+ * @author Carl Harris
+ */
+class SpiLogger {
+
+  static final Logger LOGGER =
+      Logger.getLogger(SpiLogger.class.getPackage().getName());
+
+}
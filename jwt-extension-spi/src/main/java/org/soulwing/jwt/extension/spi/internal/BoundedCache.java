@@ -0,0 +1,144 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * A concurrent map with a maximum number of entries.
+ * <p>
+ * When the map is full, entries that satisfy the cache's expiration
+ * predicate (if any) are purged; if it is still too full, arbitrary entries
+ * are evicted. Eviction removes a batch of entries (one eighth of the
+ * capacity) at a time, so the scan of the map that it requires is amortized
+ * over many insertions. This is not an LRU; it is meant for caches whose
+ * entries are cheap to recompute and whose working set usually fits.
+ * <p>
+ * This class is shared by the extension's own modules; it is not part of
+ * the service provider interface.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Carl Harris
+ */
+public final class BoundedCache<K, V> {
+
+  private static final int EVICTION_BATCH_DIVISOR = 8;
+
+  private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+
+  private final int maxEntries;
+  private final int lowWater;
+  private final Predicate<? super V> expired;
+
+  /**
+   * Constructs a new cache whose entries do not expire.
+   * @param maxEntries maximum number of entries
+   */
+  public BoundedCache(int maxEntries) {
+    this(maxEntries, null);
+  }
+
+  /**
+   * Constructs a new cache.
+   * @param maxEntries maximum number of entries
+   * @param expired predicate that is satisfied by an expired value, or
+   *    {@code null} if values do not expire
+   */
+  public BoundedCache(int maxEntries, Predicate<? super V> expired) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("max entries must be at least 1");
+    }
+    this.maxEntries = maxEntries;
+    this.lowWater = maxEntries
+        - Math.max(1, maxEntries / EVICTION_BATCH_DIVISOR);
+    this.expired = expired;
+  }
+
+  /**
+   * Gets the cached value for a key.
+   * @param key the subject key
+   * @return value or {@code null} if there is no unexpired value for the
+   *    given key
+   */
+  public V get(K key) {
+    final V value = entries.get(key);
+    if (value != null && expired != null && expired.test(value)) {
+      entries.remove(key, value);
+      return null;
+    }
+    return value;
+  }
+
+  /**
+   * Puts a value into the cache, evicting other entries if the cache is
+   * full.
+   * @param key the subject key
+   * @param value the value to cache
+   */
+  public void put(K key, V value) {
+    if (entries.size() >= maxEntries) {
+      evict();
+    }
+    entries.put(key, value);
+  }
+
+  /**
+   * Replaces the value for a key only if it is currently mapped to the
+   * given value.
+   * @param key the subject key
+   * @param oldValue the expected value
+   * @param newValue the replacement value
+   * @return {@code true} if the value was replaced
+   */
+  public boolean replace(K key, V oldValue, V newValue) {
+    return entries.replace(key, oldValue, newValue);
+  }
+
+  /**
+   * Removes all entries from the cache.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Gets the number of entries in the cache.
+   * @return number of entries (including any that have expired but have
+   *    not yet been purged)
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private void evict() {
+    if (expired != null) {
+      entries.values().removeIf(expired);
+    }
+    final Iterator<K> i = entries.keySet().iterator();
+    while (entries.size() > lowWater && i.hasNext()) {
+      i.next();
+      i.remove();
+    }
+  }
+
+}
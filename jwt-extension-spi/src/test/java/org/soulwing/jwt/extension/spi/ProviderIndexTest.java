@@ -0,0 +1,122 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ProviderIndex}.
+ *
+ * @author Carl Harris
+ */
+public class ProviderIndexTest {
+
+  private static final String SOURCE = "test";
+
+  @Test
+  public void testNewInstance() throws Exception {
+    final ProviderIndex<MockServiceProvider> index =
+        ProviderIndex.of(MockServiceProvider.class,
+            Arrays.asList(new FirstProvider(), new SecondProvider()), SOURCE);
+
+    final MockServiceProvider first = index.newInstance(FirstProvider.NAME);
+    assertTrue(first instanceof FirstProvider);
+    assertNotSame(first, index.newInstance(FirstProvider.NAME));
+    assertTrue(index.newInstance(SecondProvider.NAME)
+        instanceof SecondProvider);
+  }
+
+  @Test
+  public void testFirstProviderWithNameWins() throws Exception {
+    final ProviderIndex<MockServiceProvider> index =
+        ProviderIndex.of(MockServiceProvider.class,
+            Arrays.asList(new FirstProvider(), new DuplicateProvider()), SOURCE);
+
+    assertTrue(index.newInstance(FirstProvider.NAME) instanceof FirstProvider);
+  }
+
+  @Test
+  public void testBrokenProviderIsSkipped() throws Exception {
+    final Iterator<MockServiceProvider> providers =
+        Arrays.<MockServiceProvider>asList(new FirstProvider()).iterator();
+    final ProviderIndex<MockServiceProvider> index =
+        ProviderIndex.of(MockServiceProvider.class, () ->
+            new Iterator<MockServiceProvider>() {
+              private boolean broken = true;
+
+              @Override
+              public boolean hasNext() {
+                return broken || providers.hasNext();
+              }
+
+              @Override
+              public MockServiceProvider next() {
+                if (broken) {
+                  broken = false;
+                  throw new ServiceConfigurationError("broken provider");
+                }
+                return providers.next();
+              }
+            }, SOURCE);
+
+    assertTrue(index.newInstance(FirstProvider.NAME) instanceof FirstProvider);
+  }
+
+  @Test(expected = NoSuchServiceProviderException.class)
+  public void testNewInstanceWhenNoSuchProvider() throws Exception {
+    ProviderIndex.of(MockServiceProvider.class,
+        Arrays.asList(new FirstProvider()), SOURCE)
+        .newInstance(SecondProvider.NAME);
+  }
+
+  interface MockServiceProvider extends ServiceProvider {}
+
+  public static class FirstProvider implements MockServiceProvider {
+    static final String NAME = "first";
+
+    @Override
+    public String getName() {
+      return NAME;
+    }
+  }
+
+  public static class SecondProvider implements MockServiceProvider {
+    static final String NAME = "second";
+
+    @Override
+    public String getName() {
+      return NAME;
+    }
+  }
+
+  public static class DuplicateProvider implements MockServiceProvider {
+    @Override
+    public String getName() {
+      return FirstProvider.NAME;
+    }
+  }
+
+}
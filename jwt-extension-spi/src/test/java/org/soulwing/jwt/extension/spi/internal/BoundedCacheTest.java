@@ -0,0 +1,97 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.spi.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedCache}.
+ *
+ * @author Carl Harris
+ */
+public class BoundedCacheTest {
+
+  @Test
+  public void testPutAndGet() throws Exception {
+    final BoundedCache<String, String> cache = new BoundedCache<>(2);
+    cache.put("a", "A");
+    assertEquals("A", cache.get("a"));
+    assertNull(cache.get("b"));
+  }
+
+  @Test
+  public void testGetWhenExpired() throws Exception {
+    final BoundedCache<String, String> cache =
+        new BoundedCache<>(2, "X"::equals);
+    cache.put("a", "X");
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testPutWhenFullPurgesExpired() throws Exception {
+    final BoundedCache<String, String> cache =
+        new BoundedCache<>(2, "X"::equals);
+    cache.put("a", "A");
+    cache.put("b", "X");
+    cache.put("c", "C");
+    assertEquals("A", cache.get("a"));
+    assertEquals("C", cache.get("c"));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testPutWhenFullEvicts() throws Exception {
+    final BoundedCache<String, String> cache = new BoundedCache<>(1);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    assertEquals("B", cache.get("b"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testPutWhenFullEvictsBatch() throws Exception {
+    final BoundedCache<Integer, String> cache = new BoundedCache<>(16);
+    for (int i = 0; i < 16; i++) {
+      cache.put(i, "V");
+    }
+    cache.put(16, "V");
+    assertEquals("V", cache.get(16));
+    assertEquals(15, cache.size());
+    cache.put(17, "V");
+    assertEquals(16, cache.size());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    final BoundedCache<String, String> cache = new BoundedCache<>(2);
+    cache.put("a", "A");
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenMaxEntriesLessThanOne() throws Exception {
+    new BoundedCache<String, String>(0);
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.audit;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.soulwing.jwt.extension.api.UserPrincipal;
+
+/**
+ * A preallocated slot in the ring buffer of an {@link AuditLog}.
+ * <p>
+ * A producer copies only references and primitive values into a slot;
+ * extracting claims, formatting addresses, and rendering JSON are left to
+ * the consumer thread.
+ *
+ * @author Carl Harris
+ */
+final class AuditEvent {
+
+  private static final String ISSUER_CLAIM = "iss";
+  private static final String ID_CLAIM = "jti";
+
+  AuditLog.Outcome outcome;
+  long timestamp;
+  UserPrincipal principal;
+  InetSocketAddress client;
+  String reason;
+  long latencyNanos;
+
+  void set(AuditLog.Outcome outcome, long timestamp, UserPrincipal principal,
+      InetSocketAddress client, String reason, long latencyNanos) {
+    this.outcome = outcome;
+    this.timestamp = timestamp;
+    this.principal = principal;
+    this.client = client;
+    this.reason = reason;
+    this.latencyNanos = latencyNanos;
+  }
+
+  void clear() {
+    principal = null;
+    client = null;
+    reason = null;
+  }
+
+  /**
+   * Appends this event to the given builder as a single line of JSON.
+   * @param sb the target builder
+   */
+  void appendTo(StringBuilder sb) {
+    sb.append("{\"timestamp\":\"")
+        .append(Instant.ofEpochMilli(timestamp))
+        .append("\",\"outcome\":\"")
+        .append(outcome.name().toLowerCase(Locale.ROOT))
+        .append('"');
+    if (principal != null) {
+      appendField(sb, "subject", principal.getName());
+      appendField(sb, "issuer", principal.getClaim(ISSUER_CLAIM).getValue());
+      appendField(sb, "jti", principal.getClaim(ID_CLAIM).getValue());
+    }
+    if (client != null) {
+      appendField(sb, "client", client.getAddress() != null ?
+          client.getAddress().getHostAddress() : client.getHostString());
+    }
+    appendField(sb, "reason", reason);
+    sb.append(",\"latencyMicros\":")
+        .append(TimeUnit.NANOSECONDS.toMicros(latencyNanos))
+        .append("}\n");
+  }
+
+  private static void appendField(StringBuilder sb, String name,
+      Object value) {
+    if (value == null) return;
+    sb.append(",\"").append(name).append("\":\"");
+    final String s = value.toString();
+    for (int i = 0, length = s.length(); i < length; i++) {
+      final char c = s.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          }
+          else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+  }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.audit;
+
+import static org.soulwing.jwt.extension.audit.AuditLogger.LOGGER;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.soulwing.jwt.extension.api.UserPrincipal;
+
+/**
+ * An asynchronous log of authentication outcomes.
+ * <p>
+ * Events are published into a preallocated ring buffer. Producers claim a
+ * slot with a compare-and-set on the claim sequence, fill it in place, and
+ * mark it published; they never take a lock. A single consumer thread
+ * drains published slots in batches, renders each batch as lines of JSON,
+ * and writes it to the output stream with a single write.
+ * <p>
+ * When the buffer is full, a producer either drops the event (counting it)
+ * or waits for the consumer to free a slot, according to the configured
+ * {@link OverflowPolicy}.
+ *
+ * @author Carl Harris
+ */
+public final class AuditLog implements AutoCloseable {
+
+  static final int MAX_BATCH_SIZE = 256;
+
+  private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long BLOCKED_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+  /**
+   * Outcome of an authentication attempt.
+   */
+  public enum Outcome {
+    SUCCESS,
+    FAILURE
+  }
+
+  /**
+   * A policy that determines how an event is handled when the buffer is full.
+   */
+  public enum OverflowPolicy {
+    /** discard the event and count it as dropped */
+    DROP,
+    /** wait until the consumer frees a slot */
+    BLOCK
+  }
+
+  private final AuditEvent[] slots;
+  private final AtomicLongArray published;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong();
+  private final AtomicLong consumed = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+
+  private final OutputStream out;
+  private final OverflowPolicy overflowPolicy;
+  private final Thread consumer;
+
+  private volatile boolean running = true;
+  private volatile boolean idle;
+
+  /**
+   * Constructs a new instance.
+   * @param name name for the consumer thread
+   * @param out stream to which rendered events are written; it is closed
+   *    when this log is closed
+   * @param bufferSize number of slots in the ring buffer; rounded up to
+   *    a power of two
+   * @param overflowPolicy policy to apply when the buffer is full
+   */
+  public AuditLog(String name, OutputStream out, int bufferSize,
+      OverflowPolicy overflowPolicy) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive");
+    }
+    final int capacity = bufferSize == 1 ?
+        1 : Integer.highestOneBit(bufferSize - 1) << 1;
+    this.slots = new AuditEvent[capacity];
+    this.published = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new AuditEvent();
+      published.set(i, -1);
+    }
+    this.mask = capacity - 1;
+    this.out = out;
+    this.overflowPolicy = overflowPolicy;
+    this.consumer = new Thread(this::drain, name);
+    this.consumer.setDaemon(true);
+  }
+
+  /**
+   * Starts the consumer thread.
+   */
+  public void start() {
+    consumer.start();
+  }
+
+  /**
+   * Publishes an authentication outcome.
+   * @param outcome outcome of the attempt
+   * @param principal authenticated principal, if known
+   * @param client address of the client, if known
+   * @param reason reason for a failure
+   * @param latencyNanos time taken to authenticate, in nanoseconds
+   * @return {@code true} if the event was published, {@code false} if it
+   *    was dropped
+   */
+  public boolean publish(Outcome outcome, UserPrincipal principal,
+      InetSocketAddress client, String reason, long latencyNanos) {
+    final long sequence = claim();
+    if (sequence < 0) {
+      dropped.increment();
+      return false;
+    }
+    final int index = (int) (sequence & mask);
+    slots[index].set(outcome, System.currentTimeMillis(), principal, client,
+        reason, latencyNanos);
+    published.set(index, sequence);
+    if (idle) {
+      LockSupport.unpark(consumer);
+    }
+    return true;
+  }
+
+  private long claim() {
+    while (running) {
+      final long sequence = claimed.get();
+      if (sequence - consumed.get() >= slots.length) {
+        if (overflowPolicy == OverflowPolicy.DROP) return -1;
+        LockSupport.unpark(consumer);
+        LockSupport.parkNanos(this, BLOCKED_NANOS);
+        continue;
+      }
+      if (claimed.compareAndSet(sequence, sequence + 1)) {
+        return sequence;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the number of events dropped because the buffer was full or the
+   * log was closed.
+   * @return number of dropped events
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Gets the capacity of the ring buffer.
+   * @return number of slots
+   */
+  public int getCapacity() {
+    return slots.length;
+  }
+
+  /**
+   * Stops accepting events, waits for the consumer to write any events
+   * already published, and closes the output stream.
+   */
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(consumer);
+    try {
+      consumer.join(CLOSE_TIMEOUT);
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      out.close();
+    }
+    catch (IOException ex) {
+      LOGGER.error("error closing audit log: " + ex.getMessage());
+    }
+  }
+
+  private void drain() {
+    final StringBuilder sb = new StringBuilder();
+    boolean writeFailed = false;
+    long next = consumed.get();
+    while (true) {
+      int count = 0;
+      while (count < MAX_BATCH_SIZE) {
+        final long sequence = next + count;
+        final int index = (int) (sequence & mask);
+        if (published.get(index) != sequence) break;
+        final int length = sb.length();
+        try {
+          slots[index].appendTo(sb);
+        }
+        catch (RuntimeException ex) {
+          // skip the event rather than let the consumer thread die
+          sb.setLength(length);
+          LOGGER.error("error rendering audit event: " + ex, ex);
+        }
+        slots[index].clear();
+        count++;
+      }
+
+      if (count > 0) {
+        next += count;
+        consumed.set(next);
+        try {
+          out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+          if (writeFailed) {
+            LOGGER.info("audit log writes have resumed");
+            writeFailed = false;
+          }
+        }
+        catch (IOException ex) {
+          if (!writeFailed) {
+            LOGGER.error("error writing audit log: " + ex.getMessage());
+            writeFailed = true;
+          }
+        }
+        sb.setLength(0);
+        continue;
+      }
+
+      if (!running && claimed.get() == next) break;
+
+      idle = true;
+      if (published.get((int) (next & mask)) != next) {
+        LockSupport.parkNanos(this, IDLE_NANOS);
+      }
+      idle = false;
+    }
+  }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.audit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An output stream that writes to a file, rolling it over to a numbered
+ * backup when it reaches a maximum size.
+ * <p>
+ * When the file is rolled over, {@code name.1} is renamed to {@code name.2}
+ * and so on, up to the maximum backup index; the oldest backup is deleted.
+ * A write is never split across files, so a file may exceed the maximum
+ * size by the length of the last write.
+ *
+ * @author Carl Harris
+ */
+public class RollingFileOutputStream extends OutputStream {
+
+  private final Path path;
+  private final long maxFileSize;
+  private final int maxBackupIndex;
+
+  private OutputStream out;
+  private long size;
+
+  /**
+   * Constructs a new instance, opening the file for append.
+   * @param path path to the file
+   * @param maxFileSize size (in bytes) at which the file is rolled over
+   * @param maxBackupIndex number of backup files to retain
+   * @throws IOException if the file cannot be opened
+   */
+  public RollingFileOutputStream(Path path, long maxFileSize,
+      int maxBackupIndex) throws IOException {
+    if (maxFileSize <= 0) {
+      throw new IllegalArgumentException("maxFileSize must be positive");
+    }
+    if (maxBackupIndex < 0) {
+      throw new IllegalArgumentException("maxBackupIndex must not be negative");
+    }
+    this.path = path;
+    this.maxFileSize = maxFileSize;
+    this.maxBackupIndex = maxBackupIndex;
+    final Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    open();
+  }
+
+  private void open() throws IOException {
+    out = Files.newOutputStream(path, StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+    size = Files.size(path);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (size > 0 && size + len > maxFileSize) {
+      roll();
+    }
+    out.write(b, off, len);
+    size += len;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private void roll() throws IOException {
+    out.close();
+    try {
+      if (maxBackupIndex == 0) {
+        Files.delete(path);
+        return;
+      }
+      Files.deleteIfExists(backup(maxBackupIndex));
+      for (int i = maxBackupIndex - 1; i > 0; i--) {
+        final Path source = backup(i);
+        if (Files.exists(source)) {
+          Files.move(source, backup(i + 1),
+              StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+      Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      open();
+    }
+  }
+
+  private Path backup(int index) {
+    return path.resolveSibling(path.getFileName() + "." + index);
+  }
+
+}
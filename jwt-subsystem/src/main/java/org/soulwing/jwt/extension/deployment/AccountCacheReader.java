@@ -0,0 +1,75 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.deployment;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A {@link DescriptorReader} for the account-cache element of the
+ * deployment descriptor.
+ *
+ * @author Carl Harris
+ */
+class AccountCacheReader extends AbstractDescriptorReader {
+
+  public static final AccountCacheReader INSTANCE = new AccountCacheReader();
+
+  private AccountCacheReader() {
+    super(Constants.ACCOUNT_CACHE);
+  }
+
+  @Override
+  protected void attributes(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    int maxEntries = AppConfiguration.DEFAULT_ACCOUNT_CACHE_SIZE;
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (!Constants.MAX_ENTRIES.equals(reader.getAttributeLocalName(i))) {
+        throw new XMLStreamException("unexpected attribute: "
+            + reader.getAttributeLocalName(i), reader.getLocation());
+      }
+      maxEntries = parseMaxEntries(reader, reader.getAttributeValue(i));
+    }
+    config.setAccountCacheSize(maxEntries);
+  }
+
+  private int parseMaxEntries(XMLStreamReader reader, String value)
+      throws XMLStreamException {
+    try {
+      final int maxEntries = Integer.parseInt(value.trim());
+      if (maxEntries > 0) return maxEntries;
+    }
+    catch (NumberFormatException ex) {
+      // fall through to report the error
+    }
+    throw new XMLStreamException(Constants.MAX_ENTRIES
+        + " must be a positive integer", reader.getLocation());
+  }
+
+  @Override
+  public void characters(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    if (!reader.getText().trim().isEmpty()) {
+      throw new XMLStreamException(Constants.ACCOUNT_CACHE
+          + " does not allow nested content",
+          reader.getLocation());
+    }
+  }
+
+}
@@ -18,6 +18,10 @@
  */
 package org.soulwing.jwt.extension.deployment;
 
+import java.util.List;
+
+import org.soulwing.jwt.extension.undertow.ChallengeFormat;
+
 /**
  * An object that provides the configuration obtained from an application's
  * JWT descriptor.
@@ -28,8 +32,14 @@ class AppConfiguration {
 
   static final String DEFAULT_VALIDATOR = "default";
 
+  static final int DEFAULT_ACCOUNT_CACHE_SIZE = 1000;
+
   private String validatorId = DEFAULT_VALIDATOR;
   private boolean addDependencies;
+  private int accountCacheSize;
+  private boolean connectionReuse;
+  private ChallengeFormat challengeFormat = ChallengeFormat.PRETTY;
+  private List<String> roleClaims;
   
   String getValidatorId() {
     return validatorId;
@@ -50,10 +60,45 @@ class AppConfiguration {
     this.addDependencies = addDependencies;
   }
 
+  int getAccountCacheSize() {
+    return accountCacheSize;
+  }
+
+  void setAccountCacheSize(int accountCacheSize) {
+    this.accountCacheSize = accountCacheSize;
+  }
+
+  boolean isConnectionReuse() {
+    return connectionReuse;
+  }
+
+  void setConnectionReuse(boolean connectionReuse) {
+    this.connectionReuse = connectionReuse;
+  }
+
+  ChallengeFormat getChallengeFormat() {
+    return challengeFormat;
+  }
+
+  void setChallengeFormat(ChallengeFormat challengeFormat) {
+    this.challengeFormat = challengeFormat;
+  }
+
+  List<String> getRoleClaims() {
+    return roleClaims;
+  }
+
+  void setRoleClaims(List<String> roleClaims) {
+    this.roleClaims = roleClaims;
+  }
+
   @Override
   public String toString() {
-    return String.format("{ validatorId=%s addDependencies=%s }",
-        validatorId, addDependencies);
+    return String.format(
+        "{ validatorId=%s addDependencies=%s accountCacheSize=%d"
+            + " connectionReuse=%s challengeFormat=%s roleClaims=%s }",
+        validatorId, addDependencies, accountCacheSize, connectionReuse,
+        challengeFormat, roleClaims);
   }
 
 }
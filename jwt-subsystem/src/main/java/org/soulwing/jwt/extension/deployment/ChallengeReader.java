@@ -0,0 +1,75 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.deployment;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.soulwing.jwt.extension.undertow.ChallengeFormat;
+
+/**
+ * A {@link DescriptorReader} for the challenge element of the
+ * deployment descriptor.
+ *
+ * @author Carl Harris
+ */
+class ChallengeReader extends AbstractDescriptorReader {
+
+  public static final ChallengeReader INSTANCE = new ChallengeReader();
+
+  private ChallengeReader() {
+    super(Constants.CHALLENGE);
+  }
+
+  @Override
+  protected void attributes(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (!Constants.FORMAT.equals(reader.getAttributeLocalName(i))) {
+        throw new XMLStreamException("unexpected attribute: "
+            + reader.getAttributeLocalName(i), reader.getLocation());
+      }
+      config.setChallengeFormat(
+          parseFormat(reader, reader.getAttributeValue(i)));
+    }
+  }
+
+  private ChallengeFormat parseFormat(XMLStreamReader reader, String value)
+      throws XMLStreamException {
+    try {
+      return ChallengeFormat.of(value);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new XMLStreamException(Constants.FORMAT
+          + " must be one of pretty, compact, or bearer",
+          reader.getLocation());
+    }
+  }
+
+  @Override
+  public void characters(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    if (!reader.getText().trim().isEmpty()) {
+      throw new XMLStreamException(Constants.CHALLENGE
+          + " does not allow nested content",
+          reader.getLocation());
+    }
+  }
+
+}
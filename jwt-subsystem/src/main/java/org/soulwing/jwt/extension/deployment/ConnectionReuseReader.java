@@ -0,0 +1,60 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.deployment;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A {@link DescriptorReader} for the connection-reuse element of the
+ * deployment descriptor.
+ * <p>
+ * The presence of this element enables reuse of the result of
+ * authenticating a bearer token for subsequent requests on the same
+ * connection that present the same token.
+ *
+ * @author Carl Harris
+ */
+class ConnectionReuseReader extends AbstractDescriptorReader {
+
+  public static final ConnectionReuseReader INSTANCE =
+      new ConnectionReuseReader();
+
+  private ConnectionReuseReader() {
+    super(Constants.CONNECTION_REUSE);
+  }
+
+  @Override
+  public void endElement(XMLStreamReader reader, String namespaceUri,
+      String localName, AppConfiguration config) throws XMLStreamException {
+    config.setConnectionReuse(true);
+    super.endElement(reader, namespaceUri, localName, config);
+  }
+
+  @Override
+  public void characters(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    if (!reader.getText().trim().isEmpty()) {
+      throw new XMLStreamException(Constants.CONNECTION_REUSE
+          + " does not allow nested content",
+          reader.getLocation());
+    }
+  }
+
+}
@@ -32,5 +32,12 @@ interface Constants {
   String SUBSYSTEM_NAME = JwtExtension.SUBSYSTEM_NAME;
   String VALIDATOR = "validator";
   String ADD_API_DEPENDENCIES = "add-api-dependencies";
+  String ACCOUNT_CACHE = "account-cache";
+  String MAX_ENTRIES = "max-entries";
+  String CONNECTION_REUSE = "connection-reuse";
+  String CHALLENGE = "challenge";
+  String FORMAT = "format";
+  String IDENTITY_MANAGER = "identity-manager";
+  String ROLE_CLAIMS = "role-claims";
 
 }
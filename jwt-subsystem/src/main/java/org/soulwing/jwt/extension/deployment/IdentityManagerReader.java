@@ -0,0 +1,70 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.deployment;
+
+import java.util.Collections;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.soulwing.jwt.extension.service.RoleClaims;
+
+/**
+ * A {@link DescriptorReader} for the identity-manager element of the
+ * deployment descriptor.
+ * <p>
+ * The presence of this element replaces the deployment's identity manager
+ * with one that derives roles from the claims named in its
+ * {@code role-claims} attribute. The list may be delimited with spaces
+ * and/or commas.
+ *
+ * @author Carl Harris
+ */
+class IdentityManagerReader extends AbstractDescriptorReader {
+
+  public static final IdentityManagerReader INSTANCE =
+      new IdentityManagerReader();
+
+  private IdentityManagerReader() {
+    super(Constants.IDENTITY_MANAGER);
+  }
+
+  @Override
+  protected void attributes(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    config.setRoleClaims(Collections.emptyList());
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (!Constants.ROLE_CLAIMS.equals(reader.getAttributeLocalName(i))) {
+        throw new XMLStreamException("unexpected attribute: "
+            + reader.getAttributeLocalName(i), reader.getLocation());
+      }
+      config.setRoleClaims(RoleClaims.parse(reader.getAttributeValue(i)));
+    }
+  }
+
+  @Override
+  public void characters(XMLStreamReader reader, AppConfiguration config)
+      throws XMLStreamException {
+    if (!reader.getText().trim().isEmpty()) {
+      throw new XMLStreamException(Constants.IDENTITY_MANAGER
+          + " does not allow nested content",
+          reader.getLocation());
+    }
+  }
+
+}
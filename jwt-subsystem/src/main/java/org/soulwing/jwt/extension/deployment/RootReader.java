@@ -71,7 +71,9 @@ class RootReader implements DescriptorReader {
     
     private InnerReader() {
       super(Constants.SUBSYSTEM_NAME, ValidatorReader.INSTANCE,
-          AddApiDependenciesReader.INSTANCE);
+          AddApiDependenciesReader.INSTANCE, AccountCacheReader.INSTANCE,
+          ConnectionReuseReader.INSTANCE, ChallengeReader.INSTANCE,
+          IdentityManagerReader.INSTANCE);
     }
   }
   
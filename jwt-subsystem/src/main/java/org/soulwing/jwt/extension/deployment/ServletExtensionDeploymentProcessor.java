@@ -80,6 +80,10 @@ public class ServletExtensionDeploymentProcessor
         ServiceName.parse(Capabilities.CAPABILITY_VALIDATOR), config.getValidatorId());
 
     final JwtServletExtension extension = new JwtServletExtension();
+    extension.setAccountCacheSize(config.getAccountCacheSize());
+    extension.setConnectionReuse(config.isConnectionReuse());
+    extension.setChallengeFormat(config.getChallengeFormat());
+    extension.setRoleClaims(config.getRoleClaims());
     installServletExtension(phaseContext, extension, authServiceName);
             
     deploymentUnit.addToAttachmentList(        
@@ -0,0 +1,33 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A static logger for this package.
+ *
+ * @author Carl Harris
+ */
+class ElytronLogger {
+
+  static final Logger LOGGER = Logger.getLogger(
+      ElytronLogger.class.getPackage().getName());
+
+}
@@ -0,0 +1,138 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import static org.soulwing.jwt.extension.elytron.ElytronLogger.LOGGER;
+
+import java.io.IOException;
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.CallbackHandler;
+import javax.security.auth.callback.UnsupportedCallbackException;
+import javax.security.sasl.AuthorizeCallback;
+
+import org.wildfly.security.auth.callback.AuthenticationCompleteCallback;
+import org.wildfly.security.auth.callback.EvidenceVerifyCallback;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+import org.wildfly.security.http.HttpAuthenticationException;
+import org.wildfly.security.http.HttpConstants;
+import org.wildfly.security.http.HttpServerAuthenticationMechanism;
+import org.wildfly.security.http.HttpServerRequest;
+
+/**
+ * An Elytron {@link HttpServerAuthenticationMechanism} for JWT bearer tokens.
+ * <p>
+ * The token is obtained from the {@code Authorization} header or the
+ * {@code access_token} query parameter and is presented to the security
+ * domain as {@link BearerTokenEvidence}; validation is performed by the
+ * realm (see {@link JwtSecurityRealm}).
+ *
+ * @author Carl Harris
+ */
+class JwtHttpAuthenticationMechanism
+    implements HttpServerAuthenticationMechanism {
+
+  private static final String BEARER_AUTH_SCHEMA = "Bearer";
+
+  private static final String AUTH_QUERY_PARAM = "access_token";
+
+  private static final String BEARER_CHALLENGE = BEARER_AUTH_SCHEMA;
+
+  private static final String INVALID_TOKEN_CHALLENGE =
+      BEARER_AUTH_SCHEMA + " error=\"invalid_token\"";
+
+  private final CallbackHandler callbackHandler;
+
+  JwtHttpAuthenticationMechanism(CallbackHandler callbackHandler) {
+    this.callbackHandler = callbackHandler;
+  }
+
+  @Override
+  public String getMechanismName() {
+    return JwtMechanismFactory.MECHANISM_NAME;
+  }
+
+  @Override
+  public void evaluateRequest(HttpServerRequest request)
+      throws HttpAuthenticationException {
+
+    final String token = getToken(request);
+    if (token == null) {
+      request.noAuthenticationInProgress(response -> {
+        response.addResponseHeader(HttpConstants.WWW_AUTHENTICATE,
+            BEARER_CHALLENGE);
+        response.setStatusCode(HttpConstants.UNAUTHORIZED);
+      });
+      return;
+    }
+
+    final EvidenceVerifyCallback verifyCallback =
+        new EvidenceVerifyCallback(new BearerTokenEvidence(token));
+    handleCallback(verifyCallback);
+    if (!verifyCallback.isVerified()) {
+      handleCallback(AuthenticationCompleteCallback.FAILED);
+      request.authenticationFailed("token is not valid", response -> {
+        response.addResponseHeader(HttpConstants.WWW_AUTHENTICATE,
+            INVALID_TOKEN_CHALLENGE);
+        response.setStatusCode(HttpConstants.UNAUTHORIZED);
+      });
+      return;
+    }
+
+    final AuthorizeCallback authorizeCallback =
+        new AuthorizeCallback(null, null);
+    handleCallback(authorizeCallback);
+    if (!authorizeCallback.isAuthorized()) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("identity is not authorized");
+      }
+      handleCallback(AuthenticationCompleteCallback.FAILED);
+      request.authenticationFailed("identity is not authorized",
+          response -> response.setStatusCode(HttpConstants.FORBIDDEN));
+      return;
+    }
+
+    handleCallback(AuthenticationCompleteCallback.SUCCEEDED);
+    request.authenticationComplete();
+  }
+
+  private String getToken(HttpServerRequest request) {
+    final String token = extractTokenFromHeader(request);
+    return (token != null) ? token : request.getFirstParameterValue(
+        AUTH_QUERY_PARAM);
+  }
+
+  private String extractTokenFromHeader(HttpServerRequest request) {
+    final String header =
+        request.getFirstRequestHeaderValue(HttpConstants.AUTHORIZATION);
+    if (header == null) return null;
+    if (!header.startsWith(BEARER_AUTH_SCHEMA + " ")) return null;
+    return header.substring(BEARER_AUTH_SCHEMA.length()).trim();
+  }
+
+  private void handleCallback(Callback callback)
+      throws HttpAuthenticationException {
+    try {
+      callbackHandler.handle(new Callback[] { callback });
+    }
+    catch (IOException | UnsupportedCallbackException ex) {
+      throw new HttpAuthenticationException(ex);
+    }
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import java.util.Map;
+import javax.security.auth.callback.CallbackHandler;
+
+import org.wildfly.security.http.HttpServerAuthenticationMechanism;
+import org.wildfly.security.http.HttpServerAuthenticationMechanismFactory;
+
+/**
+ * An {@link HttpServerAuthenticationMechanismFactory} that provides the
+ * {@value #MECHANISM_NAME} mechanism.
+ * <p>
+ * This factory is located by Elytron using the {@link java.util.ServiceLoader}
+ * mechanism; e.g. via a {@code service-loader-http-server-mechanism-factory}
+ * that specifies this extension's module.
+ *
+ * @author Carl Harris
+ */
+public class JwtMechanismFactory
+    implements HttpServerAuthenticationMechanismFactory {
+
+  public static final String MECHANISM_NAME = "JWT";
+
+  private static final String[] MECHANISM_NAMES = { MECHANISM_NAME };
+
+  @Override
+  public String[] getMechanismNames(Map<String, ?> properties) {
+    return MECHANISM_NAMES.clone();
+  }
+
+  @Override
+  public HttpServerAuthenticationMechanism createAuthenticationMechanism(
+      String mechanismName, Map<String, ?> properties,
+      CallbackHandler callbackHandler) {
+    if (!MECHANISM_NAME.equals(mechanismName)) return null;
+    return new JwtHttpAuthenticationMechanism(callbackHandler);
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.ArrayList;
+import java.util.Set;
+
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.authz.MapAttributes;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * A {@link RealmIdentity} for a user whose token has already been validated.
+ * <p>
+ * The realm validates the token once when the identity is obtained; evidence
+ * verification simply confirms that the presented token is the one that
+ * was validated.
+ *
+ * @author Carl Harris
+ */
+class JwtRealmIdentity implements RealmIdentity {
+
+  private final String token;
+  private final UserPrincipal principal;
+  private final Set<String> roles;
+
+  JwtRealmIdentity(String token, UserPrincipal principal, Set<String> roles) {
+    this.token = token;
+    this.principal = principal;
+    this.roles = roles;
+  }
+
+  @Override
+  public UserPrincipal getRealmIdentityPrincipal() {
+    return principal;
+  }
+
+  @Override
+  public SupportLevel getCredentialAcquireSupport(
+      Class<? extends Credential> credentialType, String algorithmName,
+      AlgorithmParameterSpec parameterSpec) {
+    return SupportLevel.UNSUPPORTED;
+  }
+
+  @Override
+  public <C extends Credential> C getCredential(Class<C> credentialType) {
+    return null;
+  }
+
+  @Override
+  public SupportLevel getEvidenceVerifySupport(
+      Class<? extends Evidence> evidenceType, String algorithmName) {
+    return BearerTokenEvidence.class.isAssignableFrom(evidenceType) ?
+        SupportLevel.SUPPORTED : SupportLevel.UNSUPPORTED;
+  }
+
+  @Override
+  public boolean verifyEvidence(Evidence evidence) {
+    return evidence instanceof BearerTokenEvidence
+        && token.equals(((BearerTokenEvidence) evidence).getToken());
+  }
+
+  @Override
+  public boolean exists() {
+    return true;
+  }
+
+  @Override
+  public AuthorizationIdentity getAuthorizationIdentity() {
+    final MapAttributes attributes = new MapAttributes();
+    if (!roles.isEmpty()) {
+      attributes.addAll(JwtSecurityRealm.ROLES_ATTRIBUTE,
+          new ArrayList<>(roles));
+    }
+    return AuthorizationIdentity.basicIdentity(attributes);
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import static org.soulwing.jwt.extension.elytron.ElytronLogger.LOGGER;
+
+import java.security.AccessController;
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.as.server.CurrentServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+import org.soulwing.jwt.extension.model.Capabilities;
+import org.soulwing.jwt.extension.service.AuthenticationException;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
+import org.soulwing.jwt.extension.service.AuthenticationService;
+import org.soulwing.jwt.extension.service.Credential;
+import org.soulwing.jwt.extension.service.RoleClaims;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * An Elytron {@link SecurityRealm} that validates bearer tokens using a
+ * validator configured in the JWT subsystem.
+ * <p>
+ * This realm is intended to be used as an Elytron {@code custom-realm}.
+ * It supports the following configuration properties.
+ * <ul>
+ * <li>{@value #VALIDATOR} &mdash; name of the JWT subsystem validator
+ *     resource; the default is {@value #DEFAULT_VALIDATOR}</li>
+ * <li>{@value #ROLE_CLAIMS} &mdash; list of claims whose values are used as
+ *     role names, delimited with spaces and/or commas</li>
+ * </ul>
+ * Roles are provided in the {@value #ROLES_ATTRIBUTE} attribute of the
+ * authorization identity, which is the attribute used by Elytron's default
+ * role decoder.
+ *
+ * @author Carl Harris
+ */
+public class JwtSecurityRealm implements SecurityRealm {
+
+  public static final String VALIDATOR = "validator";
+
+  public static final String DEFAULT_VALIDATOR = "default";
+
+  public static final String ROLE_CLAIMS = "role-claims";
+
+  public static final String ROLES_ATTRIBUTE = "Roles";
+
+  private ServiceName validatorServiceName =
+      validatorServiceName(DEFAULT_VALIDATOR);
+
+  private RoleClaims roleClaims = new RoleClaims(RoleClaims.parse(null));
+
+  private final Supplier<ServiceRegistry> serviceRegistry;
+
+  public JwtSecurityRealm() {
+    this(JwtSecurityRealm::serviceContainer);
+  }
+
+  JwtSecurityRealm(Supplier<ServiceRegistry> serviceRegistry) {
+    this.serviceRegistry = serviceRegistry;
+  }
+
+  /**
+   * Initializes this realm using configuration properties specified for
+   * the Elytron custom realm.
+   * @param configuration configuration properties
+   */
+  public void initialize(Map<String, String> configuration) {
+    final String validator = configuration.get(VALIDATOR);
+    if (validator != null && !validator.trim().isEmpty()) {
+      validatorServiceName = validatorServiceName(validator.trim());
+    }
+    roleClaims = new RoleClaims(
+        RoleClaims.parse(configuration.get(ROLE_CLAIMS)));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("validator: " + validatorServiceName
+          + "; role claims: " + roleClaims);
+    }
+  }
+
+  @Override
+  public RealmIdentity getRealmIdentity(Principal principal) {
+    // identities can be obtained only from a token
+    return RealmIdentity.NON_EXISTENT;
+  }
+
+  @Override
+  public RealmIdentity getRealmIdentity(Evidence evidence)
+      throws RealmUnavailableException {
+    if (!(evidence instanceof BearerTokenEvidence)) {
+      return RealmIdentity.NON_EXISTENT;
+    }
+
+    final String token = ((BearerTokenEvidence) evidence).getToken();
+    final AuthenticationService authenticationService =
+        authenticationService();
+    final AuthenticationMetrics metrics = authenticationService.getMetrics();
+    final long startTime = metrics != null ? System.nanoTime() : 0;
+    try {
+      final Credential credential =
+          authenticationService.newAuthenticator().validate(token);
+      if (metrics != null) {
+        metrics.recordSuccess(System.nanoTime() - startTime);
+      }
+      return new JwtRealmIdentity(token, credential.getPrincipal(),
+          roleClaims.getRoles(credential.getPrincipal()));
+    }
+    catch (AuthenticationException ex) {
+      if (metrics != null) {
+        metrics.recordFailure(System.nanoTime() - startTime);
+      }
+      return RealmIdentity.NON_EXISTENT;
+    }
+    catch (Exception ex) {
+      LOGGER.error(ex.getMessage(), ex);
+      throw new RealmUnavailableException(ex);
+    }
+  }
+
+  @Override
+  public SupportLevel getCredentialAcquireSupport(
+      Class<? extends org.wildfly.security.credential.Credential> credentialType,
+      String algorithmName, AlgorithmParameterSpec parameterSpec) {
+    return SupportLevel.UNSUPPORTED;
+  }
+
+  @Override
+  public SupportLevel getEvidenceVerifySupport(
+      Class<? extends Evidence> evidenceType, String algorithmName) {
+    return BearerTokenEvidence.class.isAssignableFrom(evidenceType) ?
+        SupportLevel.POSSIBLY_SUPPORTED : SupportLevel.UNSUPPORTED;
+  }
+
+  private AuthenticationService authenticationService()
+      throws RealmUnavailableException {
+    final ServiceController<?> controller =
+        serviceRegistry.get().getService(validatorServiceName);
+    if (controller == null
+        || controller.getState() != ServiceController.State.UP) {
+      throw new RealmUnavailableException(
+          "validator service " + validatorServiceName + " is not available");
+    }
+    return (AuthenticationService) controller.getValue();
+  }
+
+  private static ServiceName validatorServiceName(String validator) {
+    return ServiceName.of(
+        ServiceName.parse(Capabilities.CAPABILITY_VALIDATOR), validator);
+  }
+
+  private static ServiceRegistry serviceContainer() {
+    if (System.getSecurityManager() == null) {
+      return CurrentServiceContainer.getServiceContainer();
+    }
+    return AccessController.doPrivileged(CurrentServiceContainer.GET_ACTION);
+  }
+
+}
@@ -23,8 +23,13 @@ import static org.soulwing.jwt.extension.jaas.JaasLogger.LOGGER;
 import java.security.AccessController;
 import java.security.Principal;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import javax.security.auth.Subject;
 import javax.security.auth.callback.CallbackHandler;
 import javax.security.auth.login.LoginException;
@@ -46,6 +51,15 @@ import org.jboss.msc.service.ServiceController;
  * <p>
  * The realm delegate is specified using the {@link #REALM} module option.
  * The default realm is {@link #DEFAULT_REALM}.
+ * <p>
+ * The roles obtained from the realm for each user can be cached by
+ * specifying a time-to-live (in seconds) using the {@link #ROLE_CACHE_TTL}
+ * module option. The maximum number of users whose roles are cached is
+ * specified using the {@link #ROLE_CACHE_SIZE} option. If the
+ * {@link #ROLE_CACHE_REFRESH} option is {@code true}, cached roles are
+ * reloaded asynchronously before they expire. Modules configured with the
+ * same realm and the same cache options share a cache; modules with
+ * different options (e.g. in different security domains) do not.
  *
  * @author Carl Harris
  */
@@ -55,13 +69,25 @@ public class DelegatingJwtLoginModule
   public static final String REALM = "realm";
   
   public static final String DEFAULT_REALM = "ApplicationRealm";
-  
+
+  public static final String ROLE_CACHE_TTL = "role-cache-ttl";
+
+  public static final String ROLE_CACHE_SIZE = "role-cache-size";
+
+  public static final String ROLE_CACHE_REFRESH = "role-cache-refresh";
+
+  private static final ConcurrentMap<String, RealmDelegate> delegates =
+      new ConcurrentHashMap<>();
+
+  private static final ConcurrentMap<RoleCacheKey, RealmRoleCache>
+      roleCaches = new ConcurrentHashMap<>();
+
   private String realmName;
   
-  private SecurityRealm realm;
-  
-  private AuthorizingCallbackHandler authorizingCallbackHandler;
-  
+  private RealmDelegate delegate;
+
+  private RealmRoleCache roleCache;
+
   @Override
   public void initialize(Subject subject, CallbackHandler callbackHandler,
       Map<String, ?> sharedState, Map<String, ?> options) {
@@ -71,53 +97,84 @@ public class DelegatingJwtLoginModule
     if (realmName == null) {
       realmName = DEFAULT_REALM;
     }
-    
-    final ServiceController<?> controller = serviceContainer().getService(
-        SecurityRealm.ServiceUtil.createServiceName(realmName));
-    if (controller != null) {
-      realm = (SecurityRealm) controller.getValue();
-    }    
-    if (realm == null) {
-      throw new IllegalArgumentException("realm '" + realmName + "' not found");
-    }
-    
-    final Set<AuthMechanism> mechs = realm.getSupportedAuthenticationMechanisms();
-    if (mechs.isEmpty()) {
-      throw new IllegalArgumentException("realm '" + realmName
-          + "' does not support any authentication mechanisms");
+
+    delegate = delegates.get(realmName);
+    if (delegate == null || !delegate.isAvailable()) {
+      if (delegate != null) {
+        // the realm was restarted; roles cached from it may be stale
+        closeRoleCaches(realmName);
+      }
+      delegate = new RealmDelegate(realmName);
+      delegates.put(realmName, delegate);
     }
-    
-    AuthMechanism mech = AuthMechanism.PLAIN;
-    if (!mechs.contains(mech)) {
-      mech = mechs.iterator().next();
+
+    final long roleCacheTtl = TimeUnit.SECONDS.toMillis(
+        longOption(options, ROLE_CACHE_TTL, 0));
+    if (roleCacheTtl > 0) {
+      final RoleCacheKey key = new RoleCacheKey(realmName, roleCacheTtl,
+          (int) Math.max(1, longOption(options, ROLE_CACHE_SIZE,
+              RealmRoleCache.DEFAULT_MAX_ENTRIES)),
+          Boolean.parseBoolean(
+              String.valueOf(options.get(ROLE_CACHE_REFRESH))));
+      roleCache = roleCaches.computeIfAbsent(key, RoleCacheKey::newCache);
     }
 
-    authorizingCallbackHandler = realm.getAuthorizingCallbackHandler(mech);
-    if (authorizingCallbackHandler == null) {
-      throw new IllegalArgumentException("realm '" + realmName
-          + "' does not provide authorization");
-    }  
-    
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("attached to realm '" + realmName + "'");
     }
   }
 
+  /**
+   * Discards all realm delegates and cached realm roles.
+   * <p>
+   * Delegates and role caches are shared by all instances of this module,
+   * so they must be discarded when the subsystem is stopped; otherwise they
+   * would outlive the realms from which they were obtained. Closing each
+   * role cache also stops its refresh threads.
+   */
+  public static void invalidate() {
+    delegates.clear();
+    closeRoleCaches(null);
+  }
+
+  private static void closeRoleCaches(String realmName) {
+    for (final RoleCacheKey key : roleCaches.keySet()) {
+      if (realmName == null || key.realmName.equals(realmName)) {
+        final RealmRoleCache cache = roleCaches.remove(key);
+        if (cache != null) {
+          cache.close();
+        }
+      }
+    }
+  }
+
+  private static long longOption(Map<String, ?> options, String name,
+      long defaultValue) {
+    final Object value = options.get(name);
+    if (value == null) return defaultValue;
+    try {
+      return Long.parseLong(value.toString().trim());
+    }
+    catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("option '" + name
+          + "' requires an integer value");
+    }
+  }
+
   @Override
   protected Set<Principal> getRoles() throws LoginException {
     final Set<Principal> roles = super.getRoles();
     try {
-      RealmUser user = new RealmUser(credential.getPrincipal().getName());
-      SubjectUserInfo subjectUserInfo = authorizingCallbackHandler
-          .createSubjectUserInfo(Collections.<Principal>singleton(user));
-      Set<RealmRole> realmRoles = subjectUserInfo.getSubject()
-          .getPrincipals(RealmRole.class);
+      final String name = credential.getPrincipal().getName();
+      final Set<String> realmRoles = roleCache != null ?
+          roleCache.get(name, () -> delegate.getRoles(name)) :
+          delegate.getRoles(name);
       if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("user '" + user + '@' + realmName + "' has roles " 
+        LOGGER.debug("user '" + name + '@' + realmName + "' has roles "
             + realmRoles);
       }
-      for (RealmRole role : realmRoles) {
-        roles.add(createRole(role.getName()));
+      for (String role : realmRoles) {
+        roles.add(createRole(role));
       }
     }
     catch (Exception ex) {
@@ -133,5 +190,105 @@ public class DelegatingJwtLoginModule
     }
     return AccessController.doPrivileged(CurrentServiceContainer.GET_ACTION);
   }
-  
+
+  /**
+   * Identifies the realm role cache for a realm and a combination of
+   * cache options.
+   */
+  private static final class RoleCacheKey {
+
+    final String realmName;
+    final long ttl;
+    final int size;
+    final boolean refresh;
+
+    RoleCacheKey(String realmName, long ttl, int size, boolean refresh) {
+      this.realmName = realmName;
+      this.ttl = ttl;
+      this.size = size;
+      this.refresh = refresh;
+    }
+
+    RealmRoleCache newCache() {
+      return new RealmRoleCache(size, ttl, refresh);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof RoleCacheKey)) return false;
+      final RoleCacheKey that = (RoleCacheKey) obj;
+      return this.realmName.equals(that.realmName)
+          && this.ttl == that.ttl
+          && this.size == that.size
+          && this.refresh == that.refresh;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(realmName, ttl, size, refresh);
+    }
+
+  }
+
+  /**
+   * A resolved security realm and the authentication mechanism used to
+   * obtain its authorizing callback handler.
+   * <p>
+   * A callback handler may hold state for a single authentication, so a
+   * new handler is obtained for each lookup.
+   */
+  private static class RealmDelegate {
+
+    private final ServiceController<?> controller;
+    private final SecurityRealm realm;
+    private final AuthMechanism mech;
+
+    RealmDelegate(String realmName) {
+      controller = serviceContainer().getService(
+          SecurityRealm.ServiceUtil.createServiceName(realmName));
+      realm = controller != null ? (SecurityRealm) controller.getValue() : null;
+      if (realm == null) {
+        throw new IllegalArgumentException("realm '" + realmName + "' not found");
+      }
+
+      final Set<AuthMechanism> mechs = realm.getSupportedAuthenticationMechanisms();
+      if (mechs.isEmpty()) {
+        throw new IllegalArgumentException("realm '" + realmName
+            + "' does not support any authentication mechanisms");
+      }
+
+      AuthMechanism mech = AuthMechanism.PLAIN;
+      if (!mechs.contains(mech)) {
+        mech = mechs.iterator().next();
+      }
+      this.mech = mech;
+
+      if (realm.getAuthorizingCallbackHandler(mech) == null) {
+        throw new IllegalArgumentException("realm '" + realmName
+            + "' does not provide authorization");
+      }
+    }
+
+    boolean isAvailable() {
+      return controller.getState() == ServiceController.State.UP
+          && controller.getValue() == realm;
+    }
+
+    Set<String> getRoles(String name) throws Exception {
+      final AuthorizingCallbackHandler authorizingCallbackHandler =
+          realm.getAuthorizingCallbackHandler(mech);
+      final SubjectUserInfo subjectUserInfo = authorizingCallbackHandler
+          .createSubjectUserInfo(
+              Collections.<Principal>singleton(new RealmUser(name)));
+      final Set<String> roles = new LinkedHashSet<>();
+      for (RealmRole role : subjectUserInfo.getSubject()
+          .getPrincipals(RealmRole.class)) {
+        roles.add(role.getName());
+      }
+      return roles;
+    }
+
+  }
+
 }
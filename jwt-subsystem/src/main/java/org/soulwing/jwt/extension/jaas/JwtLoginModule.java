@@ -23,7 +23,9 @@ import static org.soulwing.jwt.extension.jaas.JaasLogger.LOGGER;
 import java.io.IOException;
 import java.security.Principal;
 import java.security.acl.Group;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +51,11 @@ import org.soulwing.jwt.extension.service.Credential;
  * whose values will be used as role names.  The list may be delimited with
  * spaces and/or commas.  Each value of each named role claim is used
  * as a role for the authentic user.
+ * <p>
+ * Role principal sets are cached by the role names from which they were
+ * constructed and shared by all instances of this module, so that users
+ * with the same role claim values do not each construct the same role
+ * principals.
  *
  * @author Carl Harris
  */
@@ -56,7 +63,10 @@ public class JwtLoginModule extends AbstractServerLoginModule {
 
   
   static final String ROLE_CLAIMS = "role-claims";
-  
+
+  private static final RoleSetCache roleSetCache =
+      new RoleSetCache(RoleSetCache.DEFAULT_MAX_ENTRIES);
+
   private String[] roleClaims;
 
   Credential credential;
@@ -139,31 +149,47 @@ public class JwtLoginModule extends AbstractServerLoginModule {
   }
 
   protected Set<Principal> getRoles() throws LoginException {
-    final Set<Principal> roles = new LinkedHashSet<>();
-    final UserPrincipal principal = credential.getPrincipal();
-    if (roleClaims.length > 0) {
-      for (final String roleClaim : roleClaims) {
-        final Claim claim = principal.getClaim(roleClaim);
-        if (!claim.isNull()) {
-          final List<String> values = claim.asList(String.class);
-          for (final String value : values) {
-            roles.add(createRole(value));
-          }
-        }
-        else {
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("assertion does not contain claim '"
-                + roleClaim + "'");
-          }
-        }
+    final List<String> names = getRoleNames(credential.getPrincipal());
+    if (names.isEmpty()) return new LinkedHashSet<>();
+
+    final RoleSetCache.Key key =
+        new RoleSetCache.Key(principalClassName, names);
+    Set<Principal> roles = roleSetCache.get(key);
+    if (roles == null) {
+      roles = new LinkedHashSet<>();
+      for (final String name : names) {
+        roles.add(createRole(name));
       }
+      roles = Collections.unmodifiableSet(roles);
+      roleSetCache.put(key, roles);
     }
+    else if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("using cached role set");
+    }
+
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("assertion-derived roles: " + roles);
     }
-    return roles; 
+    return new LinkedHashSet<>(roles);
   }
-  
+
+  private List<String> getRoleNames(UserPrincipal principal) {
+    final List<String> names = new ArrayList<>();
+    for (final String roleClaim : roleClaims) {
+      final Claim claim = principal.getClaim(roleClaim);
+      if (!claim.isNull()) {
+        names.addAll(claim.asList(String.class));
+      }
+      else {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("assertion does not contain claim '"
+              + roleClaim + "'");
+        }
+      }
+    }
+    return names;
+  }
+
   Principal createRole(String name) throws LoginException {
     try {
       final Principal role = createIdentity(name);
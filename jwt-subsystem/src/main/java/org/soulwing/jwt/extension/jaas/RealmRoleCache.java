@@ -0,0 +1,208 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jaas;
+
+import static org.soulwing.jwt.extension.jaas.JaasLogger.LOGGER;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.soulwing.jwt.extension.spi.internal.BoundedCache;
+
+/**
+ * A bounded cache of the role names obtained from a security realm for
+ * each user, with a time-to-live for each entry.
+ * <p>
+ * When refresh is requested, an entry that has reached three quarters of
+ * its time-to-live is reloaded asynchronously, while the cached roles
+ * continue to be returned until the reload completes. When the cache is
+ * full, expired entries are purged; if it is still full, arbitrary entries
+ * are evicted to make room for the new one.
+ * <p>
+ * A cache that refreshes entries owns a small pool of daemon threads, whose
+ * idle threads are allowed to terminate; the pool is shut down when the
+ * cache is {@link #close() closed}.
+ *
+ * @author Carl Harris
+ */
+class RealmRoleCache {
+
+  static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  private static final int REFRESH_AHEAD_PERCENT = 75;
+
+  private static final int REFRESH_THREADS = 2;
+
+  private static final long REFRESH_THREAD_KEEP_ALIVE = 60;
+
+  private final BoundedCache<String, Entry> entries;
+  private final long ttl;
+  private final Clock clock;
+  private final Executor executor;
+
+  /**
+   * Constructs a new instance.
+   * @param maxEntries maximum number of users whose roles are cached
+   * @param ttl time-to-live for each entry (milliseconds)
+   * @param refresh flag indicating whether entries should be reloaded
+   *    asynchronously before they expire
+   */
+  RealmRoleCache(int maxEntries, long ttl, boolean refresh) {
+    this(maxEntries, ttl, Clock.systemUTC(),
+        refresh ? newRefreshExecutor() : null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param maxEntries maximum number of users whose roles are cached
+   * @param ttl time-to-live for each entry (milliseconds)
+   * @param clock clock used to determine the age of entries
+   * @param executor executor for asynchronous refresh, or {@code null} if
+   *    entries should not be refreshed before they expire
+   */
+  RealmRoleCache(int maxEntries, long ttl, Clock clock, Executor executor) {
+    this.entries = new BoundedCache<>(maxEntries,
+        entry -> entry.isExpired(clock.millis()));
+    this.ttl = ttl;
+    this.clock = clock;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates an executor for asynchronous refresh; realm lookups may block,
+   * so refresh must not run on the common fork-join pool.
+   */
+  private static ExecutorService newRefreshExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        REFRESH_THREADS, REFRESH_THREADS,
+        REFRESH_THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), runnable -> {
+          final Thread thread =
+              new Thread(runnable, "jwt-realm-role-refresh");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Gets the roles for a user, loading them if they are not cached or the
+   * cached entry has expired.
+   * @param user name of the subject user
+   * @param loader loads the roles for the user
+   * @return unmodifiable set of role names
+   * @throws Exception as thrown by {@code loader}
+   */
+  Set<String> get(String user, Callable<Set<String>> loader)
+      throws Exception {
+    final Entry entry = entries.get(user);
+    if (entry == null) {
+      return load(user, loader).roles;
+    }
+    if (executor != null && entry.isRefreshDue(clock.millis())
+        && entry.refreshing.compareAndSet(false, true)) {
+      try {
+        executor.execute(() -> refresh(user, entry, loader));
+      }
+      catch (RejectedExecutionException ex) {
+        entry.refreshing.set(false);
+      }
+    }
+    return entry.roles;
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Discards all entries and shuts down the refresh executor, if any.
+   */
+  void close() {
+    entries.clear();
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+  }
+
+  private Entry load(String user, Callable<Set<String>> loader)
+      throws Exception {
+    final Set<String> roles = loader.call();
+    final Entry entry = new Entry(immutableCopy(roles), clock.millis(), ttl);
+    entries.put(user, entry);
+    return entry;
+  }
+
+  private void refresh(String user, Entry entry,
+      Callable<Set<String>> loader) {
+    try {
+      final Set<String> roles = loader.call();
+      entries.replace(user, entry,
+          new Entry(immutableCopy(roles), clock.millis(), ttl));
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("refreshed realm roles for user '" + user + "'");
+      }
+    }
+    catch (Exception ex) {
+      LOGGER.warn("error refreshing realm roles for user '" + user + "': "
+          + ex, ex);
+      entry.refreshing.set(false);
+    }
+  }
+
+  private static Set<String> immutableCopy(Set<String> roles) {
+    if (roles.isEmpty()) return Collections.emptySet();
+    return Collections.unmodifiableSet(new LinkedHashSet<>(roles));
+  }
+
+  private static class Entry {
+
+    final Set<String> roles;
+    final long refreshAt;
+    final long expiresAt;
+    final AtomicBoolean refreshing = new AtomicBoolean();
+
+    Entry(Set<String> roles, long loadedAt, long ttl) {
+      this.roles = roles;
+      this.refreshAt = loadedAt + ttl * REFRESH_AHEAD_PERCENT / 100;
+      this.expiresAt = loadedAt + ttl;
+    }
+
+    boolean isRefreshDue(long now) {
+      return now >= refreshAt;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+
+  }
+
+}
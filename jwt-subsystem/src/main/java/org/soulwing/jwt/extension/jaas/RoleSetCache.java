@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jaas;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+
+import org.soulwing.jwt.extension.spi.internal.BoundedCache;
+
+/**
+ * A bounded cache of immutable role principal sets, keyed by the role
+ * names from which each set was constructed.
+ * <p>
+ * Many users share the same few combinations of role claim values; caching
+ * the principal set for each combination avoids constructing the same role
+ * principals on every login. When the cache is full, an arbitrary entry is
+ * evicted to make room for a new one.
+ *
+ * @author Carl Harris
+ */
+class RoleSetCache {
+
+  static final int DEFAULT_MAX_ENTRIES = 1024;
+
+  private final BoundedCache<Key, Set<Principal>> entries;
+
+  RoleSetCache(int maxEntries) {
+    this.entries = new BoundedCache<>(maxEntries);
+  }
+
+  /**
+   * Gets a cached role set.
+   * @param key key for the role set
+   * @return role set or {@code null} if not cached
+   */
+  Set<Principal> get(Key key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Puts a role set into the cache.
+   * @param key key for the role set
+   * @param roles an immutable role set
+   */
+  void put(Key key, Set<Principal> roles) {
+    entries.put(key, roles);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * A cache key composed of the role principal type and the role names.
+   */
+  static final class Key {
+
+    private final String principalClassName;
+    private final List<String> names;
+    private final int hashCode;
+
+    Key(String principalClassName, List<String> names) {
+      this.principalClassName = principalClassName;
+      this.names = names;
+      this.hashCode = 31 * String.valueOf(principalClassName).hashCode()
+          + names.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.hashCode == that.hashCode
+          && this.names.equals(that.names)
+          && (this.principalClassName == null ?
+              that.principalClassName == null :
+              this.principalClassName.equals(that.principalClassName));
+    }
+
+  }
+
+}
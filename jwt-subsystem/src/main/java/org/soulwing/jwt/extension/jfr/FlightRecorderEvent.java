@@ -0,0 +1,336 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jfr;
+
+import static org.soulwing.jwt.extension.jfr.JfrLogger.LOGGER;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A type of Java Flight Recorder event.
+ * <p>
+ * Event types are defined at runtime using {@code jdk.jfr.EventFactory},
+ * which is accessed reflectively so that this class can be compiled and
+ * loaded on a Java runtime that does not provide the JFR API. On such a
+ * runtime every event type is permanently disabled.
+ * <p>
+ * Each event type has a {@code validator} field followed by the fields
+ * given in its definition. The duration of an event is the time between
+ * {@link #begin()} and {@link #commit(Object, String, Object...)}. Callers
+ * commit an event only if {@link #begin()} returned a non-null event. When
+ * no recording is active for the event type, {@link #begin()} costs a single
+ * check of the event's enabled state and nothing is allocated.
+ * <p>
+ * When the type of event to record is known only at the end of an operation,
+ * {@link #record(String, Object...)} creates and commits the event in one
+ * step. JFR does not allow the start time of an event to be set, so such an
+ * event type should carry its own {@link Field#timespan(String, String)
+ * timespan} field for the elapsed time measured by the caller.
+ *
+ * @author Carl Harris
+ */
+public final class FlightRecorderEvent {
+
+  private static final String NAME_PREFIX = "org.soulwing.jwt.";
+  private static final String CATEGORY = "JWT";
+
+  private static final Jfr JFR = Jfr.load();
+
+  private final String name;
+  private final Object factory;
+  private final Object prototype;
+
+  private FlightRecorderEvent(String name, Object factory, Object prototype) {
+    this.name = name;
+    this.factory = factory;
+    this.prototype = prototype;
+  }
+
+  /**
+   * Defines a new event type.
+   * @param name simple name of the event (prefixed to form the JFR name)
+   * @param label human readable label
+   * @param description description of the event
+   * @param fields additional fields for the event
+   * @return event type; disabled if JFR is not available
+   */
+  static FlightRecorderEvent define(String name, String label,
+      String description, Field... fields) {
+    if (JFR == null) {
+      return new FlightRecorderEvent(name, null, null);
+    }
+    try {
+      final List<Field> allFields = new ArrayList<>();
+      allFields.add(new Field(String.class, "validator", "Validator"));
+      allFields.addAll(Arrays.asList(fields));
+      final Object factory = JFR.createFactory(NAME_PREFIX + name, label,
+          description, allFields);
+      return new FlightRecorderEvent(name, factory, JFR.newEvent(factory));
+    }
+    catch (Throwable ex) {
+      LOGGER.debug("cannot define flight recorder event " + name + ": " + ex);
+      return new FlightRecorderEvent(name, null, null);
+    }
+  }
+
+  /**
+   * Gets the simple name of this event type.
+   * @return name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Tests whether this event type is enabled in a running recording.
+   * @return {@code true} if events of this type would be recorded
+   */
+  public boolean isEnabled() {
+    return prototype != null && JFR.isEnabled(prototype);
+  }
+
+  /**
+   * Begins timing an event of this type.
+   * @return event to pass to {@link #commit(Object, String, Object...)} or
+   *    {@code null} if this event type is not enabled
+   */
+  public Object begin() {
+    if (!isEnabled()) return null;
+    try {
+      final Object event = JFR.newEvent(factory);
+      JFR.begin(event);
+      return event;
+    }
+    catch (Throwable ex) {
+      LOGGER.debug("cannot begin flight recorder event " + name + ": " + ex);
+      return null;
+    }
+  }
+
+  /**
+   * Commits an event of this type.
+   * @param event event obtained from {@link #begin()}; if {@code null}
+   *    nothing is committed
+   * @param validator name of the validator associated with the event
+   * @param values values for the additional fields of this event type, in
+   *    the order given in its definition
+   */
+  public void commit(Object event, String validator, Object... values) {
+    if (event == null) return;
+    try {
+      set(event, validator, values);
+      JFR.commit(event);
+    }
+    catch (Throwable ex) {
+      LOGGER.debug("cannot commit flight recorder event " + name + ": " + ex);
+    }
+  }
+
+  /**
+   * Records an event of this type without timing it.
+   * <p>
+   * Callers should test {@link #isEnabled()} first, to avoid computing
+   * the field values when no recording is active.
+   * @param validator name of the validator associated with the event
+   * @param values values for the additional fields of this event type, in
+   *    the order given in its definition
+   */
+  public void record(String validator, Object... values) {
+    if (!isEnabled()) return;
+    try {
+      final Object event = JFR.newEvent(factory);
+      set(event, validator, values);
+      JFR.commit(event);
+    }
+    catch (Throwable ex) {
+      LOGGER.debug("cannot record flight recorder event " + name + ": " + ex);
+    }
+  }
+
+  private static void set(Object event, String validator, Object... values)
+      throws Throwable {
+    JFR.set(event, 0, validator);
+    for (int i = 0; i < values.length; i++) {
+      JFR.set(event, i + 1, values[i]);
+    }
+  }
+
+  /**
+   * Describes an additional field of an event type.
+   */
+  static final class Field {
+
+    final Class<?> type;
+    final String name;
+    final String label;
+    final boolean timespan;
+
+    Field(Class<?> type, String name, String label) {
+      this(type, name, label, false);
+    }
+
+    private Field(Class<?> type, String name, String label,
+        boolean timespan) {
+      this.type = type;
+      this.name = name;
+      this.label = label;
+      this.timespan = timespan;
+    }
+
+    /**
+     * Creates a {@code long} field that holds a duration in nanoseconds.
+     * @param name field name
+     * @param label human readable label
+     * @return field
+     */
+    static Field timespan(String name, String label) {
+      return new Field(long.class, name, label, true);
+    }
+
+  }
+
+  /**
+   * Reflective access to the {@code jdk.jfr} API.
+   */
+  private static final class Jfr {
+
+    private final Class<? extends Annotation> nameAnnotation;
+    private final Class<? extends Annotation> labelAnnotation;
+    private final Class<? extends Annotation> descriptionAnnotation;
+    private final Class<? extends Annotation> categoryAnnotation;
+    private final Class<? extends Annotation> timespanAnnotation;
+    private final Constructor<?> annotationElement;
+    private final Constructor<?> valueDescriptor;
+    private final MethodHandle create;
+    private final MethodHandle newEvent;
+    private final MethodHandle isEnabled;
+    private final MethodHandle begin;
+    private final MethodHandle set;
+    private final MethodHandle commit;
+
+    private Jfr(ClassLoader loader) throws ReflectiveOperationException {
+      nameAnnotation = annotation(loader, "jdk.jfr.Name");
+      labelAnnotation = annotation(loader, "jdk.jfr.Label");
+      descriptionAnnotation = annotation(loader, "jdk.jfr.Description");
+      categoryAnnotation = annotation(loader, "jdk.jfr.Category");
+      timespanAnnotation = annotation(loader, "jdk.jfr.Timespan");
+      annotationElement = Class.forName("jdk.jfr.AnnotationElement", false,
+          loader).getConstructor(Class.class, Object.class);
+      valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor", false,
+          loader).getConstructor(Class.class, String.class, List.class);
+      final Class<?> factoryClass =
+          Class.forName("jdk.jfr.EventFactory", false, loader);
+      final Class<?> eventClass =
+          Class.forName("jdk.jfr.Event", false, loader);
+
+      final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      create = lookup.unreflect(factoryClass.getMethod("create",
+          List.class, List.class));
+      newEvent = lookup.unreflect(factoryClass.getMethod("newEvent"))
+          .asType(MethodType.methodType(Object.class, Object.class));
+      isEnabled = lookup.unreflect(eventClass.getMethod("isEnabled"))
+          .asType(MethodType.methodType(boolean.class, Object.class));
+      begin = lookup.unreflect(eventClass.getMethod("begin"))
+          .asType(MethodType.methodType(void.class, Object.class));
+      set = lookup.unreflect(eventClass.getMethod("set",
+          int.class, Object.class))
+          .asType(MethodType.methodType(void.class, Object.class,
+              int.class, Object.class));
+      commit = lookup.unreflect(eventClass.getMethod("commit"))
+          .asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    static Jfr load() {
+      try {
+        return new Jfr(FlightRecorderEvent.class.getClassLoader());
+      }
+      catch (ReflectiveOperationException | LinkageError
+          | SecurityException ex) {
+        LOGGER.debug("flight recorder events are not available: " + ex);
+        return null;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(ClassLoader loader,
+        String name) throws ClassNotFoundException {
+      return (Class<? extends Annotation>) Class.forName(name, false, loader);
+    }
+
+    Object createFactory(String name, String label, String description,
+        List<Field> fields) throws Throwable {
+      final List<Object> annotations = Arrays.asList(
+          element(nameAnnotation, name),
+          element(labelAnnotation, label),
+          element(descriptionAnnotation, description),
+          element(categoryAnnotation, new String[] { CATEGORY }));
+
+      final List<Object> descriptors = new ArrayList<>();
+      for (final Field field : fields) {
+        final List<Object> fieldAnnotations = new ArrayList<>();
+        fieldAnnotations.add(element(labelAnnotation, field.label));
+        if (field.timespan) {
+          fieldAnnotations.add(element(timespanAnnotation, "NANOSECONDS"));
+        }
+        descriptors.add(valueDescriptor.newInstance(field.type, field.name,
+            fieldAnnotations));
+      }
+      return create.invoke(annotations, descriptors);
+    }
+
+    private Object element(Class<? extends Annotation> type, Object value)
+        throws ReflectiveOperationException {
+      return annotationElement.newInstance(type, value);
+    }
+
+    Object newEvent(Object factory) throws Throwable {
+      return (Object) newEvent.invokeExact(factory);
+    }
+
+    boolean isEnabled(Object event) {
+      try {
+        return (boolean) isEnabled.invokeExact(event);
+      }
+      catch (Throwable ex) {
+        return false;
+      }
+    }
+
+    void begin(Object event) throws Throwable {
+      begin.invokeExact(event);
+    }
+
+    void set(Object event, int index, Object value) throws Throwable {
+      set.invokeExact(event, index, value);
+    }
+
+    void commit(Object event) throws Throwable {
+      commit.invokeExact(event);
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jfr;
+
+import org.soulwing.jwt.extension.jfr.FlightRecorderEvent.Field;
+
+/**
+ * Flight recorder event types for the stages of JWT authentication.
+ * <p>
+ * All events appear in the {@code JWT} category with names prefixed by
+ * {@code org.soulwing.jwt}.
+ *
+ * @author Carl Harris
+ */
+public final class JwtEvents {
+
+  /**
+   * a bearer token was successfully validated; has an {@code elapsed} field
+   */
+  public static final FlightRecorderEvent TOKEN_VALIDATED =
+      FlightRecorderEvent.define("TokenValidated", "Token Validated",
+          "A bearer token was successfully validated",
+          Field.timespan("elapsed", "Elapsed"));
+
+  /**
+   * a bearer token was rejected; has {@code reason} and {@code elapsed}
+   * fields
+   */
+  public static final FlightRecorderEvent TOKEN_REJECTED =
+      FlightRecorderEvent.define("TokenRejected", "Token Rejected",
+          "A bearer token was rejected",
+          new Field(String.class, "reason", "Reason"),
+          Field.timespan("elapsed", "Elapsed"));
+
+  /**
+   * a certificate chain was fetched from a URL; has a {@code url} field
+   */
+  public static final FlightRecorderEvent CERTIFICATE_CHAIN_FETCHED =
+      FlightRecorderEvent.define("CertificateChainFetched",
+          "Certificate Chain Fetched",
+          "A certificate chain was fetched from a remote URL",
+          new Field(String.class, "url", "URL"));
+
+  /**
+   * a key was retrieved from a key provider; has {@code keyId} and
+   * {@code found} fields
+   */
+  public static final FlightRecorderEvent KEY_RETRIEVED =
+      FlightRecorderEvent.define("KeyRetrieved", "Key Retrieved",
+          "A key was retrieved from a key provider",
+          new Field(String.class, "keyId", "Key ID"),
+          new Field(boolean.class, "found", "Found"));
+
+  /**
+   * a cache was consulted during authentication; has {@code cache} and
+   * {@code hit} fields
+   */
+  public static final FlightRecorderEvent CACHE_ACCESS =
+      FlightRecorderEvent.define("CacheAccess", "Cache Access",
+          "A cache was consulted during authentication",
+          new Field(String.class, "cache", "Cache"),
+          new Field(boolean.class, "hit", "Hit"));
+
+  private JwtEvents() {
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import java.util.Locale;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.soulwing.jwt.extension.audit.AuditLog;
+
+/**
+ * An add step handler for {@link AuditLogDefinition}.
+ *
+ * @author Carl Harris
+ */
+class AuditLogAdd extends AbstractAddStepHandler {
+
+  static final AuditLogAdd INSTANCE = new AuditLogAdd();
+
+  private AuditLogAdd() {
+    super(new Parameters()
+        .addAttribute(AuditLogDefinition.ATTRIBUTES));
+  }
+
+  @Override
+  protected void performRuntime(OperationContext context, ModelNode operation,
+      ModelNode model) throws OperationFailedException {
+
+    final String name = PathAddress.pathAddress(
+        operation.require(ModelDescriptionConstants.OP_ADDR))
+        .getLastElement().getValue();
+
+    final AuditLogService service = AuditLogService.builder()
+        .name(name)
+        .path(AuditLogDefinition.PATH
+            .resolveModelAttribute(context, model).asString())
+        .relativeTo(AuditLogDefinition.RELATIVE_TO
+            .resolveModelAttribute(context, model).asStringOrNull())
+        .bufferSize(AuditLogDefinition.BUFFER_SIZE
+            .resolveModelAttribute(context, model).asInt())
+        .overflowPolicy(AuditLog.OverflowPolicy.valueOf(
+            AuditLogDefinition.OVERFLOW_POLICY
+                .resolveModelAttribute(context, model).asString()
+                .toUpperCase(Locale.ENGLISH)))
+        .maxFileSize(AuditLogDefinition.MAX_FILE_SIZE
+            .resolveModelAttribute(context, model).asLong())
+        .maxBackupIndex(AuditLogDefinition.MAX_BACKUP_INDEX
+            .resolveModelAttribute(context, model).asInt())
+        .build();
+
+    final CapabilityServiceBuilder<AuditLogService> builder =
+        context.getCapabilityServiceTarget().addCapability(
+            AuditLogDefinition.AUDIT_LOG_CAPABILITY.fromBaseCapability(name),
+            service);
+
+    service.setPathManager(builder.requiresCapability(
+        Capabilities.REF_PATH_MANAGER, PathManager.class));
+
+    builder.setInitialMode(ServiceController.Mode.ACTIVE).install();
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PersistentResourceDefinition;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.capability.DynamicNameMappers;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * A model definition for a resource that holds a configuration for an
+ * authentication audit log.
+ *
+ * @author Carl Harris
+ */
+class AuditLogDefinition extends PersistentResourceDefinition {
+
+  static final RuntimeCapability<Void> AUDIT_LOG_CAPABILITY =
+      RuntimeCapability.Builder.of(Capabilities.CAPABILITY_AUDIT_LOG,
+              true, AuditLogService.class)
+          .setDynamicNameMapper(DynamicNameMappers.PARENT)
+          .build();
+
+  static final SimpleAttributeDefinition PATH =
+      new SimpleAttributeDefinitionBuilder(Constants.PATH, ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(true)
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition RELATIVE_TO =
+      new SimpleAttributeDefinitionBuilder(Constants.RELATIVE_TO, ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition BUFFER_SIZE =
+      new SimpleAttributeDefinitionBuilder(Constants.BUFFER_SIZE,
+              ModelType.INT)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(8192))
+          .setValidator(new IntRangeValidator(1, true, true))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition OVERFLOW_POLICY =
+      new SimpleAttributeDefinitionBuilder(Constants.OVERFLOW_POLICY,
+              ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode("drop"))
+          .setValidator(new StringAllowedValuesValidator("drop", "block"))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition MAX_FILE_SIZE =
+      new SimpleAttributeDefinitionBuilder(Constants.MAX_FILE_SIZE,
+              ModelType.LONG)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(10485760L))
+          .setValidator(new LongRangeValidator(1, true, true))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition MAX_BACKUP_INDEX =
+      new SimpleAttributeDefinitionBuilder(Constants.MAX_BACKUP_INDEX,
+              ModelType.INT)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(5))
+          .setValidator(new IntRangeValidator(0, true, true))
+          .setRestartAllServices()
+          .build();
+
+  static final AttributeDefinition[] ATTRIBUTES = {
+      PATH,
+      RELATIVE_TO,
+      BUFFER_SIZE,
+      OVERFLOW_POLICY,
+      MAX_FILE_SIZE,
+      MAX_BACKUP_INDEX
+  };
+
+  static final ServiceMetricHandler<AuditLogService> METRICS =
+      new ServiceMetricHandler<>(AUDIT_LOG_CAPABILITY, AuditLogService.class)
+          .counter(Constants.DROPPED_EVENTS, MeasurementUnit.NONE,
+              AuditLogService::getDroppedEvents);
+
+  static final AuditLogDefinition INSTANCE = new AuditLogDefinition();
+
+  private AuditLogDefinition() {
+    super(new SimpleResourceDefinition.Parameters(
+        Constants.AUDIT_LOG_PATH,
+        JwtExtension.getResolver(Constants.AUDIT_LOG))
+        .setAddHandler(AuditLogAdd.INSTANCE)
+        .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE));
+  }
+
+  @Override
+  public Collection<AttributeDefinition> getAttributes() {
+    return Arrays.asList(ATTRIBUTES);
+  }
+
+  @Override
+  public void registerAttributes(
+      ManagementResourceRegistration resourceRegistration) {
+    super.registerAttributes(resourceRegistration);
+    METRICS.register(resourceRegistration);
+  }
+
+}
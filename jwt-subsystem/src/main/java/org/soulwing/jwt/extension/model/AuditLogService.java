@@ -0,0 +1,219 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import static org.soulwing.jwt.extension.model.ExtensionLogger.LOGGER;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.soulwing.jwt.extension.audit.AuditLog;
+import org.soulwing.jwt.extension.audit.RollingFileOutputStream;
+
+/**
+ * A service that provides an authentication audit log.
+ *
+ * @author Carl Harris
+ */
+class AuditLogService implements Service<AuditLogService> {
+
+  private static final String THREAD_NAME_PREFIX = "jwt-audit-log-";
+
+  private String name;
+  private String path;
+  private String relativeTo;
+  private int bufferSize;
+  private AuditLog.OverflowPolicy overflowPolicy;
+  private long maxFileSize;
+  private int maxBackupIndex;
+
+  private Supplier<PathManager> pathManager;
+
+  private volatile AuditLog auditLog;
+
+  private AuditLogService() {}
+
+  static class Builder {
+
+    private final AuditLogService service = new AuditLogService();
+
+    private Builder() {}
+
+    Builder name(String name) {
+      service.name = name;
+      return this;
+    }
+
+    Builder path(String path) {
+      service.path = path;
+      return this;
+    }
+
+    Builder relativeTo(String relativeTo) {
+      service.relativeTo = relativeTo;
+      return this;
+    }
+
+    Builder bufferSize(int bufferSize) {
+      service.bufferSize = bufferSize;
+      return this;
+    }
+
+    Builder overflowPolicy(AuditLog.OverflowPolicy overflowPolicy) {
+      service.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    Builder maxFileSize(long maxFileSize) {
+      service.maxFileSize = maxFileSize;
+      return this;
+    }
+
+    Builder maxBackupIndex(int maxBackupIndex) {
+      service.maxBackupIndex = maxBackupIndex;
+      return this;
+    }
+
+    AuditLogService build() {
+      if (service.name == null) {
+        throw new IllegalArgumentException("name is required");
+      }
+      if (service.path == null) {
+        throw new IllegalArgumentException("path is required");
+      }
+      if (service.bufferSize <= 0) {
+        throw new IllegalArgumentException("bufferSize must be positive");
+      }
+      if (service.overflowPolicy == null) {
+        service.overflowPolicy = AuditLog.OverflowPolicy.DROP;
+      }
+      if (service.maxFileSize <= 0) {
+        throw new IllegalArgumentException("maxFileSize must be positive");
+      }
+      if (service.maxBackupIndex < 0) {
+        throw new IllegalArgumentException(
+            "maxBackupIndex must not be negative");
+      }
+      return service;
+    }
+
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public void start(StartContext startContext) throws StartException {
+    final String resolvedPath = Optional.ofNullable(relativeTo)
+        .map(p -> pathManager.get().resolveRelativePathEntry(path, p))
+        .orElse(path);
+
+    try {
+      final AuditLog auditLog = new AuditLog(THREAD_NAME_PREFIX + name,
+          new RollingFileOutputStream(Paths.get(resolvedPath), maxFileSize,
+              maxBackupIndex),
+          bufferSize, overflowPolicy);
+      auditLog.start();
+      this.auditLog = auditLog;
+      LOGGER.debug(startContext.getController().getName() + " started");
+    }
+    catch (IOException ex) {
+      LOGGER.error("error opening audit log at path " + resolvedPath
+          + ": " + ex.getMessage());
+      throw new StartException(ex);
+    }
+  }
+
+  @Override
+  public void stop(StopContext stopContext) {
+    if (auditLog != null) {
+      auditLog.close();
+      if (auditLog.getDroppedCount() > 0) {
+        LOGGER.warn("audit log " + name + " dropped "
+            + auditLog.getDroppedCount() + " events");
+      }
+      auditLog = null;
+    }
+    LOGGER.debug(stopContext.getController().getName() + " stopped");
+  }
+
+  @Override
+  public AuditLogService getValue()
+      throws IllegalStateException, IllegalArgumentException {
+    return this;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  String getRelativeTo() {
+    return relativeTo;
+  }
+
+  int getBufferSize() {
+    return bufferSize;
+  }
+
+  AuditLog.OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  int getMaxBackupIndex() {
+    return maxBackupIndex;
+  }
+
+  Supplier<PathManager> getPathManager() {
+    return pathManager;
+  }
+
+  void setPathManager(Supplier<PathManager> pathManager) {
+    this.pathManager = pathManager;
+  }
+
+  AuditLog getAuditLog() {
+    return auditLog;
+  }
+
+  /**
+   * Gets the number of events dropped by the audit log.
+   * @return number of dropped events or {@code null} if the log is not open
+   */
+  Long getDroppedEvents() {
+    final AuditLog auditLog = this.auditLog;
+    return auditLog != null ? auditLog.getDroppedCount() : null;
+  }
+
+}
@@ -27,10 +27,12 @@ public interface Capabilities {
 
   String CAPABILITY_JWT = "org.soulwing.jwt";
 
+  String CAPABILITY_AUDIT_LOG = CAPABILITY_JWT + ".audit-log";
   String CAPABILITY_CLAIM_ASSERTION = CAPABILITY_JWT + ".claim-assertion";
   String CAPABILITY_CLAIM_TRANSFORM = CAPABILITY_JWT + ".claim-transform";
   String CAPABILITY_ENCRYPTION = CAPABILITY_JWT + ".encryption";
   String CAPABILITY_KEY_PAIR_STORAGE = CAPABILITY_JWT + ".key-pair-storage";
+  String CAPABILITY_REVOCATION_LIST = CAPABILITY_JWT + ".revocation-list";
   String CAPABILITY_SECRET = CAPABILITY_JWT + ".secret";
   String CAPABILITY_SECRET_KEY = CAPABILITY_JWT + ".secret-key";
   String CAPABILITY_SIGNATURE = CAPABILITY_JWT + ".signature";
@@ -117,6 +117,9 @@ class ClaimAssertionService implements Service<ClaimAssertionService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    if (module != null) {
+      serviceLocator.invalidate(module);
+    }
     LOGGER.debug(stopContext.getController().getName() + " stop");
   }
 
@@ -46,6 +46,8 @@ class ClaimTransformService implements Service<ClaimTransformService> {
   private List<Supplier<TransformerService>> transformerServices =
       new ArrayList<>();
 
+  private volatile TransformConfiguration configuration;
+
   private ClaimTransformService() {}
 
   static class Builder {
@@ -71,11 +73,13 @@ class ClaimTransformService implements Service<ClaimTransformService> {
 
   @Override
   public void start(StartContext startContext) throws StartException {
+    configuration = newConfiguration();
     LOGGER.debug(startContext.getController().getName() + " started");
   }
 
   @Override
   public void stop(StopContext stopContext) {
+    configuration = null;
     LOGGER.debug(stopContext.getController().getName() + " stop");
   }
 
@@ -98,7 +102,20 @@ class ClaimTransformService implements Service<ClaimTransformService> {
     this.transformerServices.addAll(transformerServices);
   }
 
+  /**
+   * Gets the configuration for this claim transform.
+   * <p>
+   * While the service is started, the configuration (and the function that
+   * composes its transformers) is created just once, when the service starts.
+   *
+   * @return configuration
+   */
   TransformConfiguration getConfiguration() {
+    final TransformConfiguration configuration = this.configuration;
+    return configuration != null ? configuration : newConfiguration();
+  }
+
+  private TransformConfiguration newConfiguration() {
     return new InnerConfiguration(claim,
         transformerServices.stream()
             .map(Supplier::get)
@@ -113,7 +130,7 @@ class ClaimTransformService implements Service<ClaimTransformService> {
 
     InnerConfiguration(String claim, List<Function<?, ?>> transformers) {
       this.claim = claim;
-      this.transformer = new TransformerSequence(transformers);
+      this.transformer = TransformerSequence.compose(transformers);
     }
 
     @Override
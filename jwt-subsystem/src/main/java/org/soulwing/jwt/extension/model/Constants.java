@@ -27,9 +27,17 @@ import org.jboss.as.controller.PathElement;
  */
 public interface Constants {
 
+  String ACCOUNT_CACHE_HITS = "account-cache-hits";
+  String ACCOUNT_CACHE_MISSES = "account-cache-misses";
+  String ADAPTIVE_ASSERTION_ORDER = "adaptive-assertion-order";
   String ALGORITHM = "algorithm";
   String ASSERTIONS = "assertions";
   String AUDIENCE = "audience";
+  String AUDIT_LOG = "audit-log";
+  String AUTHENTICATION_FAILURES = "authentication-failures";
+  String AUTHENTICATION_SUCCESSES = "authentication-successes";
+  String AUTHENTICATION_TIME = "authentication-time";
+  String BUFFER_SIZE = "buffer-size";
   String CERT_SUBJECT_NAME = "certificate-subject-name";
   String CHECK_CERT_EXPIRATION = "check-certificate-expiration";
   String CHECK_CERT_REVOCATION = "check-certificate-revocation";
@@ -38,7 +46,10 @@ public interface Constants {
   String CLAIM_ASSERTION = "claim-assertion";
   String CLAIM_TRANSFORM = "claim-transform";
   String COMPRESSION_ALGORITHM = "compression-algorithm";
+  String CONNECTION_REUSE_HITS = "connection-reuse-hits";
+  String CONNECTION_REUSE_MISSES = "connection-reuse-misses";
   String CONTENT_ENCRYPTION_ALGORITHM = "content-encryption-algorithm";
+  String DROPPED_EVENTS = "dropped-events";
   String ENCRYPTION = "encryption";
   String EXPIRATION_TOLERANCE = "expiration-tolerance";
   String ID = "id";
@@ -47,12 +58,21 @@ public interface Constants {
   String KEY_MANAGEMENT_ALGORITHM = "key-management-algorithm";
   String KEY_PAIR_STORAGE = "key-pair-storage";
   String LENGTH = "length";
+  String LOAD_AGE = "load-age";
+  String MAX_BACKUP_INDEX = "max-backup-index";
+  String MAX_FILE_SIZE = "max-file-size";
   String PROVIDER = "provider";
   String MODULE = "module";
+  String OVERFLOW_POLICY = "overflow-policy";
   String PASSWORD_SECRET = "password-secret";
   String PATH = "path";
   String PROPERTIES = "properties";
   String RELATIVE_TO = "relative-to";
+  String RELOAD_INTERVAL = "reload-interval";
+  String REPLAY_CACHE_SIZE = "replay-cache-size";
+  String REPLAY_OVERFLOW_POLICY = "replay-overflow-policy";
+  String REPLAY_PROTECTION = "replay-protection";
+  String REVOCATION_LIST = "revocation-list";
   String STATISTICS_ENABLED = "statistics-enabled";
   String SECRET = "secret";
   String SECRET_KEY = "secret-key";
@@ -65,10 +85,12 @@ public interface Constants {
   String TYPE = "type";
   String VALIDATOR = "validator";
 
+  PathElement AUDIT_LOG_PATH = PathElement.pathElement(AUDIT_LOG);
   PathElement ENCRYPTION_PATH = PathElement.pathElement(ENCRYPTION);
   PathElement CLAIM_ASSERTION_PATH = PathElement.pathElement(CLAIM_ASSERTION);
   PathElement CLAIM_TRANSFORM_PATH = PathElement.pathElement(CLAIM_TRANSFORM);
   PathElement KEY_PAIR_STORAGE_PATH = PathElement.pathElement(KEY_PAIR_STORAGE);
+  PathElement REVOCATION_LIST_PATH = PathElement.pathElement(REVOCATION_LIST);
   PathElement SECRET_PATH = PathElement.pathElement(SECRET);
   PathElement SECRET_KEY_PATH = PathElement.pathElement(SECRET_KEY);
   PathElement SIGNATURE_PATH = PathElement.pathElement(SIGNATURE);
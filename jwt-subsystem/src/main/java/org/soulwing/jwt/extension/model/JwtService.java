@@ -24,6 +24,7 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.soulwing.jwt.extension.jaas.DelegatingJwtLoginModule;
 
 /**
  * An MSC service implementation for JWT.
@@ -68,6 +69,7 @@ class JwtService implements Service<JwtService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    DelegatingJwtLoginModule.invalidate();
     LOGGER.info("JWT service " + JwtExtension.CURRENT_MODEL_VERSION + " stopped");
   }
 
@@ -82,6 +82,8 @@ class JwtSubsystemDefinition extends PersistentResourceDefinition {
     registration.registerSubModel(ClaimAssertionDefinition.INSTANCE);
     registration.registerSubModel(SignatureDefinition.INSTANCE);
     registration.registerSubModel(EncryptionDefinition.INSTANCE);
+    registration.registerSubModel(RevocationListDefinition.INSTANCE);
+    registration.registerSubModel(AuditLogDefinition.INSTANCE);
     registration.registerSubModel(ValidatorDefinition.INSTANCE);
   }
 
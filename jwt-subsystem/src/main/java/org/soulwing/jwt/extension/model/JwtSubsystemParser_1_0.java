@@ -94,6 +94,19 @@ class JwtSubsystemParser_1_0 extends PersistentResourceXMLParser {
                 EncryptionDefinition.COMPRESSION_ALGORITHM,
                 EncryptionDefinition.KEY_PAIR_STORAGE,
                 EncryptionDefinition.SECRET_KEYS))
+        .addChild(builder(RevocationListDefinition.INSTANCE.getPathElement())
+            .addAttributes(
+                RevocationListDefinition.PATH,
+                RevocationListDefinition.RELATIVE_TO,
+                RevocationListDefinition.RELOAD_INTERVAL))
+        .addChild(builder(AuditLogDefinition.INSTANCE.getPathElement())
+            .addAttributes(
+                AuditLogDefinition.PATH,
+                AuditLogDefinition.RELATIVE_TO,
+                AuditLogDefinition.BUFFER_SIZE,
+                AuditLogDefinition.OVERFLOW_POLICY,
+                AuditLogDefinition.MAX_FILE_SIZE,
+                AuditLogDefinition.MAX_BACKUP_INDEX))
         .addChild(builder(ValidatorDefinition.INSTANCE.getPathElement())
             .addAttributes(
                 ValidatorDefinition.ISSUER,
@@ -103,7 +116,13 @@ class JwtSubsystemParser_1_0 extends PersistentResourceXMLParser {
                 ValidatorDefinition.SIGNATURE,
                 ValidatorDefinition.ENCRYPTION,
                 ValidatorDefinition.TRANSFORMS,
-                ValidatorDefinition.ASSERTIONS))
+                ValidatorDefinition.ASSERTIONS,
+                ValidatorDefinition.ADAPTIVE_ASSERTION_ORDER,
+                ValidatorDefinition.REPLAY_PROTECTION,
+                ValidatorDefinition.REPLAY_CACHE_SIZE,
+                ValidatorDefinition.REPLAY_OVERFLOW_POLICY,
+                ValidatorDefinition.REVOCATION_LIST,
+                ValidatorDefinition.AUDIT_LOG))
         .build();
   }
 
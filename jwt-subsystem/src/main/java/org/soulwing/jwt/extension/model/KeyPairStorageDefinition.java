@@ -30,6 +30,8 @@ import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -71,6 +73,12 @@ class KeyPairStorageDefinition extends PersistentResourceDefinition {
       PROVIDER, MODULE, PROPERTIES
   };
 
+  static final ServiceMetricHandler<KeyPairStorageService> METRICS =
+      new ServiceMetricHandler<>(KEY_PAIR_STORAGE_CAPABILITY,
+              KeyPairStorageService.class)
+          .gauge(Constants.LOAD_AGE, MeasurementUnit.SECONDS,
+              KeyPairStorageService::getLoadAge);
+
   static final KeyPairStorageDefinition INSTANCE = new KeyPairStorageDefinition();
 
   private KeyPairStorageDefinition() {
@@ -86,4 +94,11 @@ class KeyPairStorageDefinition extends PersistentResourceDefinition {
     return Arrays.asList(ATTRIBUTES);
   }
 
+  @Override
+  public void registerAttributes(
+      ManagementResourceRegistration resourceRegistration) {
+    super.registerAttributes(resourceRegistration);
+    METRICS.register(resourceRegistration);
+  }
+
 }
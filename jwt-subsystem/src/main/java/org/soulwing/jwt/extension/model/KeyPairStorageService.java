@@ -21,6 +21,7 @@ package org.soulwing.jwt.extension.model;
 import static org.soulwing.jwt.extension.model.ExtensionLogger.LOGGER;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -47,6 +48,7 @@ class KeyPairStorageService implements Service<KeyPairStorageService> {
   private Properties properties = new Properties();
 
   private KeyPairStorage storage;
+  private volatile long loadTime;
 
   private KeyPairStorageService() {}
 
@@ -94,6 +96,7 @@ class KeyPairStorageService implements Service<KeyPairStorageService> {
     try {
       storage = KeyPairStorageLocator.getInstance(provider, properties,
           () -> serviceLocator.getLoader(KeyPairStorageProvider.class, module));
+      loadTime = System.currentTimeMillis();
 
       LOGGER.debug(startContext.getController().getName() + " started");
     }
@@ -126,6 +129,16 @@ class KeyPairStorageService implements Service<KeyPairStorageService> {
     return properties;
   }
 
+  /**
+   * Gets the time elapsed since the key pair storage was obtained from
+   * its provider. The storage is obtained only when this service starts.
+   * @return age in seconds
+   */
+  long getLoadAge() {
+    return TimeUnit.MILLISECONDS.toSeconds(
+        System.currentTimeMillis() - loadTime);
+  }
+
   KeyPairStorage getKeyPairStorage() {
     return storage;
   }
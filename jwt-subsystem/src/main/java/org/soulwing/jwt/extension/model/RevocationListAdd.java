@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * An add step handler for {@link RevocationListDefinition}.
+ *
+ * @author Carl Harris
+ */
+class RevocationListAdd extends AbstractAddStepHandler {
+
+  static final RevocationListAdd INSTANCE = new RevocationListAdd();
+
+  private RevocationListAdd() {
+    super(new Parameters()
+        .addAttribute(RevocationListDefinition.ATTRIBUTES));
+  }
+
+  @Override
+  protected void performRuntime(OperationContext context, ModelNode operation,
+      ModelNode model) throws OperationFailedException {
+
+    final String name = PathAddress.pathAddress(
+        operation.require(ModelDescriptionConstants.OP_ADDR))
+        .getLastElement().getValue();
+
+    final RevocationListService service = RevocationListService.builder()
+        .path(RevocationListDefinition.PATH
+            .resolveModelAttribute(context, model).asString())
+        .relativeTo(RevocationListDefinition.RELATIVE_TO
+            .resolveModelAttribute(context, model).asStringOrNull())
+        .reloadInterval(RevocationListDefinition.RELOAD_INTERVAL
+            .resolveModelAttribute(context, model).asLong())
+        .build();
+
+    final CapabilityServiceBuilder<RevocationListService> builder =
+        context.getCapabilityServiceTarget().addCapability(
+            RevocationListDefinition.REVOCATION_LIST_CAPABILITY
+                .fromBaseCapability(name),
+            service);
+
+    service.setPathManager(builder.requiresCapability(
+        Capabilities.REF_PATH_MANAGER, PathManager.class));
+
+    builder.setInitialMode(ServiceController.Mode.ACTIVE).install();
+  }
+
+}
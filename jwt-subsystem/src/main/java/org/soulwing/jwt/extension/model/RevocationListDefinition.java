@@ -0,0 +1,96 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PersistentResourceDefinition;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.capability.DynamicNameMappers;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * A model definition for a resource that holds a configuration for a list
+ * of revoked tokens and subjects.
+ *
+ * @author Carl Harris
+ */
+class RevocationListDefinition extends PersistentResourceDefinition {
+
+  static final RuntimeCapability<Void> REVOCATION_LIST_CAPABILITY =
+      RuntimeCapability.Builder.of(Capabilities.CAPABILITY_REVOCATION_LIST,
+              true, RevocationListService.class)
+          .setDynamicNameMapper(DynamicNameMappers.PARENT)
+          .build();
+
+  static final SimpleAttributeDefinition PATH =
+      new SimpleAttributeDefinitionBuilder(Constants.PATH, ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(true)
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition RELATIVE_TO =
+      new SimpleAttributeDefinitionBuilder(Constants.RELATIVE_TO, ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition RELOAD_INTERVAL =
+      new SimpleAttributeDefinitionBuilder(Constants.RELOAD_INTERVAL,
+              ModelType.LONG)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(60L))
+          .setValidator(new LongRangeValidator(1, true, true))
+          .setRestartAllServices()
+          .build();
+
+  static final AttributeDefinition[] ATTRIBUTES = {
+      PATH,
+      RELATIVE_TO,
+      RELOAD_INTERVAL
+  };
+
+  static final RevocationListDefinition INSTANCE =
+      new RevocationListDefinition();
+
+  private RevocationListDefinition() {
+    super(new SimpleResourceDefinition.Parameters(
+        Constants.REVOCATION_LIST_PATH,
+        JwtExtension.getResolver(Constants.REVOCATION_LIST))
+        .setAddHandler(RevocationListAdd.INSTANCE)
+        .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE));
+  }
+
+  @Override
+  public Collection<AttributeDefinition> getAttributes() {
+    return Arrays.asList(ATTRIBUTES);
+  }
+
+}
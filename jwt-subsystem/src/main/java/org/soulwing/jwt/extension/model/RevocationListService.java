@@ -0,0 +1,166 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import static org.soulwing.jwt.extension.model.ExtensionLogger.LOGGER;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.soulwing.jwt.extension.service.RevocationList;
+
+/**
+ * A service that provides a list of revoked tokens and subjects.
+ * <p>
+ * While the service is started, a scheduled task on a thread owned by the
+ * service reloads the list at the configured interval, so that a token
+ * check never performs a reload itself.
+ *
+ * @author Carl Harris
+ */
+class RevocationListService implements Service<RevocationListService> {
+
+  private String path;
+  private String relativeTo;
+  private long reloadInterval;
+
+  private Supplier<PathManager> pathManager;
+
+  private RevocationList revocationList;
+  private ScheduledExecutorService reloadExecutor;
+
+  private RevocationListService() {}
+
+  static class Builder {
+
+    private final RevocationListService service = new RevocationListService();
+
+    private Builder() {}
+
+    Builder path(String path) {
+      service.path = path;
+      return this;
+    }
+
+    Builder relativeTo(String relativeTo) {
+      service.relativeTo = relativeTo;
+      return this;
+    }
+
+    Builder reloadInterval(long reloadInterval) {
+      service.reloadInterval = reloadInterval;
+      return this;
+    }
+
+    RevocationListService build() {
+      if (service.path == null) {
+        throw new IllegalArgumentException("path is required");
+      }
+      if (service.reloadInterval <= 0) {
+        throw new IllegalArgumentException("reloadInterval must be positive");
+      }
+      return service;
+    }
+
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public void start(StartContext startContext) throws StartException {
+    final String resolvedPath = Optional.ofNullable(relativeTo)
+        .map(p -> pathManager.get().resolveRelativePathEntry(path, p))
+        .orElse(path);
+
+    final RevocationList revocationList =
+        new RevocationList(Paths.get(resolvedPath));
+    try {
+      revocationList.load();
+    }
+    catch (IOException | RuntimeException ex) {
+      LOGGER.error("error loading revocation list at path " + resolvedPath
+          + ": " + ex.getMessage());
+      throw new StartException(ex);
+    }
+    this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "jwt-revocation-list-reload");
+          thread.setDaemon(true);
+          return thread;
+        });
+    reloadExecutor.scheduleWithFixedDelay(revocationList::reload,
+        reloadInterval, reloadInterval, TimeUnit.SECONDS);
+    this.revocationList = revocationList;
+    LOGGER.debug(startContext.getController().getName() + " started");
+  }
+
+  @Override
+  public void stop(StopContext stopContext) {
+    if (reloadExecutor != null) {
+      reloadExecutor.shutdownNow();
+      reloadExecutor = null;
+    }
+    revocationList = null;
+    LOGGER.debug(stopContext.getController().getName() + " stopped");
+  }
+
+  @Override
+  public RevocationListService getValue()
+      throws IllegalStateException, IllegalArgumentException {
+    return this;
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  String getRelativeTo() {
+    return relativeTo;
+  }
+
+  long getReloadInterval() {
+    return reloadInterval;
+  }
+
+  Supplier<PathManager> getPathManager() {
+    return pathManager;
+  }
+
+  void setPathManager(Supplier<PathManager> pathManager) {
+    this.pathManager = pathManager;
+  }
+
+  RevocationList getRevocationList() {
+    return revocationList;
+  }
+
+}
@@ -29,6 +29,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -75,6 +77,12 @@ class SecretKeyDefinition extends PersistentResourceDefinition {
       ServiceProviderAttributes.PROPERTIES
   };
 
+  static final ServiceMetricHandler<SecretKeyService> METRICS =
+      new ServiceMetricHandler<>(SECRET_KEY_CAPABILITY,
+              SecretKeyService.class)
+          .gauge(Constants.LOAD_AGE, MeasurementUnit.SECONDS,
+              SecretKeyService::getLoadAge);
+
   static final SecretKeyDefinition INSTANCE = new SecretKeyDefinition();
 
   private SecretKeyDefinition() {
@@ -89,4 +97,11 @@ class SecretKeyDefinition extends PersistentResourceDefinition {
     return Arrays.asList(ATTRIBUTES);
   }
 
+  @Override
+  public void registerAttributes(
+      ManagementResourceRegistration resourceRegistration) {
+    super.registerAttributes(resourceRegistration);
+    METRICS.register(resourceRegistration);
+  }
+
 }
@@ -21,6 +21,7 @@ package org.soulwing.jwt.extension.model;
 import static org.soulwing.jwt.extension.model.ExtensionLogger.LOGGER;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 
 import org.jboss.msc.service.Service;
@@ -52,6 +53,7 @@ class SecretKeyService implements Service<SecretKeyService> {
   private Properties properties = new Properties();
 
   private SecretKeyProvider secretKeyProvider;
+  private volatile long loadTime;
 
   private SecretKeyService() {}
 
@@ -122,6 +124,7 @@ class SecretKeyService implements Service<SecretKeyService> {
     try {
       secretKeyProvider = serviceLocator.locate(SecretKeyProvider.class,
           provider, module);
+      loadTime = System.currentTimeMillis();
       LOGGER.debug(startContext.getController().getName() + " started");
     }
     catch (NoSuchServiceProviderException ex) {
@@ -138,6 +141,9 @@ class SecretKeyService implements Service<SecretKeyService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    if (module != null) {
+      serviceLocator.invalidate(module);
+    }
     LOGGER.debug(stopContext.getController().getName() + " stop");
   }
 
@@ -172,8 +178,20 @@ class SecretKeyService implements Service<SecretKeyService> {
   }
 
   SecretKeyConfiguration getSecretKey() throws SecretException {
-    return new InnerConfiguration(
-        secretKeyProvider.getSecretKey(type, length, properties));
+    final SecretKey key =
+        secretKeyProvider.getSecretKey(type, length, properties);
+    loadTime = System.currentTimeMillis();
+    return new InnerConfiguration(key);
+  }
+
+  /**
+   * Gets the time elapsed since the secret key was last obtained from
+   * its provider.
+   * @return age in seconds
+   */
+  long getLoadAge() {
+    return TimeUnit.MILLISECONDS.toSeconds(
+        System.currentTimeMillis() - loadTime);
   }
 
   private class InnerConfiguration implements SecretKeyConfiguration {
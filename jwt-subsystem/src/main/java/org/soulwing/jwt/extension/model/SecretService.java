@@ -111,6 +111,9 @@ class SecretService implements Service<SecretService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    if (module != null) {
+      serviceLocator.invalidate(module);
+    }
     LOGGER.debug(stopContext.getController().getName() + " stop");
   }
 
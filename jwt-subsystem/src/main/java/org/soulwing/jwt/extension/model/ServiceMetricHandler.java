@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * A read handler for runtime metrics whose values are obtained from the
+ * service installed for a resource's capability.
+ * <p>
+ * Metrics registered with this handler appear as runtime attributes of the
+ * resource, and are thereby exported through the server's metrics endpoint.
+ * A metric is undefined while the service is not running, or when the
+ * function that reads it returns {@code null}.
+ *
+ * @param <S> service type
+ * @author Carl Harris
+ */
+class ServiceMetricHandler<S> extends AbstractRuntimeOnlyHandler {
+
+  private final List<AttributeDefinition> metrics = new ArrayList<>();
+  private final Map<String, Function<S, Long>> readers = new HashMap<>();
+
+  private final RuntimeCapability<Void> capability;
+  private final Class<S> serviceType;
+
+  ServiceMetricHandler(RuntimeCapability<Void> capability,
+      Class<S> serviceType) {
+    this.capability = capability;
+    this.serviceType = serviceType;
+  }
+
+  /**
+   * Adds a metric whose value only increases while the service is running.
+   * @param name attribute name
+   * @param unit unit of measure
+   * @param reader function that reads the metric from the service
+   * @return this handler
+   */
+  ServiceMetricHandler<S> counter(String name, MeasurementUnit unit,
+      Function<S, Long> reader) {
+    return metric(name, unit, reader, AttributeAccess.Flag.COUNTER_METRIC);
+  }
+
+  /**
+   * Adds a metric whose value may increase or decrease.
+   * @param name attribute name
+   * @param unit unit of measure
+   * @param reader function that reads the metric from the service
+   * @return this handler
+   */
+  ServiceMetricHandler<S> gauge(String name, MeasurementUnit unit,
+      Function<S, Long> reader) {
+    return metric(name, unit, reader, AttributeAccess.Flag.GAUGE_METRIC);
+  }
+
+  private ServiceMetricHandler<S> metric(String name, MeasurementUnit unit,
+      Function<S, Long> reader, AttributeAccess.Flag flag) {
+    metrics.add(new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+        .setRequired(false)
+        .setStorageRuntime()
+        .setMeasurementUnit(unit)
+        .addFlag(flag)
+        .build());
+    readers.put(name, reader);
+    return this;
+  }
+
+  /**
+   * Registers all of the metrics of this handler.
+   * @param registration registration for the resource
+   */
+  void register(ManagementResourceRegistration registration) {
+    for (final AttributeDefinition metric : metrics) {
+      registration.registerMetric(metric, this);
+    }
+  }
+
+  @Override
+  protected void executeRuntimeStep(OperationContext context,
+      ModelNode operation) {
+    final Function<S, Long> reader = readers.get(
+        operation.require(ModelDescriptionConstants.NAME).asString());
+    if (reader == null) return;
+
+    final ServiceController<?> controller = context.getServiceRegistry(false)
+        .getService(capability.getCapabilityServiceName(
+            context.getCurrentAddressValue()));
+    if (controller == null
+        || controller.getState() != ServiceController.State.UP) return;
+
+    final Long value = reader.apply(serviceType.cast(controller.getValue()));
+    if (value != null) {
+      context.getResult().set(value);
+    }
+  }
+
+}
@@ -112,6 +112,9 @@ class TransformerService implements Service<TransformerService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    if (module != null) {
+      serviceLocator.invalidate(module);
+    }
     LOGGER.debug(stopContext.getController().getName() + " stopped");
   }
 
@@ -29,6 +29,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -76,6 +78,12 @@ class TrustStoreDefinition extends PersistentResourceDefinition {
       ServiceProviderAttributes.PROPERTIES
   };
 
+  static final ServiceMetricHandler<TrustStoreService> METRICS =
+      new ServiceMetricHandler<>(TRUST_STORE_CAPABILITY,
+              TrustStoreService.class)
+          .gauge(Constants.LOAD_AGE, MeasurementUnit.SECONDS,
+              TrustStoreService::getLoadAge);
+
   static final TrustStoreDefinition INSTANCE = new TrustStoreDefinition();
 
   private TrustStoreDefinition() {
@@ -91,4 +99,11 @@ class TrustStoreDefinition extends PersistentResourceDefinition {
     return Arrays.asList(ATTRIBUTES);
   }
 
+  @Override
+  public void registerAttributes(
+      ManagementResourceRegistration resourceRegistration) {
+    super.registerAttributes(resourceRegistration);
+    METRICS.register(resourceRegistration);
+  }
+
 }
@@ -25,6 +25,7 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.services.path.PathManager;
@@ -59,6 +60,7 @@ class TrustStoreService implements Service<TrustStoreService> {
   private Supplier<PathManager> pathManager;
 
   private KeyStore trustStore;
+  private volatile long loadTime;
 
   private TrustStoreService() {}
 
@@ -129,6 +131,7 @@ class TrustStoreService implements Service<TrustStoreService> {
 
       trustStore =
           trustStoreProvider.getTrustStore(resolvedPath, secret, properties);
+      loadTime = System.currentTimeMillis();
 
       if (secret != null) {
         secret.destroy();
@@ -166,6 +169,9 @@ class TrustStoreService implements Service<TrustStoreService> {
 
   @Override
   public void stop(StopContext stopContext) {
+    if (module != null) {
+      serviceLocator.invalidate(module);
+    }
     LOGGER.debug(stopContext.getController().getName() + " stopped");
   }
 
@@ -195,6 +201,16 @@ class TrustStoreService implements Service<TrustStoreService> {
     return properties;
   }
 
+  /**
+   * Gets the time elapsed since the trust store was loaded. The trust store
+   * is loaded only when this service starts.
+   * @return age in seconds
+   */
+  long getLoadAge() {
+    return TimeUnit.MILLISECONDS.toSeconds(
+        System.currentTimeMillis() - loadTime);
+  }
+
   Supplier<SecretService> getPasswordSecretService() {
     return passwordSecretService;
   }
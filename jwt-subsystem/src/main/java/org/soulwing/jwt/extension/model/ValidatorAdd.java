@@ -20,6 +20,7 @@ package org.soulwing.jwt.extension.model;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
@@ -30,6 +31,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
+import org.soulwing.jwt.extension.service.ReplayProtectionConfiguration;
 
 /**
  * An add step handler for {@link ValidatorDefinition}.
@@ -66,7 +68,14 @@ class ValidatorAdd extends AbstractAddStepHandler {
         .resolveModelAttribute(context, model).asListOrEmpty()
         .stream().map(ModelNode::asString).collect(Collectors.toList());
 
+    final String revocationList = ValidatorDefinition.REVOCATION_LIST
+        .resolveModelAttribute(context, model).asStringOrNull();
+
+    final String auditLog = ValidatorDefinition.AUDIT_LOG
+        .resolveModelAttribute(context, model).asStringOrNull();
+
     final ValidatorService service = ValidatorService.builder()
+        .name(name)
         .issuer(ValidatorDefinition.ISSUER
             .resolveModelAttribute(context, model).asString())
         .issuerUrl(URI.create(ValidatorDefinition.ISSUER_URL
@@ -75,6 +84,16 @@ class ValidatorAdd extends AbstractAddStepHandler {
             .resolveModelAttribute(context, model).asStringOrNull())
         .expirationTolerance(ValidatorDefinition.EXPIRATION_TOLERANCE
             .resolveModelAttribute(context, model).asLong())
+        .adaptiveAssertionOrder(ValidatorDefinition.ADAPTIVE_ASSERTION_ORDER
+            .resolveModelAttribute(context, model).asBoolean())
+        .replayProtection(ValidatorDefinition.REPLAY_PROTECTION
+            .resolveModelAttribute(context, model).asBoolean())
+        .replayCacheSize(ValidatorDefinition.REPLAY_CACHE_SIZE
+            .resolveModelAttribute(context, model).asInt())
+        .replayOverflowPolicy(ReplayProtectionConfiguration.OverflowPolicy
+            .valueOf(ValidatorDefinition.REPLAY_OVERFLOW_POLICY
+                .resolveModelAttribute(context, model).asString()
+                .toUpperCase(Locale.ENGLISH).replace('-', '_')))
         .build();
 
     final CapabilityServiceBuilder<ValidatorService> builder =
@@ -82,6 +101,10 @@ class ValidatorAdd extends AbstractAddStepHandler {
         .addCapability(ValidatorDefinition.VALIDATOR_CAPABILITY
             .fromBaseCapability(name), service);
 
+    service.setJwtService(
+        builder.requiresCapability(Capabilities.CAPABILITY_JWT,
+            JwtService.class));
+
     service.setSignatureService(
         builder.requiresCapability(Capabilities.CAPABILITY_SIGNATURE,
         SignatureService.class, signature));
@@ -92,6 +115,18 @@ class ValidatorAdd extends AbstractAddStepHandler {
               EncryptionService.class, encryption));
     }
 
+    if (revocationList != null) {
+      service.setRevocationListService(
+          builder.requiresCapability(Capabilities.CAPABILITY_REVOCATION_LIST,
+              RevocationListService.class, revocationList));
+    }
+
+    if (auditLog != null) {
+      service.setAuditLogService(
+          builder.requiresCapability(Capabilities.CAPABILITY_AUDIT_LOG,
+              AuditLogService.class, auditLog));
+    }
+
     service.setTransformServices(transforms.stream().map(transform ->
         builder.requiresCapability(Capabilities.CAPABILITY_CLAIM_TRANSFORM,
             ClaimTransformService.class, transform)).collect(Collectors.toList()));
@@ -20,6 +20,7 @@ package org.soulwing.jwt.extension.model;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Function;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.AttributeMarshaller;
@@ -32,8 +33,13 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
 
 /**
  * A model definition for a resource that provides a configuration for JWT
@@ -114,6 +120,61 @@ class ValidatorDefinition extends PersistentResourceDefinition {
           .setRestartAllServices()
           .build();
 
+  static final SimpleAttributeDefinition ADAPTIVE_ASSERTION_ORDER =
+      new SimpleAttributeDefinitionBuilder(
+              Constants.ADAPTIVE_ASSERTION_ORDER, ModelType.BOOLEAN)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(false))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition REPLAY_PROTECTION =
+      new SimpleAttributeDefinitionBuilder(
+              Constants.REPLAY_PROTECTION, ModelType.BOOLEAN)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(false))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition REPLAY_CACHE_SIZE =
+      new SimpleAttributeDefinitionBuilder(
+              Constants.REPLAY_CACHE_SIZE, ModelType.INT)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode(1000000))
+          .setValidator(new IntRangeValidator(1, true, true))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition REPLAY_OVERFLOW_POLICY =
+      new SimpleAttributeDefinitionBuilder(
+              Constants.REPLAY_OVERFLOW_POLICY, ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setDefaultValue(new ModelNode("reject"))
+          .setValidator(new StringAllowedValuesValidator(
+              "reject", "accept", "evict-oldest"))
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition REVOCATION_LIST =
+      new SimpleAttributeDefinitionBuilder(Constants.REVOCATION_LIST,
+              ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setRestartAllServices()
+          .build();
+
+  static final SimpleAttributeDefinition AUDIT_LOG =
+      new SimpleAttributeDefinitionBuilder(Constants.AUDIT_LOG,
+              ModelType.STRING)
+          .setAllowExpression(true)
+          .setRequired(false)
+          .setRestartAllServices()
+          .build();
+
   static final AttributeDefinition[] ATTRIBUTES = {
       ISSUER,
       ISSUER_URL,
@@ -122,9 +183,33 @@ class ValidatorDefinition extends PersistentResourceDefinition {
       SIGNATURE,
       ENCRYPTION,
       TRANSFORMS,
-      ASSERTIONS
+      ASSERTIONS,
+      ADAPTIVE_ASSERTION_ORDER,
+      REPLAY_PROTECTION,
+      REPLAY_CACHE_SIZE,
+      REPLAY_OVERFLOW_POLICY,
+      REVOCATION_LIST,
+      AUDIT_LOG
   };
 
+  static final ServiceMetricHandler<ValidatorService> METRICS =
+      latencyMetrics(new ServiceMetricHandler<>(VALIDATOR_CAPABILITY,
+              ValidatorService.class)
+          .counter(Constants.AUTHENTICATION_SUCCESSES, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getSuccessCount))
+          .counter(Constants.AUTHENTICATION_FAILURES, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getFailureCount))
+          .counter(Constants.AUTHENTICATION_TIME, MeasurementUnit.MICROSECONDS,
+              metric(AuthenticationMetrics::getLatencyTotal))
+          .counter(Constants.ACCOUNT_CACHE_HITS, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getAccountCacheHits))
+          .counter(Constants.ACCOUNT_CACHE_MISSES, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getAccountCacheMisses))
+          .counter(Constants.CONNECTION_REUSE_HITS, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getConnectionReuseHits))
+          .counter(Constants.CONNECTION_REUSE_MISSES, MeasurementUnit.NONE,
+              metric(AuthenticationMetrics::getConnectionReuseMisses)));
+
   static ValidatorDefinition INSTANCE = new ValidatorDefinition();
 
   private ValidatorDefinition() {
@@ -139,4 +224,54 @@ class ValidatorDefinition extends PersistentResourceDefinition {
     return Arrays.asList(ATTRIBUTES);
   }
 
+  @Override
+  public void registerAttributes(
+      ManagementResourceRegistration resourceRegistration) {
+    super.registerAttributes(resourceRegistration);
+    METRICS.register(resourceRegistration);
+  }
+
+  /**
+   * Adapts a function that reads a value from authentication metrics to
+   * one that reads it from a validator; the value is undefined when
+   * statistics are not enabled.
+   */
+  private static Function<ValidatorService, Long> metric(
+      Function<AuthenticationMetrics, Long> reader) {
+    return service -> {
+      final AuthenticationMetrics metrics = service.getMetrics();
+      return metrics != null ? reader.apply(metrics) : null;
+    };
+  }
+
+  /**
+   * Adds a counter for each bucket of the authentication latency histogram.
+   * Counter names are formed from the upper bound of the bucket; e.g.
+   * {@code authentication-time-le-500us}.
+   */
+  private static ServiceMetricHandler<ValidatorService> latencyMetrics(
+      ServiceMetricHandler<ValidatorService> handler) {
+    for (int i = 0; i < AuthenticationMetrics.getLatencyBucketCount(); i++) {
+      final int bucket = i;
+      handler.counter(latencyBucketName(bucket), MeasurementUnit.NONE,
+          metric(metrics -> metrics.getLatencyCount(bucket)));
+    }
+    return handler;
+  }
+
+  static String latencyBucketName(int bucket) {
+    final long bound = AuthenticationMetrics.getLatencyBound(bucket);
+    final String limit;
+    if (bound % 1_000_000 == 0) {
+      limit = bound / 1_000_000 + "s";
+    }
+    else if (bound % 1_000 == 0) {
+      limit = bound / 1_000 + "ms";
+    }
+    else {
+      limit = bound + "us";
+    }
+    return Constants.AUTHENTICATION_TIME + "-le-" + limit;
+  }
+
 }
@@ -24,6 +24,9 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,13 +35,18 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.soulwing.jwt.api.JWTProvider;
 import org.soulwing.jwt.api.JWTProviderLocator;
+import org.soulwing.jwt.extension.audit.AuditLog;
 import org.soulwing.jwt.extension.service.AssertionConfiguration;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
 import org.soulwing.jwt.extension.service.AuthenticationService;
 import org.soulwing.jwt.extension.service.Authenticator;
 import org.soulwing.jwt.extension.service.AuthenticatorFactory;
 import org.soulwing.jwt.extension.service.Configuration;
 import org.soulwing.jwt.extension.service.DefaultAuthenticatorFactory;
 import org.soulwing.jwt.extension.service.EncryptionConfiguration;
+import org.soulwing.jwt.extension.service.FailureLog;
+import org.soulwing.jwt.extension.service.ReplayProtectionConfiguration;
+import org.soulwing.jwt.extension.service.RevocationList;
 import org.soulwing.jwt.extension.service.SignatureConfiguration;
 import org.soulwing.jwt.extension.service.TransformConfiguration;
 
@@ -53,18 +61,31 @@ class ValidatorService
   private AuthenticatorFactory authenticatorFactory =
       DefaultAuthenticatorFactory.INSTANCE;
 
+  private String name;
   private String issuer;
   private URI issuerUrl;
   private String audience;
   private long expirationTolerance;
+  private boolean adaptiveAssertionOrder;
+  private boolean replayProtection;
+  private int replayCacheSize;
+  private ReplayProtectionConfiguration.OverflowPolicy replayOverflowPolicy =
+      ReplayProtectionConfiguration.OverflowPolicy.REJECT;
   private Supplier<SignatureService> signatureService;
   private Supplier<EncryptionService> encryptionService;
+  private Supplier<RevocationListService> revocationListService;
+  private Supplier<AuditLogService> auditLogService;
+  private Supplier<JwtService> jwtService;
   private List<Supplier<ClaimTransformService>> transformServices =
       new ArrayList<>();
   private List<Supplier<ClaimAssertionService>> assertionServices =
       new ArrayList<>();
 
   private Configuration configuration;
+  private volatile AuthenticationMetrics metrics;
+  private volatile Authenticator authenticator;
+  private FailureLog failureLog;
+  private ScheduledExecutorService failureLogExecutor;
 
   private ValidatorService() {}
 
@@ -74,6 +95,11 @@ class ValidatorService
 
     private Builder() {}
 
+    Builder name(String name) {
+      service.name = name;
+      return this;
+    }
+
     Builder issuer(String issuer) {
       service.issuer = issuer;
       return this;
@@ -94,6 +120,27 @@ class ValidatorService
       return this;
     }
 
+    Builder adaptiveAssertionOrder(boolean adaptiveAssertionOrder) {
+      service.adaptiveAssertionOrder = adaptiveAssertionOrder;
+      return this;
+    }
+
+    Builder replayProtection(boolean replayProtection) {
+      service.replayProtection = replayProtection;
+      return this;
+    }
+
+    Builder replayCacheSize(int replayCacheSize) {
+      service.replayCacheSize = replayCacheSize;
+      return this;
+    }
+
+    Builder replayOverflowPolicy(
+        ReplayProtectionConfiguration.OverflowPolicy replayOverflowPolicy) {
+      service.replayOverflowPolicy = replayOverflowPolicy;
+      return this;
+    }
+
     Builder authenticatorFactory(AuthenticatorFactory authenticatorFactory) {
       service.authenticatorFactory = authenticatorFactory;
       return this;
@@ -119,11 +166,32 @@ class ValidatorService
   public void start(StartContext startContext) {
     final JWTProvider provider = JWTProviderLocator.getProvider();
     configuration = new InnerConfiguration(provider);
+    if (jwtService != null && jwtService.get().isStatisticsEnabled()) {
+      metrics = new AuthenticationMetrics();
+    }
+    failureLog = new FailureLog();
+    // writes summaries of suppressed authentication failures
+    failureLogExecutor = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "jwt-failure-log-flush");
+          thread.setDaemon(true);
+          return thread;
+        });
+    final long interval = FailureLog.DEFAULT_INTERVAL.toMillis();
+    failureLogExecutor.scheduleWithFixedDelay(failureLog::flush,
+        interval, interval, TimeUnit.MILLISECONDS);
     LOGGER.debug(startContext.getController().getName() + " started");
   }
 
   @Override
   public void stop(StopContext stopContext) {
+    authenticator = null;
+    metrics = null;
+    failureLogExecutor.shutdownNow();
+    failureLogExecutor = null;
+    failureLog.flush();
+    failureLog = null;
     LOGGER.debug(stopContext.getController().getName() + " stopped");
   }
 
@@ -133,6 +201,11 @@ class ValidatorService
     return this;
   }
 
+  @Override
+  public String getName() {
+    return name;
+  }
+
   String getIssuer() {
     return issuer;
   }
@@ -149,6 +222,28 @@ class ValidatorService
     return expirationTolerance;
   }
 
+  boolean isAdaptiveAssertionOrder() {
+    return adaptiveAssertionOrder;
+  }
+
+  @Override
+  public boolean isReplayProtection() {
+    return replayProtection;
+  }
+
+  @Override
+  public boolean isRevocationCheck() {
+    return revocationListService != null;
+  }
+
+  int getReplayCacheSize() {
+    return replayCacheSize;
+  }
+
+  ReplayProtectionConfiguration.OverflowPolicy getReplayOverflowPolicy() {
+    return replayOverflowPolicy;
+  }
+
   Supplier<SignatureService> getSignatureService() {
     return signatureService;
   }
@@ -165,6 +260,42 @@ class ValidatorService
     this.encryptionService = encryptionService;
   }
 
+  Supplier<RevocationListService> getRevocationListService() {
+    return revocationListService;
+  }
+
+  void setRevocationListService(
+      Supplier<RevocationListService> revocationListService) {
+    this.revocationListService = revocationListService;
+  }
+
+  Supplier<AuditLogService> getAuditLogService() {
+    return auditLogService;
+  }
+
+  void setAuditLogService(Supplier<AuditLogService> auditLogService) {
+    this.auditLogService = auditLogService;
+  }
+
+  @Override
+  public AuditLog getAuditLog() {
+    if (auditLogService == null) return null;
+    return auditLogService.get().getAuditLog();
+  }
+
+  Supplier<JwtService> getJwtService() {
+    return jwtService;
+  }
+
+  void setJwtService(Supplier<JwtService> jwtService) {
+    this.jwtService = jwtService;
+  }
+
+  @Override
+  public AuthenticationMetrics getMetrics() {
+    return metrics;
+  }
+
   List<Supplier<ClaimTransformService>> getTransformServices() {
     return transformServices;
   }
@@ -187,9 +318,26 @@ class ValidatorService
     return configuration;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Since an authenticator is stateless, the validator it wraps is built
+   * only once and the resulting authenticator is shared by all callers
+   * until this service is stopped.
+   */
   @Override
   public Authenticator newAuthenticator() throws Exception {
-    return authenticatorFactory.newInstance(getConfiguration());
+    Authenticator authenticator = this.authenticator;
+    if (authenticator == null) {
+      synchronized (this) {
+        authenticator = this.authenticator;
+        if (authenticator == null) {
+          authenticator = authenticatorFactory.newInstance(getConfiguration());
+          this.authenticator = authenticator;
+        }
+      }
+    }
+    return authenticator;
   }
 
   private class InnerConfiguration implements Configuration {
@@ -200,6 +348,11 @@ class ValidatorService
       this.provider = provider;
     }
 
+    @Override
+    public String getName() {
+      return name;
+    }
+
     @Override
     public JWTProvider getProvider() {
       return provider;
@@ -244,6 +397,38 @@ class ValidatorService
           .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean isAdaptiveAssertionOrder() {
+      return adaptiveAssertionOrder;
+    }
+
+    @Override
+    public ReplayProtectionConfiguration getReplayProtection() {
+      if (!replayProtection) return null;
+      return new ReplayProtectionConfiguration() {
+        @Override
+        public int getMaxEntries() {
+          return replayCacheSize;
+        }
+
+        @Override
+        public OverflowPolicy getOverflowPolicy() {
+          return replayOverflowPolicy;
+        }
+      };
+    }
+
+    @Override
+    public RevocationList getRevocationList() {
+      if (revocationListService == null) return null;
+      return revocationListService.get().getRevocationList();
+    }
+
+    @Override
+    public FailureLog getFailureLog() {
+      return failureLog;
+    }
+
     @Override
     public List<TransformConfiguration> getTransforms() {
       return transformServices.stream()
@@ -0,0 +1,221 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.soulwing.jwt.api.Claims;
+import org.soulwing.jwt.api.exceptions.JWTAssertionFailedException;
+
+/**
+ * A predicate that evaluates a sequence of claim assertions, periodically
+ * reordering the sequence based on observed behavior.
+ * <p>
+ * One evaluation in {@value #DEFAULT_SAMPLE_INTERVAL} (chosen at random) is
+ * sampled; for a sampled evaluation, the sequence records the time spent
+ * evaluating each assertion and whether the assertion rejected the token.
+ * Evaluations that are not sampled update no shared state. Every
+ * {@value #REORDER_INTERVAL} samples the assertions are sorted so that
+ * those that reject the most tokens per unit of evaluation time are
+ * evaluated first. Since every assertion must be satisfied for a token to
+ * be accepted, the order of evaluation affects only how quickly a token
+ * is rejected, not whether it is rejected.
+ * <p>
+ * When an assertion rejects a token, the sequence remembers the rejecting
+ * assertion for those claims, so that {@link #error(Claims)} reports the
+ * assertion that actually rejected the token, even if the sequence has
+ * been reordered in the meantime.
+ *
+ * @author Carl Harris
+ */
+class AdaptiveAssertionSequence implements Predicate<Claims> {
+
+  static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+  static final int REORDER_INTERVAL = 64;
+
+  private static final int REJECTION_SLOTS = 64;
+
+  private final AtomicLong samples = new AtomicLong();
+
+  private final AtomicReferenceArray<Rejection> rejections =
+      new AtomicReferenceArray<>(REJECTION_SLOTS);
+
+  private final int sampleInterval;
+
+  private volatile Entry[] entries;
+
+  AdaptiveAssertionSequence(List<AssertionConfiguration> assertions) {
+    this(assertions, DEFAULT_SAMPLE_INTERVAL);
+  }
+
+  AdaptiveAssertionSequence(List<AssertionConfiguration> assertions,
+      int sampleInterval) {
+    this.entries = assertions.stream().map(Entry::new).toArray(Entry[]::new);
+    this.sampleInterval = sampleInterval;
+  }
+
+  @Override
+  public boolean test(Claims claims) {
+    final Entry[] entries = this.entries;
+    final Entry rejectedBy =
+        ThreadLocalRandom.current().nextInt(sampleInterval) == 0 ?
+            sample(entries, claims) : evaluate(entries, claims);
+    if (rejectedBy == null) return true;
+    rejections.set(slot(claims), new Rejection(claims, rejectedBy));
+    return false;
+  }
+
+  private static Entry evaluate(Entry[] entries, Claims claims) {
+    for (final Entry entry : entries) {
+      if (!entry.predicate.test(claims)) return entry;
+    }
+    return null;
+  }
+
+  private Entry sample(Entry[] entries, Claims claims) {
+    Entry rejectedBy = null;
+    long start = System.nanoTime();
+    for (final Entry entry : entries) {
+      final boolean satisfied = entry.predicate.test(claims);
+      final long end = System.nanoTime();
+      entry.record(end - start, satisfied);
+      if (!satisfied) {
+        rejectedBy = entry;
+        break;
+      }
+      start = end;
+    }
+    if (samples.incrementAndGet() % REORDER_INTERVAL == 0) {
+      reorder();
+    }
+    return rejectedBy;
+  }
+
+  /**
+   * Creates the exception for a rejected token, using the error supplier of
+   * the assertion that rejected it.
+   * <p>
+   * If the rejection was not remembered (e.g. because a concurrent
+   * rejection of other claims took its slot), the assertions are evaluated
+   * again to find the first one that rejects the token.
+   * @param claims claims of the rejected token
+   * @return exception
+   */
+  JWTAssertionFailedException error(Claims claims) {
+    final int slot = slot(claims);
+    final Rejection rejection = rejections.get(slot);
+    Entry rejectedBy = null;
+    if (rejection != null && rejection.claims == claims) {
+      rejections.compareAndSet(slot, rejection, null);
+      rejectedBy = rejection.entry;
+    }
+    if (rejectedBy == null) {
+      rejectedBy = evaluate(entries, claims);
+    }
+    return rejectedBy != null ? rejectedBy.errorSupplier.apply(claims)
+        : new JWTAssertionFailedException("claim assertion failed");
+  }
+
+  private static int slot(Claims claims) {
+    return System.identityHashCode(claims) & (REJECTION_SLOTS - 1);
+  }
+
+  /**
+   * Gets the names of the assertions in their current order of evaluation.
+   * @return list of assertion names
+   */
+  List<String> getOrder() {
+    return Arrays.stream(entries).map(e -> e.name)
+        .collect(Collectors.toList());
+  }
+
+  synchronized void reorder() {
+    final Entry[] entries = this.entries.clone();
+    for (final Entry entry : entries) {
+      entry.snapshot();
+    }
+    Arrays.sort(entries, Comparator.comparingDouble(Entry::rank).reversed());
+    this.entries = entries;
+  }
+
+  private static class Rejection {
+
+    final Claims claims;
+    final Entry entry;
+
+    Rejection(Claims claims, Entry entry) {
+      this.claims = claims;
+      this.entry = entry;
+    }
+
+  }
+
+  private static class Entry {
+
+    final String name;
+    final Predicate<Claims> predicate;
+    final Function<Claims, JWTAssertionFailedException> errorSupplier;
+
+    final LongAdder rejections = new LongAdder();
+    final LongAdder nanos = new LongAdder();
+
+    double rank;
+
+    Entry(AssertionConfiguration assertion) {
+      this.name = assertion.getName();
+      this.predicate = assertion.getPredicate();
+      this.errorSupplier = assertion.getErrorSupplier();
+    }
+
+    void record(long elapsed, boolean satisfied) {
+      nanos.add(elapsed);
+      if (!satisfied) {
+        rejections.increment();
+      }
+    }
+
+    /**
+     * Computes the rank of this assertion and decays the recorded
+     * statistics, so that the order tracks changes in traffic over time.
+     */
+    void snapshot() {
+      final long rejections = this.rejections.sumThenReset();
+      final long nanos = this.nanos.sumThenReset();
+      rank = (double) (rejections + 1) / (nanos + 1);
+      this.rejections.add(rejections / 2);
+      this.nanos.add(nanos / 2);
+    }
+
+    double rank() {
+      return rank;
+    }
+
+  }
+
+}
@@ -29,7 +29,7 @@ public class AuthenticationException extends Exception {
 
   /**
    * Constructs a new instance.
-   * @param message
+   * @param message message describing the failure
    */
   public AuthenticationException(String message) {
     super(message);
@@ -37,11 +37,26 @@ public class AuthenticationException extends Exception {
   
   /**
    * Constructs a new instance.
-   * @param message
-   * @param cause
+   * @param message message describing the failure
+   * @param cause the exception that caused the failure
    */
   public AuthenticationException(String message, Throwable cause) {
     super(message, cause);
   }
 
+  /**
+   * Constructs a new instance that optionally omits its stack trace.
+   * <p>
+   * A rejected token is an expected outcome rather than a program error,
+   * so capturing a stack trace for it is usually wasted effort. An instance
+   * constructed without a stack trace also has suppression disabled and
+   * cannot be given a cause, which makes it safe to preallocate and throw
+   * repeatedly.
+   * @param message message describing the failure
+   * @param writableStackTrace {@code false} to omit the stack trace
+   */
+  public AuthenticationException(String message, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+  }
+
 }
@@ -0,0 +1,199 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters that describe the authentications performed by a validator.
+ * <p>
+ * All recording methods are lock-free; each update is a single
+ * {@link LongAdder} increment, so concurrent request threads do not contend
+ * on a shared memory location. Readers see a sum that may not reflect
+ * updates made concurrently with the read.
+ * <p>
+ * Authentication latency is recorded in a histogram of fixed buckets whose
+ * upper bounds are given by {@link #getLatencyBound(int)}. As is customary
+ * for exported histograms, the count reported for a bucket is cumulative;
+ * it includes every authentication whose latency did not exceed the bound.
+ *
+ * @author Carl Harris
+ */
+public final class AuthenticationMetrics {
+
+  private static final long[] LATENCY_BOUNDS = {
+      100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000
+  };
+
+  private final LongAdder successes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder latencyTotal = new LongAdder();
+  private final LongAdder[] latencyBuckets =
+      new LongAdder[LATENCY_BOUNDS.length];
+  private final LongAdder accountCacheHits = new LongAdder();
+  private final LongAdder accountCacheMisses = new LongAdder();
+  private final LongAdder connectionReuseHits = new LongAdder();
+  private final LongAdder connectionReuseMisses = new LongAdder();
+
+  /**
+   * Constructs a new instance with all counters set to zero.
+   */
+  public AuthenticationMetrics() {
+    for (int i = 0; i < latencyBuckets.length; i++) {
+      latencyBuckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Gets the number of buckets in the latency histogram, not including the
+   * implicit bucket for latencies that exceed every bound.
+   * @return number of buckets
+   */
+  public static int getLatencyBucketCount() {
+    return LATENCY_BOUNDS.length;
+  }
+
+  /**
+   * Gets the upper bound of a bucket in the latency histogram.
+   * @param bucket bucket index
+   * @return upper bound in microseconds
+   */
+  public static long getLatencyBound(int bucket) {
+    return LATENCY_BOUNDS[bucket];
+  }
+
+  /**
+   * Records a successful authentication.
+   * @param latency elapsed time in nanoseconds
+   */
+  public void recordSuccess(long latency) {
+    successes.increment();
+    recordLatency(latency);
+  }
+
+  /**
+   * Records a failed authentication.
+   * @param latency elapsed time in nanoseconds
+   */
+  public void recordFailure(long latency) {
+    failures.increment();
+    recordLatency(latency);
+  }
+
+  private void recordLatency(long latency) {
+    final long micros = TimeUnit.NANOSECONDS.toMicros(latency);
+    latencyTotal.add(micros);
+    for (int i = 0; i < LATENCY_BOUNDS.length; i++) {
+      if (micros <= LATENCY_BOUNDS[i]) {
+        latencyBuckets[i].increment();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Records a lookup in the account cache.
+   * @param hit {@code true} if a cached account was found
+   */
+  public void recordAccountCache(boolean hit) {
+    (hit ? accountCacheHits : accountCacheMisses).increment();
+  }
+
+  /**
+   * Records a lookup of a prior authentication on the same connection.
+   * @param hit {@code true} if the prior authentication was reused
+   */
+  public void recordConnectionReuse(boolean hit) {
+    (hit ? connectionReuseHits : connectionReuseMisses).increment();
+  }
+
+  /**
+   * Gets the number of successful authentications.
+   * @return success count
+   */
+  public long getSuccessCount() {
+    return successes.sum();
+  }
+
+  /**
+   * Gets the number of failed authentications.
+   * @return failure count
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * Gets the total latency of all recorded authentications.
+   * @return total latency in microseconds
+   */
+  public long getLatencyTotal() {
+    return latencyTotal.sum();
+  }
+
+  /**
+   * Gets the cumulative count for a bucket in the latency histogram.
+   * @param bucket bucket index
+   * @return number of authentications whose latency did not exceed the
+   *    upper bound of the given bucket
+   */
+  public long getLatencyCount(int bucket) {
+    long count = 0;
+    for (int i = 0; i <= bucket; i++) {
+      count += latencyBuckets[i].sum();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of account cache lookups that found a cached account.
+   * @return hit count
+   */
+  public long getAccountCacheHits() {
+    return accountCacheHits.sum();
+  }
+
+  /**
+   * Gets the number of account cache lookups that found no cached account.
+   * @return miss count
+   */
+  public long getAccountCacheMisses() {
+    return accountCacheMisses.sum();
+  }
+
+  /**
+   * Gets the number of requests that reused a prior authentication on the
+   * same connection.
+   * @return hit count
+   */
+  public long getConnectionReuseHits() {
+    return connectionReuseHits.sum();
+  }
+
+  /**
+   * Gets the number of requests for which no prior authentication on the
+   * same connection could be reused.
+   * @return miss count
+   */
+  public long getConnectionReuseMisses() {
+    return connectionReuseMisses.sum();
+  }
+
+}
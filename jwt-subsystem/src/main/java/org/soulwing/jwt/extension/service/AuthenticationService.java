@@ -20,6 +20,8 @@ package org.soulwing.jwt.extension.service;
 
 import java.net.URI;
 
+import org.soulwing.jwt.extension.audit.AuditLog;
+
 /**
  * A service that performs JWT authentication.
  *
@@ -27,8 +29,40 @@ import java.net.URI;
  */
 public interface AuthenticationService {
 
+  /**
+   * Gets the name of the validator that provides this service.
+   * @return validator name
+   */
+  String getName();
+
   URI getIssuerUrl();
 
   Authenticator newAuthenticator() throws Exception;
 
+  /**
+   * Tests whether this service rejects tokens that have been presented
+   * before.
+   * @return {@code true} if replay protection is enabled
+   */
+  boolean isReplayProtection();
+
+  /**
+   * Tests whether this service rejects tokens that appear in a revocation
+   * list.
+   * @return {@code true} if tokens are checked for revocation
+   */
+  boolean isRevocationCheck();
+
+  /**
+   * Gets the log to which authentication outcomes are published.
+   * @return audit log or {@code null} if auditing is not configured
+   */
+  AuditLog getAuditLog();
+
+  /**
+   * Gets the metrics to which authentication outcomes are recorded.
+   * @return metrics or {@code null} if statistics are not enabled
+   */
+  AuthenticationMetrics getMetrics();
+
 }
@@ -18,11 +18,13 @@
  */
 package org.soulwing.jwt.extension.service;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 
 import org.soulwing.jwt.api.locator.PemCertificateChainLoader;
+import org.soulwing.jwt.extension.jfr.JwtEvents;
 
 /**
  * A certificate chain loader that prepends a base URL to the certificate
@@ -33,9 +35,15 @@ import org.soulwing.jwt.api.locator.PemCertificateChainLoader;
 public class CertificateChainLoader extends PemCertificateChainLoader {
 
   private final URI baseUrl;
+  private final String validatorName;
 
   public CertificateChainLoader(URI baseUrl) {
+    this(baseUrl, null);
+  }
+
+  public CertificateChainLoader(URI baseUrl, String validatorName) {
     this.baseUrl = baseUrl;
+    this.validatorName = validatorName;
   }
 
   @Override
@@ -66,6 +74,42 @@ public class CertificateChainLoader extends PemCertificateChainLoader {
       sb.append(url.getPath());
       url = URI.create(sb.toString());
     }
-    return url.toURL().openStream();
+    final Object event = JwtEvents.CERTIFICATE_CHAIN_FETCHED.begin();
+    final InputStream inputStream = url.toURL().openStream();
+    if (event == null) return inputStream;
+    return new FetchEventInputStream(inputStream, event, url);
+  }
+
+  /**
+   * An input stream that records a flight recorder event when the
+   * certificate chain has been read and the stream is closed.
+   */
+  private class FetchEventInputStream extends FilterInputStream {
+
+    private final Object event;
+    private final URI url;
+    private boolean closed;
+
+    FetchEventInputStream(InputStream in, Object event, URI url) {
+      super(in);
+      this.event = event;
+      this.url = url;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      }
+      finally {
+        if (!closed) {
+          closed = true;
+          JwtEvents.CERTIFICATE_CHAIN_FETCHED.commit(event, validatorName,
+              url.toString());
+        }
+      }
+    }
+
   }
+
 }
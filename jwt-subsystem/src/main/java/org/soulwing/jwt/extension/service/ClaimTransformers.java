@@ -0,0 +1,81 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.soulwing.jwt.extension.transformer.TransformerSequence;
+
+/**
+ * An immutable table of the transformers to apply to claim values,
+ * keyed by claim name.
+ * <p>
+ * A table is compiled once from a validator's transform configurations
+ * and shared by all of the principals produced using that validator.
+ *
+ * @author Carl Harris
+ */
+class ClaimTransformers {
+
+  static final ClaimTransformers NONE =
+      new ClaimTransformers(Collections.emptyMap());
+
+  private final Map<String, Function<Object, Object>> transformers;
+
+  private ClaimTransformers(
+      Map<String, Function<Object, Object>> transformers) {
+    this.transformers = transformers;
+  }
+
+  /**
+   * Compiles a transformer table.
+   * @param configurations transform configurations
+   * @return transformer table
+   * @throws IllegalStateException if more than one configuration is
+   *    given for the same claim
+   */
+  static ClaimTransformers of(List<TransformConfiguration> configurations) {
+    if (configurations.isEmpty()) return NONE;
+    final Map<String, Function<Object, Object>> transformers = new HashMap<>();
+    for (final TransformConfiguration configuration : configurations) {
+      final String name = configuration.getClaimName();
+      if (transformers.putIfAbsent(name,
+          configuration.getTransformer()) != null) {
+        throw new IllegalStateException(
+            "duplicate transform for claim `" + name + "`");
+      }
+    }
+    return new ClaimTransformers(transformers);
+  }
+
+  /**
+   * Gets the transformer for a claim.
+   * @param name claim name
+   * @return transformer; {@link TransformerSequence#IDENTITY} if no
+   *    transformer is configured for the given claim
+   */
+  Function<Object, Object> get(String name) {
+    return transformers.getOrDefault(name, TransformerSequence.IDENTITY);
+  }
+
+}
@@ -27,39 +27,42 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.transformer.TransformerSequence;
 
 
 /**
  * A concrete {@link Claim} implementation.
+ * <p>
+ * The transformer is applied to the claim's value at most once, when the
+ * value is first needed; all accessors use the memoized result.
+ * <p>
+ * For an array claim, the transformer is applied to each element of the
+ * array, and the result is an immutable list of the transformed elements.
+ * Elements that appear more than once in the array are transformed just
+ * once. A transformer configured for an array claim therefore receives
+ * each element, never the list as a whole.
  *
  * @author Carl Harris
  */
 public class ConcreteClaim implements Claim {
 
-  private static final List<Class<?>> NUMBER_TYPES =
-      Arrays.asList(Integer.class, Long.class, Double.class);
-
-  private static final List<Class<?>> SCALAR_TYPES = new ArrayList<>();
-
-  static {
-    SCALAR_TYPES.add(String.class);
-    SCALAR_TYPES.add(Boolean.class);
-    SCALAR_TYPES.addAll(NUMBER_TYPES);
-  }
+  private static final Object UNSET = new Object();
 
   private final String name;
   private final Type type;
   private final Object value;
   private final Function<Object, Object> transformer;
 
+  private volatile Object transformedValue = UNSET;
+
   public ConcreteClaim(String name, Object value,
       Function<Object, Object> transformer) {
     this.name = name;
@@ -74,22 +77,32 @@ public class ConcreteClaim implements Claim {
     if (value.getClass().isArray()) return Type.ARRAY;
     if (value instanceof String) return Type.STRING;
     if (value instanceof Boolean) return Type.BOOLEAN;
-    if (value instanceof Number
-        && NUMBER_TYPES.stream().anyMatch(t -> t.equals(value.getClass()))) {
-      return Type.NUMBER;
-    }
+    if (isNumberType(value)) return Type.NUMBER;
 
     throw new IllegalArgumentException("unsupported value type");
   }
 
+  private static boolean isNumberType(Object value) {
+    return value instanceof Integer
+        || value instanceof Long
+        || value instanceof Double;
+  }
+
+  private static boolean isScalarType(Object value) {
+    return value instanceof String
+        || value instanceof Boolean
+        || isNumberType(value);
+  }
+
   private static List<?> asList(Object value) {
     final List<?> list = toList(value);
-    final boolean elementsOk = list.stream()
-        .allMatch(v -> v == null
-            || SCALAR_TYPES.stream().anyMatch(t -> t.isInstance(v)));
-    if (elementsOk) return list;
-    throw new IllegalArgumentException(
-        "list-like types must contain scalar values");
+    for (final Object element : list) {
+      if (element != null && !isScalarType(element)) {
+        throw new IllegalArgumentException(
+            "list-like types must contain scalar values");
+      }
+    }
+    return list;
   }
 
   private static List<?> toList(Object value) {
@@ -115,7 +128,40 @@ public class ConcreteClaim implements Claim {
 
   @Override
   public Object getValue() {
-    return Optional.ofNullable(value).map(transformer::apply).orElse(null);
+    Object transformedValue = this.transformedValue;
+    if (transformedValue == UNSET) {
+      synchronized (this) {
+        transformedValue = this.transformedValue;
+        if (transformedValue == UNSET) {
+          transformedValue = transform(value);
+          this.transformedValue = transformedValue;
+        }
+      }
+    }
+    return transformedValue;
+  }
+
+  private Object transform(Object value) {
+    if (value == null) return null;
+    if (type != Type.ARRAY) return transformer.apply(value);
+    if (transformer == TransformerSequence.IDENTITY) return value;
+    return transformElements((List<?>) value);
+  }
+
+  private List<?> transformElements(List<?> elements) {
+    final Object[] results = new Object[elements.size()];
+    final Map<Object, Object> memo = new HashMap<>();
+    for (int i = 0; i < results.length; i++) {
+      final Object element = elements.get(i);
+      if (element == null) continue;
+      Object result = memo.get(element);
+      if (result == null && !memo.containsKey(element)) {
+        result = transformer.apply(element);
+        memo.put(element, result);
+      }
+      results[i] = result;
+    }
+    return Collections.unmodifiableList(Arrays.asList(results));
   }
 
   @Override
@@ -125,37 +171,30 @@ public class ConcreteClaim implements Claim {
 
   @Override
   public String asString() {
-    return Optional.ofNullable(getValue())
-        .map(v -> (String) getValue())
-        .orElse(null);
+    return (String) getValue();
   }
 
   @Override
   public Boolean asBoolean() {
-    return Optional.ofNullable(getValue())
-        .map(v -> (Boolean) getValue())
-        .orElse(null);
+    return (Boolean) getValue();
   }
 
   @Override
   public Integer asInt() {
-    return Optional.ofNullable(getValue()).map(v -> (Number) v)
-        .map(Number::intValue)
-        .orElse(null);
+    final Number n = (Number) getValue();
+    return n != null ? Integer.valueOf(n.intValue()) : null;
   }
 
   @Override
   public Long asLong() {
-    return Optional.ofNullable(getValue()).map(v -> (Number) v)
-        .map(Number::longValue)
-        .orElse(null);
+    final Number n = (Number) getValue();
+    return n != null ? Long.valueOf(n.longValue()) : null;
   }
 
   @Override
   public Double asDouble() {
-    return Optional.ofNullable(getValue()).map(v -> (Number) v)
-        .map(Number::doubleValue)
-        .orElse(null);
+    final Number n = (Number) getValue();
+    return n != null ? Double.valueOf(n.doubleValue()) : null;
   }
 
   @Override
@@ -165,53 +204,59 @@ public class ConcreteClaim implements Claim {
 
   @Override
   public Instant asInstant(TemporalUnit unit) {
-    return Optional.ofNullable(getValue()).map(v -> (Number) v)
-        .map(n -> Instant.EPOCH.plus(Duration.of(n.longValue(), unit)))
-        .orElse(null);
+    final Number n = (Number) getValue();
+    return n != null ? Instant.EPOCH.plus(Duration.of(n.longValue(), unit)) : null;
   }
 
   @Override
   public List<?> asList() {
-    return Optional.ofNullable(getValue())
-        .map(v -> v instanceof List ?
-            new ArrayList<>((List<?>) v) : Collections.singletonList(v))
-        .orElse(null);
+    final Object v = getValue();
+    if (v == null) return null;
+    return v instanceof List ?
+        new ArrayList<>((List<?>) v) : Collections.singletonList(v);
   }
 
   @Override
   public <T> List<T> asList(Class<? extends T> elementType) {
-    return Optional.ofNullable(asList())
-        .<List<T>>map(objects -> objects.stream()
-            .map(elementType::cast)
-            .collect(Collectors.toCollection(ArrayList::new)))
-        .orElse(null);
+    final Object v = getValue();
+    if (v == null) return null;
+    if (!(v instanceof List)) {
+      final List<T> list = new ArrayList<>(1);
+      list.add(elementType.cast(v));
+      return list;
+    }
+    final List<?> values = (List<?>) v;
+    final List<T> list = new ArrayList<>(values.size());
+    for (final Object element : values) {
+      list.add(elementType.cast(element));
+    }
+    return list;
   }
 
   @Override
   public Set<?> asSet() {
-    return Optional.ofNullable(asList())
-        .map(LinkedHashSet::new)
-        .orElse(null);
+    final List<?> list = asList();
+    return list != null ? new LinkedHashSet<>(list) : null;
   }
 
   @Override
   public <T> Set<T> asSet(Class<? extends T> elementType) {
-    return Optional.ofNullable(this.<T>asList(elementType))
-        .map(LinkedHashSet::new)
-        .orElse(null);
+    final List<T> list = asList(elementType);
+    return list != null ? new LinkedHashSet<>(list) : null;
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> T[] asArray(Class<? extends T> elementType) {
-    return Optional.ofNullable(this.<T>asList(elementType))
-        .map(l -> l.toArray((T[]) Array.newInstance(elementType, l.size())))
-        .orElse(null);
+    final List<T> list = asList(elementType);
+    return list != null ?
+        list.toArray((T[]) Array.newInstance(elementType, list.size())) : null;
   }
 
   @Override
   public String toString() {
-    return Optional.ofNullable(getValue()).map(Object::toString).orElse(null);
+    final Object v = getValue();
+    return v != null ? v.toString() : null;
   }
 
 }
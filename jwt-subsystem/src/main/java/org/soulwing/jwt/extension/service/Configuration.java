@@ -31,6 +31,13 @@ import org.soulwing.jwt.api.JWTProvider;
  */
 public interface Configuration {
 
+  /**
+   * Gets the name of the validator described by this configuration.
+   * @return validator name or {@code null} if the configuration is
+   *    not associated with a named validator
+   */
+  String getName();
+
   /**
    * Gets the JWT provider.
    * @return JWT provider
@@ -83,6 +90,34 @@ public interface Configuration {
    */
   List<AssertionConfiguration> getAssertions();
 
+  /**
+   * Gets a flag indicating whether the order of evaluation of claim
+   * assertions should adapt to observed rejection rates and costs.
+   * @return {@code true} if assertion order is adaptive
+   */
+  boolean isAdaptiveAssertionOrder();
+
+  /**
+   * Gets the configuration for token replay protection.
+   * @return replay protection configuration or {@code null} if replay
+   *    protection is not enabled
+   */
+  ReplayProtectionConfiguration getReplayProtection();
+
+  /**
+   * Gets the list of revoked tokens and subjects.
+   * @return revocation list or {@code null} if tokens should not be checked
+   *    for revocation
+   */
+  RevocationList getRevocationList();
+
+  /**
+   * Gets the log to which authentication failures are reported.
+   * @return failure log or {@code null} if the authenticator should use a
+   *    log of its own
+   */
+  FailureLog getFailureLog();
+
   /**
    * Gets the claim transforms associated with this configuration.
    * <p>
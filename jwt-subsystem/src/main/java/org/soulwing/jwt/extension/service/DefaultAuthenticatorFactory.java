@@ -33,8 +33,15 @@ public class DefaultAuthenticatorFactory implements AuthenticatorFactory {
 
   @Override
   public Authenticator newInstance(Configuration config) throws Exception {
+    final ReplayProtectionConfiguration replayProtection =
+        config.getReplayProtection();
     return new JwtAuthenticator(
-        JWTValidatorFactory.getInstance().newValidator(config), config);
+        JWTValidatorFactory.getInstance().newValidator(config), config,
+        replayProtection != null ?
+            new ReplayCache(replayProtection, config.getExpirationTolerance())
+            : null,
+        config.getFailureLog() != null ?
+            config.getFailureLog() : new FailureLog());
   }
 
 }
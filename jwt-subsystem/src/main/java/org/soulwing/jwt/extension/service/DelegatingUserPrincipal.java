@@ -19,11 +19,13 @@
 package org.soulwing.jwt.extension.service;
 
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.soulwing.jwt.api.Claims;
 import org.soulwing.jwt.extension.api.Claim;
@@ -31,23 +33,35 @@ import org.soulwing.jwt.extension.api.UserPrincipal;
 
 /**
  * A {@link UserPrincipal} that delegates to a JWT {@link Claims} instance.
+ * <p>
+ * Claim objects are created on first access and retained for the lifetime
+ * of the principal, so claims that are never accessed cost nothing and
+ * each claim is looked up only once.
+ *
  * @author Carl Harris
  */
 public class DelegatingUserPrincipal implements UserPrincipal {
 
   private final Claims claims;
-  private final Map<String, Function<Object, Object>> transformers;
+  private final ClaimTransformers transformers;
+  private final ConcurrentMap<String, Claim> claimViews =
+      new ConcurrentHashMap<>();
+
+  private volatile Map<String, Claim> allClaims;
+  private volatile Roles roles;
 
   static DelegatingUserPrincipal newInstance(Claims claims,
       List<TransformConfiguration> transformers) {
-   return new DelegatingUserPrincipal(claims,
-        transformers.stream().collect(
-            Collectors.toMap(TransformConfiguration::getClaimName,
-                TransformConfiguration::getTransformer)));
+    return newInstance(claims, ClaimTransformers.of(transformers));
+  }
+
+  static DelegatingUserPrincipal newInstance(Claims claims,
+      ClaimTransformers transformers) {
+    return new DelegatingUserPrincipal(claims, transformers);
   }
 
   private DelegatingUserPrincipal(Claims claims,
-      Map<String, Function<Object, Object>> transformers) {
+      ClaimTransformers transformers) {
     this.claims = claims;
     this.transformers = transformers;
   }
@@ -59,10 +73,14 @@ public class DelegatingUserPrincipal implements UserPrincipal {
 
   @Override
   public Claim getClaim(String name) {
-    final Function<Object, Object> transformer =
-        Optional.ofNullable(transformers.get(name)).orElse(v -> v);
+    final Claim claim = claimViews.get(name);
+    if (claim != null) return claim;
+    return claimViews.computeIfAbsent(name, this::newClaim);
+  }
+
+  private Claim newClaim(String name) {
     return new ConcreteClaim(name, claims.claim(name, Object.class).orElse(null),
-        transformer);
+        transformers.get(name));
   }
 
   @Override
@@ -72,9 +90,44 @@ public class DelegatingUserPrincipal implements UserPrincipal {
 
   @Override
   public Map<String, Claim> getClaims() {
-    return claims.names().stream()
-        .map(this::getClaim)
-        .collect(Collectors.toMap(Claim::getName, claim -> claim));
+    Map<String, Claim> allClaims = this.allClaims;
+    if (allClaims == null) {
+      final Map<String, Claim> map = new LinkedHashMap<>();
+      for (final String name : claims.names()) {
+        map.put(name, getClaim(name));
+      }
+      allClaims = Collections.unmodifiableMap(map);
+      this.allClaims = allClaims;
+    }
+    return new LinkedHashMap<>(allClaims);
+  }
+
+  /**
+   * Gets the role names derived from the claims of this principal. The
+   * role names are computed on the first request for a given role claims
+   * mapping and reused thereafter.
+   * @param roleClaims role claims mapping
+   * @return unmodifiable set of role names
+   */
+  Set<String> getRoles(RoleClaims roleClaims) {
+    Roles roles = this.roles;
+    if (roles == null || roles.roleClaims != roleClaims) {
+      roles = new Roles(roleClaims, roleClaims.mapRoles(this));
+      this.roles = roles;
+    }
+    return roles.names;
+  }
+
+  private static final class Roles {
+
+    final RoleClaims roleClaims;
+    final Set<String> names;
+
+    Roles(RoleClaims roleClaims, Set<String> names) {
+      this.roleClaims = roleClaims;
+      this.names = names;
+    }
+
   }
 
 }
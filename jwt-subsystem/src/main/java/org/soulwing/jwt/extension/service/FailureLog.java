@@ -0,0 +1,158 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.soulwing.jwt.extension.service.ServiceLogger.LOGGER;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A rate-limited log of authentication failures.
+ * <p>
+ * Failures are counted by category. The first failure of a category in each
+ * interval is logged in full; later failures in the same interval are only
+ * counted, and the count is logged as a summary (e.g. "1,532 expired tokens
+ * in the last 10s") when the next interval begins. Recording a failure that
+ * is not logged costs a clock read and a counter increment.
+ * <p>
+ * A summary is also written by {@link #flush()}, so that the owner of the log
+ * can report suppressed failures periodically, even when no further failure
+ * of the same category arrives.
+ *
+ * @author Carl Harris
+ */
+public final class FailureLog {
+
+  public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+
+  /**
+   * Categories of authentication failure.
+   */
+  enum Category {
+    EXPIRED("expired tokens",
+        "attempt to authenticate using expired token: %s"),
+    CONFIGURATION("authentication failures due to configuration error",
+        "authentication failed due to configuration error: %s"),
+    INVALID_CLAIMS("tokens with invalid claims",
+        "authentication claims validation failed: %s"),
+    CORRUPT("corrupt tokens",
+        "attempt to authenticate using corrupt token: %s"),
+    MISSING_CLAIMS("tokens without claims required for replay protection",
+        "attempt to authenticate using token without `jti` "
+            + "and `exp` claims required for replay protection"),
+    REPLAYED("replayed tokens",
+        "attempt to authenticate using replayed token: jti=%s"),
+    REPLAY_OVERFLOW("tokens rejected because replay cache is full",
+        "token rejected because replay cache is full: jti=%s");
+
+    private final String summary;
+    private final String message;
+
+    Category(String summary, String message) {
+      this.summary = summary;
+      this.message = message;
+    }
+
+  }
+
+  private final Window[] windows = new Window[Category.values().length];
+
+  private final long intervalMillis;
+  private final Clock clock;
+  private final Consumer<String> sink;
+
+  public FailureLog() {
+    this(DEFAULT_INTERVAL, Clock.systemUTC(), message -> LOGGER.warn(message));
+  }
+
+  FailureLog(Duration interval, Clock clock, Consumer<String> sink) {
+    this.intervalMillis = interval.toMillis();
+    this.clock = clock;
+    this.sink = sink;
+    final long start = clock.millis() - intervalMillis;
+    for (int i = 0; i < windows.length; i++) {
+      windows[i] = new Window(start);
+    }
+  }
+
+  /**
+   * Records an authentication failure.
+   * @param category category of the failure
+   * @param detail detail to include if the failure is logged in full;
+   *    it is converted to a string only in that case
+   */
+  void record(Category category, Object detail) {
+    final Window window = windows[category.ordinal()];
+    final long now = clock.millis();
+    final long start = window.start.get();
+    if (now - start < intervalMillis
+        || !window.start.compareAndSet(start, now)) {
+      window.suppressed.increment();
+      return;
+    }
+
+    final long suppressed = window.suppressed.sumThenReset();
+    if (suppressed > 0) {
+      summarize(category, suppressed, now - start);
+    }
+    sink.accept(String.format(category.message, detail));
+  }
+
+  /**
+   * Logs a summary for each category whose interval has elapsed and for
+   * which failures were suppressed.
+   */
+  public void flush() {
+    final long now = clock.millis();
+    for (final Category category : Category.values()) {
+      final Window window = windows[category.ordinal()];
+      final long start = window.start.get();
+      if (now - start < intervalMillis || window.suppressed.sum() == 0
+          || !window.start.compareAndSet(start, now)) {
+        continue;
+      }
+      final long suppressed = window.suppressed.sumThenReset();
+      if (suppressed > 0) {
+        summarize(category, suppressed, now - start);
+      }
+    }
+  }
+
+  private void summarize(Category category, long suppressed, long elapsed) {
+    sink.accept(String.format(Locale.ROOT, "%,d %s in the last %ds",
+        suppressed, category.summary, elapsed / 1000));
+  }
+
+  private static final class Window {
+
+    final AtomicLong start;
+    final LongAdder suppressed = new LongAdder();
+
+    Window(long start) {
+      this.start = new AtomicLong(start);
+    }
+
+  }
+
+}
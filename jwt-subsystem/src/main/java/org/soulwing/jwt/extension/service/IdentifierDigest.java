@@ -0,0 +1,60 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+/**
+ * A utility that computes compact 64-bit digests of token identifiers.
+ * <p>
+ * The digest is a 64-bit FNV-1a hash of the characters of the identifier,
+ * finished with a mixing step so that the bits of the digest are well
+ * distributed. It is not a cryptographic hash; it is intended for
+ * identifiers (such as the {@code jti} claim) taken from tokens whose
+ * signatures have already been verified.
+ *
+ * @author Carl Harris
+ */
+final class IdentifierDigest {
+
+  private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+
+  private IdentifierDigest() {}
+
+  /**
+   * Computes the digest of an identifier.
+   * @param identifier the identifier
+   * @return digest
+   */
+  static long of(String identifier) {
+    long h = OFFSET_BASIS;
+    final int length = identifier.length();
+    for (int i = 0; i < length; i++) {
+      final char c = identifier.charAt(i);
+      h = (h ^ (c & 0xff)) * PRIME;
+      h = (h ^ (c >>> 8)) * PRIME;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+}
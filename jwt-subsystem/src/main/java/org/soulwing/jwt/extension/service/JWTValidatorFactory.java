@@ -18,6 +18,7 @@
  */
 package org.soulwing.jwt.extension.service;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -47,33 +48,35 @@ class JWTValidatorFactory {
   JWTValidator newValidator(Configuration configuration)
       throws JWTConfigurationException {
     final JWTProvider provider = configuration.getProvider();
+    final String name = configuration.getName();
     final JWTValidator.Builder builder = provider.validator()
         .claimsAssertions(newAssertions(configuration))
         .signatureOperatorFactory(
             newSignatureOperator(configuration.getSignatureConfiguration(),
-                provider));
+                provider, name));
 
     if (configuration.getEncryptionConfiguration() != null) {
       builder.encryptionOperatorFactory(newEncryptionOperator(
           configuration.getEncryptionConfiguration(),
-          provider));
+          provider, name));
     }
 
     return builder.build();
   }
 
   private JWS.Factory newSignatureOperator(SignatureConfiguration configuration,
-      JWTProvider provider) {
+      JWTProvider provider, String name) {
     return header -> {
       final JWS.Builder builder = provider.signatureOperator();
       builder.algorithm(signatureAlgorithm(configuration.getAlgorithm(), header));
       if (configuration.getSecretKeys() != null) {
         builder.keyProvider(new ListSecretKeyProvider(
-            configuration.getSecretKeys()));
+            configuration.getSecretKeys(), name));
       }
       if (configuration.getTrustStore() != null) {
         builder.publicKeyLocator(JcaPublicKeyLocator.builder()
-            .chainLoader(new CertificateChainLoader(configuration.getIssuerUrl()))
+            .chainLoader(new CertificateChainLoader(
+                configuration.getIssuerUrl(), name))
             .certificateValidator(JcaX509CertificateValidator.builder()
                 .trustStore(configuration.getTrustStore())
                 .checkExpiration(configuration.isCheckCertificateExpiration())
@@ -100,7 +103,8 @@ class JWTValidatorFactory {
   }
 
   private JWE.Factory newEncryptionOperator(
-      EncryptionConfiguration configuration, JWTProvider provider) {
+      EncryptionConfiguration configuration, JWTProvider provider,
+      String name) {
     return header -> {
       final JWE.Builder builder = provider.encryptionOperator();
       builder.keyManagementAlgorithm(keyManagementAlgorithm(
@@ -112,11 +116,11 @@ class JWTValidatorFactory {
 
       if (configuration.getKeyPairStorage() != null) {
         builder.keyProvider(new KeyPairStorageKeyProvider(
-            configuration.getKeyPairStorage()));
+            configuration.getKeyPairStorage(), name));
       }
       else if (configuration.getSecretKeys() != null) {
         builder.keyProvider(new ListSecretKeyProvider(
-            configuration.getSecretKeys()));
+            configuration.getSecretKeys(), name));
       }
 
       builder.contentType(JWE.JWT);
@@ -168,13 +172,34 @@ class JWTValidatorFactory {
     return headerAlgorithm;
   }
 
+  /**
+   * Creates the claims assertions for a validator.
+   * <p>
+   * Assertions are registered so that the cheapest checks, which also
+   * reject the most tokens in practice, are evaluated first: the time and
+   * simple claim checks, then the revocation list (if any), then certificate
+   * subject matching, and finally the configured claim assertions. If
+   * adaptive ordering is enabled, the configured claim assertions are
+   * evaluated as an {@link AdaptiveAssertionSequence}.
+   *
+   * @param configuration validator configuration
+   * @return assertions
+   */
   private Assertions newAssertions(Configuration configuration) {
     final Assertions.Builder builder = configuration.getProvider().assertions();
-    builder.requireIssuer(configuration.getIssuer());
     builder.requireNotExpired(configuration.getExpirationTolerance());
+    builder.requireIssuer(configuration.getIssuer());
+    if (configuration.getAudience() != null) {
+      builder.requireAudience(configuration.getAudience());
+    }
     builder.requireSubjectSatisfies(Objects::nonNull,
         v -> new JWTAssertionFailedException("`sub` claim is required"));
 
+    final RevocationList revocationList = configuration.getRevocationList();
+    if (revocationList != null) {
+      builder.requireSatisfies(revocationList, revocationList::error);
+    }
+
     if (configuration.getSignatureConfiguration().getTrustStore() != null) {
       final String subjectName = configuration.getSignatureConfiguration()
           .getCertificateSubjectName();
@@ -186,13 +211,18 @@ class JWTValidatorFactory {
       }
     }
 
-    if (configuration.getAudience() != null) {
-      builder.requireAudience(configuration.getAudience());
+    final List<AssertionConfiguration> assertions =
+        configuration.getAssertions();
+    if (configuration.isAdaptiveAssertionOrder() && assertions.size() > 1) {
+      final AdaptiveAssertionSequence sequence =
+          new AdaptiveAssertionSequence(assertions);
+      builder.requireSatisfies(sequence, sequence::error);
+    }
+    else {
+      assertions.forEach(assertion ->
+          builder.requireSatisfies(assertion.getPredicate(),
+          assertion.getErrorSupplier()));
     }
-
-    configuration.getAssertions().forEach(assertion ->
-        builder.requireSatisfies(assertion.getPredicate(),
-        assertion.getErrorSupplier()));
 
     return builder.build();
   }
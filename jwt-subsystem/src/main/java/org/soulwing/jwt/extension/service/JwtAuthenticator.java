@@ -20,6 +20,8 @@ package org.soulwing.jwt.extension.service;
 
 import static org.soulwing.jwt.extension.service.ServiceLogger.LOGGER;
 
+import java.time.Instant;
+
 import org.soulwing.jwt.api.Claims;
 import org.soulwing.jwt.api.JWTValidator;
 import org.soulwing.jwt.api.exceptions.ExpirationAssertionException;
@@ -29,6 +31,7 @@ import org.soulwing.jwt.api.exceptions.JWTParseException;
 import org.soulwing.jwt.api.exceptions.JWTSignatureException;
 import org.soulwing.jwt.api.exceptions.JWTValidationException;
 import org.soulwing.jwt.api.exceptions.LifetimeAssertionException;
+import org.soulwing.jwt.extension.jfr.JwtEvents;
 
 
 /**
@@ -38,44 +41,133 @@ import org.soulwing.jwt.api.exceptions.LifetimeAssertionException;
  */
 public class JwtAuthenticator implements Authenticator {
 
+  private static final AuthenticationException MISSING_CLAIMS =
+      new AuthenticationException("`jti` and `exp` claims are required", false);
+
+  private static final AuthenticationException REPLAYED =
+      new AuthenticationException("token has already been used", false);
+
+  private static final AuthenticationException REPLAY_OVERFLOW =
+      new AuthenticationException("replay cache is full", false);
+
   private final JWTValidator jwtValidator;
   private final Configuration configuration;
+  private final ReplayCache replayCache;
+  private final FailureLog failureLog;
+
+  private volatile ClaimTransformers transformers;
 
   JwtAuthenticator(JWTValidator jwtValidator,
       Configuration configuration) {
+    this(jwtValidator, configuration, null);
+  }
+
+  JwtAuthenticator(JWTValidator jwtValidator,
+      Configuration configuration, ReplayCache replayCache) {
+    this(jwtValidator, configuration, replayCache, new FailureLog());
+  }
+
+  JwtAuthenticator(JWTValidator jwtValidator,
+      Configuration configuration, ReplayCache replayCache,
+      FailureLog failureLog) {
     this.jwtValidator = jwtValidator;
     this.configuration = configuration;
+    this.replayCache = replayCache;
+    this.failureLog = failureLog;
   }
 
   @Override
   public Credential validate(String token) throws AuthenticationException {
+    final long start = System.nanoTime();
     try {
       final Claims claims = jwtValidator.validate(token);
-      return new JwtCredential(DelegatingUserPrincipal.newInstance(claims,
-          configuration.getTransforms()));
+      if (replayCache != null) {
+        checkReplay(claims, start);
+      }
+      final Credential credential = new JwtCredential(
+          DelegatingUserPrincipal.newInstance(claims, getTransformers()));
+      if (JwtEvents.TOKEN_VALIDATED.isEnabled()) {
+        JwtEvents.TOKEN_VALIDATED.record(configuration.getName(),
+            System.nanoTime() - start);
+      }
+      return credential;
     }
     catch (ExpirationAssertionException | LifetimeAssertionException ex) {
-      LOGGER.warn("attempt to authenticate using expired token: "
-          + ex.getMessage());
-      throw new AuthenticationException(ex.getMessage());
+      throw failure(FailureLog.Category.EXPIRED, ex, start);
     }
     catch (JWTConfigurationException ex) {
-      LOGGER.warn("authentication failed due to configuration error: "
-          + ex.getMessage());
-      throw new AuthenticationException(ex.getMessage());
+      throw failure(FailureLog.Category.CONFIGURATION, ex, start);
     }
     catch (JWTValidationException ex) {
-      LOGGER.warn("authentication claims validation failed: "
-          + ex.getMessage());
-      throw new AuthenticationException(ex.getMessage());
+      throw failure(FailureLog.Category.INVALID_CLAIMS, ex, start);
     }
     catch (JWTParseException
           | JWTSignatureException
           | JWTEncryptionException ex) {
-      LOGGER.warn("attempt to authenticate using corrupt token: "
-          + ex.getMessage());
-      throw new AuthenticationException(ex.getMessage());
+      throw failure(FailureLog.Category.CORRUPT, ex, start);
+    }
+  }
+
+  /**
+   * Records a rejected token and creates the exception to throw for it.
+   * <p>
+   * The exception omits its stack trace and the cause, since a rejected
+   * token is an expected outcome; when debug logging is enabled, the cause
+   * is retained so that it can be diagnosed.
+   */
+  private AuthenticationException failure(FailureLog.Category category,
+      Exception ex, long start) {
+    final String message = ex.getMessage();
+    reject(category, message, start);
+    if (LOGGER.isDebugEnabled()) {
+      return new AuthenticationException(message, ex);
+    }
+    return new AuthenticationException(message, false);
+  }
+
+  private void reject(FailureLog.Category category, Object detail,
+      long start) {
+    failureLog.record(category, detail);
+    if (JwtEvents.TOKEN_REJECTED.isEnabled()) {
+      JwtEvents.TOKEN_REJECTED.record(configuration.getName(),
+          category.name(), System.nanoTime() - start);
+    }
+  }
+
+  private void checkReplay(Claims claims, long start)
+      throws AuthenticationException {
+    final Object id = claims.claim("jti", Object.class).orElse(null);
+    final Instant expiresAt = NumericDate.toInstant(
+        claims.claim("exp", Object.class).orElse(null));
+    if (!(id instanceof String) || expiresAt == null) {
+      reject(FailureLog.Category.MISSING_CLAIMS, null, start);
+      throw MISSING_CLAIMS;
+    }
+    switch (replayCache.check((String) id, expiresAt)) {
+      case REPLAYED:
+        reject(FailureLog.Category.REPLAYED, id, start);
+        throw REPLAYED;
+      case OVERFLOW:
+        reject(FailureLog.Category.REPLAY_OVERFLOW, id, start);
+        throw REPLAY_OVERFLOW;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Gets the claim transformer table, compiling it from the configuration
+   * on first use.
+   * @return transformer table shared by all principals produced by this
+   *    authenticator
+   */
+  private ClaimTransformers getTransformers() {
+    ClaimTransformers transformers = this.transformers;
+    if (transformers == null) {
+      transformers = ClaimTransformers.of(configuration.getTransforms());
+      this.transformers = transformers;
     }
+    return transformers;
   }
 
 }
@@ -24,6 +24,7 @@ import java.util.Optional;
 import org.soulwing.jwt.api.KeyInfo;
 import org.soulwing.jwt.api.KeyProvider;
 import org.soulwing.jwt.api.exceptions.KeyProviderException;
+import org.soulwing.jwt.extension.jfr.JwtEvents;
 import org.soulwing.s2ks.KeyPairStorage;
 import org.soulwing.s2ks.KeyStorageException;
 import org.soulwing.s2ks.NoSuchKeyException;
@@ -37,9 +38,16 @@ import org.soulwing.s2ks.NoSuchKeyException;
 public class KeyPairStorageKeyProvider implements KeyProvider {
 
   private final KeyPairStorage keyPairStorage;
+  private final String validatorName;
 
   KeyPairStorageKeyProvider(KeyPairStorage keyPairStorage) {
+    this(keyPairStorage, null);
+  }
+
+  KeyPairStorageKeyProvider(KeyPairStorage keyPairStorage,
+      String validatorName) {
     this.keyPairStorage = keyPairStorage;
+    this.validatorName = validatorName;
   }
 
   @Override
@@ -49,8 +57,12 @@ public class KeyPairStorageKeyProvider implements KeyProvider {
 
   @Override
   public Optional<Key> retrieveKey(String id) throws KeyProviderException {
+    final Object event = JwtEvents.KEY_RETRIEVED.begin();
+    boolean found = false;
     try {
-      return Optional.of(keyPairStorage.retrieveKeyPair(id).getPrivateKey());
+      final Key key = keyPairStorage.retrieveKeyPair(id).getPrivateKey();
+      found = true;
+      return Optional.of(key);
     }
     catch (NoSuchKeyException ex) {
       return Optional.empty();
@@ -58,6 +70,11 @@ public class KeyPairStorageKeyProvider implements KeyProvider {
     catch (KeyStorageException ex) {
       throw new KeyProviderException(ex);
     }
+    finally {
+      if (event != null) {
+        JwtEvents.KEY_RETRIEVED.commit(event, validatorName, id, found);
+      }
+    }
   }
 
 }
@@ -25,6 +25,7 @@ import java.util.Optional;
 
 import org.soulwing.jwt.api.KeyInfo;
 import org.soulwing.jwt.api.KeyProvider;
+import org.soulwing.jwt.extension.jfr.JwtEvents;
 
 /**
  * A {@link KeyProvider} backed by a list of {@link SecretKeyConfiguration}
@@ -35,9 +36,16 @@ import org.soulwing.jwt.api.KeyProvider;
 public class ListSecretKeyProvider implements KeyProvider {
 
   private final List<SecretKeyConfiguration> configs = new ArrayList<>();
+  private final String validatorName;
 
   public ListSecretKeyProvider(List<SecretKeyConfiguration> configs) {
+    this(configs, null);
+  }
+
+  public ListSecretKeyProvider(List<SecretKeyConfiguration> configs,
+      String validatorName) {
     this.configs.addAll(configs);
+    this.validatorName = validatorName;
   }
 
   @Override
@@ -47,9 +55,16 @@ public class ListSecretKeyProvider implements KeyProvider {
 
   @Override
   public Optional<Key> retrieveKey(String id) {
-    return configs.stream().filter(c -> id.equals(c.getId()))
+    final Object event = JwtEvents.KEY_RETRIEVED.begin();
+    final Optional<Key> key = configs.stream()
+        .filter(c -> id.equals(c.getId()))
         .findFirst()
         .map(SecretKeyConfiguration::getSecretKey);
+    if (event != null) {
+      JwtEvents.KEY_RETRIEVED.commit(event, validatorName, id,
+          key.isPresent());
+    }
+    return key;
   }
 
 }
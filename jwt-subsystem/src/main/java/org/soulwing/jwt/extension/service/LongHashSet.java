@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+/**
+ * A set of {@code long} values, stored in an open-addressing hash table.
+ * <p>
+ * Values are stored without boxing, using linear probing in a table
+ * whose capacity is a power of two; the table doubles in size when it
+ * becomes half full. Zero is used to mark empty slots internally, so the
+ * value zero is tracked using a separate flag. Instances are not
+ * thread-safe.
+ *
+ * @author Carl Harris
+ */
+class LongHashSet {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] table;
+  private int mask;
+  private int size;
+  private boolean containsZero;
+
+  LongHashSet() {
+    table = new long[MIN_CAPACITY];
+    mask = MIN_CAPACITY - 1;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean contains(long value) {
+    if (value == 0) return containsZero;
+    int i = index(value, mask);
+    long v = table[i];
+    while (v != 0) {
+      if (v == value) return true;
+      i = (i + 1) & mask;
+      v = table[i];
+    }
+    return false;
+  }
+
+  /**
+   * Adds a value to this set.
+   * @param value the value to add
+   * @return {@code true} if the value was added; {@code false} if the
+   *    set already contained it
+   */
+  boolean add(long value) {
+    if (value == 0) {
+      if (containsZero) return false;
+      containsZero = true;
+      size++;
+      return true;
+    }
+    int i = index(value, mask);
+    long v = table[i];
+    while (v != 0) {
+      if (v == value) return false;
+      i = (i + 1) & mask;
+      v = table[i];
+    }
+    table[i] = value;
+    if (++size > table.length / 2) {
+      resize(table.length * 2);
+    }
+    return true;
+  }
+
+  private void resize(int capacity) {
+    final long[] table = new long[capacity];
+    final int mask = capacity - 1;
+    for (final long v : this.table) {
+      if (v == 0) continue;
+      int i = index(v, mask);
+      while (table[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      table[i] = v;
+    }
+    this.table = table;
+    this.mask = mask;
+  }
+
+  private static int index(long value, int mask) {
+    return (int) (value ^ (value >>> 32)) & mask;
+  }
+
+}
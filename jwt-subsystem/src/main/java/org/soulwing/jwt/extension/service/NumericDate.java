@@ -0,0 +1,47 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.time.Instant;
+
+/**
+ * A utility for interpreting the value of a JWT {@code NumericDate} claim
+ * such as {@code exp} or {@code iat}.
+ *
+ * @author Carl Harris
+ */
+final class NumericDate {
+
+  private NumericDate() {}
+
+  /**
+   * Converts a claim value to an instant.
+   * @param value claim value; either an {@link Instant} or a number of
+   *    seconds since the epoch
+   * @return instant or {@code null} if {@code value} is not a date
+   */
+  static Instant toInstant(Object value) {
+    if (value instanceof Instant) return (Instant) value;
+    if (value instanceof Number) {
+      return Instant.ofEpochSecond(((Number) value).longValue());
+    }
+    return null;
+  }
+
+}
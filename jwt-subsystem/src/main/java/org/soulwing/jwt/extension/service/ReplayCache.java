@@ -0,0 +1,243 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A cache of the identifiers of tokens that have been seen, used to
+ * detect token replay.
+ * <p>
+ * Each identifier is recorded as a 64-bit digest (see
+ * {@link IdentifierDigest}). To avoid contention between concurrent
+ * requests, the cache is divided into independently locked stripes; the
+ * stripe for an identifier is selected by the low-order bits of its digest.
+ * <p>
+ * Each stripe is a time wheel: a fixed ring of {@value #SLOTS} buckets,
+ * each spanning {@link #BUCKET_WIDTH} seconds of token expiration time. A
+ * token is recorded in the bucket for its expiration time (plus
+ * tolerance); when that time has passed, the whole bucket is discarded, so
+ * no per-entry expiration is needed. A token that expires further ahead
+ * than the span of the ring shares a bucket with earlier tokens, and the
+ * bucket is retained until the latest of them has expired.
+ * <p>
+ * The total number of entries is bounded, and an
+ * {@link ReplayProtectionConfiguration.OverflowPolicy} determines what
+ * happens when the bound is reached. The bound is divided evenly among
+ * the stripes, so it is applied (and the oldest entries are evicted) per
+ * stripe.
+ *
+ * @author Carl Harris
+ */
+class ReplayCache {
+
+  static final long BUCKET_WIDTH = 60;
+
+  static final int SLOTS = 128;
+
+  private static final int MAX_STRIPES = 16;
+
+  private static final int MIN_STRIPE_ENTRIES = 4096;
+
+  enum Result {
+    /** the token has not been seen before */
+    ACCEPTED,
+    /** the token has been seen before */
+    REPLAYED,
+    /** the token was rejected because the cache is full */
+    OVERFLOW
+  }
+
+  private final Wheel[] wheels;
+  private final int mask;
+  private final long tolerance;
+  private final Clock clock;
+
+  ReplayCache(ReplayProtectionConfiguration configuration,
+      Duration tolerance) {
+    this(configuration.getMaxEntries(), configuration.getOverflowPolicy(),
+        tolerance, Clock.systemUTC());
+  }
+
+  ReplayCache(int maxEntries,
+      ReplayProtectionConfiguration.OverflowPolicy overflowPolicy,
+      Duration tolerance, Clock clock) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    final int stripes = Math.min(MAX_STRIPES,
+        Integer.highestOneBit(Math.max(1, maxEntries / MIN_STRIPE_ENTRIES)));
+    this.wheels = new Wheel[stripes];
+    for (int i = 0; i < stripes; i++) {
+      wheels[i] = new Wheel(maxEntries / stripes, overflowPolicy);
+    }
+    this.mask = stripes - 1;
+    this.tolerance = tolerance.getSeconds();
+    this.clock = clock;
+  }
+
+  /**
+   * Checks whether a token has been seen before, recording it if it has
+   * not.
+   * @param id identifier of the token
+   * @param expiresAt expiration time of the token
+   * @return result of the check
+   */
+  Result check(String id, Instant expiresAt) {
+    final long digest = IdentifierDigest.of(id);
+    final long key =
+        Math.floorDiv(expiresAt.getEpochSecond() + tolerance, BUCKET_WIDTH) + 1;
+    return wheels[(int) digest & mask].check(digest, key,
+        Math.floorDiv(clock.instant().getEpochSecond(), BUCKET_WIDTH));
+  }
+
+  /**
+   * Gets the number of identifiers in the cache.
+   * @return number of entries
+   */
+  int size() {
+    int size = 0;
+    for (final Wheel wheel : wheels) {
+      size += wheel.size();
+    }
+    return size;
+  }
+
+  /**
+   * Gets the number of stripes in the cache.
+   * @return number of stripes
+   */
+  int stripes() {
+    return wheels.length;
+  }
+
+  /**
+   * A stripe of the cache, holding a ring of buckets.
+   * <p>
+   * Bucket keys are expressed in units of {@link #BUCKET_WIDTH} seconds;
+   * a bucket is discarded when the current time (in the same units)
+   * reaches its key.
+   */
+  private static class Wheel {
+
+    private final long[] keys = new long[SLOTS];
+    private final LongHashSet[] buckets = new LongHashSet[SLOTS];
+
+    private final int maxEntries;
+    private final ReplayProtectionConfiguration.OverflowPolicy overflowPolicy;
+
+    private long swept = Long.MIN_VALUE;
+    private int size;
+
+    Wheel(int maxEntries,
+        ReplayProtectionConfiguration.OverflowPolicy overflowPolicy) {
+      this.maxEntries = maxEntries;
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    synchronized Result check(long digest, long key, long now) {
+      expire(now);
+      final int slot = slot(key);
+      final LongHashSet bucket = buckets[slot];
+      if (bucket != null && bucket.contains(digest)) {
+        return Result.REPLAYED;
+      }
+
+      if (key <= now) {
+        // already expired; it cannot be replayed within its lifetime
+        return Result.ACCEPTED;
+      }
+
+      if (size >= maxEntries) {
+        switch (overflowPolicy) {
+          case ACCEPT:
+            return Result.ACCEPTED;
+          case EVICT_OLDEST:
+            while (size >= maxEntries) {
+              evictOldest(now);
+            }
+            break;
+          default:
+            return Result.OVERFLOW;
+        }
+      }
+
+      if (buckets[slot] == null) {
+        buckets[slot] = new LongHashSet();
+        keys[slot] = key;
+      }
+      else if (key > keys[slot]) {
+        keys[slot] = key;
+      }
+      buckets[slot].add(digest);
+      size++;
+      return Result.ACCEPTED;
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    /**
+     * Discards the buckets whose keys have been reached.
+     * <p>
+     * Each slot is visited once as the current time passes the keys that
+     * map to it, so after a long idle period at most one full turn of the
+     * ring is swept.
+     * @param now current time in bucket units
+     */
+    private void expire(long now) {
+      if (now <= swept) return;
+      for (long k = Math.max(swept + 1, now - SLOTS + 1); k <= now; k++) {
+        final int slot = slot(k);
+        if (buckets[slot] != null && keys[slot] <= now) {
+          discard(slot);
+        }
+      }
+      swept = now;
+    }
+
+    /**
+     * Discards the next bucket to expire.
+     * @param now current time in bucket units
+     */
+    private void evictOldest(long now) {
+      for (int i = 1; i <= SLOTS; i++) {
+        final int slot = slot(now + i);
+        if (buckets[slot] != null) {
+          discard(slot);
+          return;
+        }
+      }
+    }
+
+    private void discard(int slot) {
+      size -= buckets[slot].size();
+      buckets[slot] = null;
+    }
+
+    private static int slot(long key) {
+      return (int) Math.floorMod(key, (long) SLOTS);
+    }
+
+  }
+
+}
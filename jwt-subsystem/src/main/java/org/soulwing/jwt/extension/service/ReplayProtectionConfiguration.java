@@ -0,0 +1,54 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+/**
+ * A configuration for token replay protection.
+ *
+ * @author Carl Harris
+ */
+public interface ReplayProtectionConfiguration {
+
+  /**
+   * A policy that determines how a token is handled when the replay cache
+   * is full.
+   */
+  enum OverflowPolicy {
+    /** reject the token */
+    REJECT,
+    /** accept the token without recording its identifier */
+    ACCEPT,
+    /** discard the identifiers that would expire soonest */
+    EVICT_OLDEST
+  }
+
+  /**
+   * Gets the maximum number of token identifiers to retain.
+   * @return maximum number of entries
+   */
+  int getMaxEntries();
+
+  /**
+   * Gets the policy to apply when the maximum number of entries has
+   * been reached.
+   * @return overflow policy
+   */
+  OverflowPolicy getOverflowPolicy();
+
+}
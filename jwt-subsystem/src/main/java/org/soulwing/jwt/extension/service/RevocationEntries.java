@@ -0,0 +1,215 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable set of revocation entries.
+ * <p>
+ * Revoked token identifiers are held as a sorted array of 64-bit digests
+ * (see {@link IdentifierDigest}), and revoked subjects as a map of subject
+ * name to the time (in seconds since the epoch) before which all tokens
+ * issued to the subject are revoked.
+ * <p>
+ * In the text form read by {@link #parse(Path)}, each line is either
+ * <pre>
+ * jti &lt;identifier&gt;
+ * sub &lt;subject&gt; &lt;issued-before&gt;
+ * </pre>
+ * where {@code issued-before} is an ISO-8601 instant or a number of seconds
+ * since the epoch. Blank lines and lines starting with {@code #} are
+ * ignored.
+ *
+ * @author Carl Harris
+ */
+final class RevocationEntries {
+
+  static final RevocationEntries EMPTY =
+      new RevocationEntries(new long[0], Collections.emptyMap());
+
+  private final long[] identifiers;
+  private final Map<String, Long> subjects;
+
+  private RevocationEntries(long[] identifiers, Map<String, Long> subjects) {
+    this.identifiers = identifiers;
+    this.subjects = subjects;
+  }
+
+  /**
+   * Parses the revocation entries in a file.
+   * @param path path to the file
+   * @return entries
+   * @throws IOException if the file cannot be read or contains an
+   *    invalid entry
+   */
+  static RevocationEntries parse(Path path) throws IOException {
+    long[] identifiers = new long[64];
+    int count = 0;
+    final Map<String, Long> subjects = new HashMap<>();
+    try (BufferedReader reader =
+             Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) continue;
+        if (line.startsWith("jti ")) {
+          if (count == identifiers.length) {
+            identifiers = Arrays.copyOf(identifiers, 2 * count);
+          }
+          identifiers[count++] = IdentifierDigest.of(line.substring(4).trim());
+        }
+        else if (line.startsWith("sub ")) {
+          final int i = line.lastIndexOf(' ');
+          if (i < 4) {
+            throw invalidEntry(path, lineNumber,
+                "issued-before time is required");
+          }
+          final String subject = line.substring(4, i).trim();
+          if (subject.isEmpty()) {
+            throw invalidEntry(path, lineNumber, "subject is required");
+          }
+          subjects.merge(subject,
+              issuedBefore(line.substring(i + 1), path, lineNumber),
+              Math::max);
+        }
+        else {
+          throw invalidEntry(path, lineNumber, "unrecognized entry");
+        }
+      }
+    }
+    return new RevocationEntries(sortedDistinct(identifiers, count),
+        subjects);
+  }
+
+  /**
+   * Merges several sets of entries into a single set.
+   * @param entries the entries to merge
+   * @return merged entries
+   */
+  static RevocationEntries merge(Collection<RevocationEntries> entries) {
+    if (entries.isEmpty()) return EMPTY;
+    if (entries.size() == 1) return entries.iterator().next();
+    int count = 0;
+    for (final RevocationEntries e : entries) {
+      count += e.identifiers.length;
+    }
+    final long[] identifiers = new long[count];
+    final Map<String, Long> subjects = new HashMap<>();
+    count = 0;
+    for (final RevocationEntries e : entries) {
+      System.arraycopy(e.identifiers, 0, identifiers, count,
+          e.identifiers.length);
+      count += e.identifiers.length;
+      e.subjects.forEach((k, v) -> subjects.merge(k, v, Math::max));
+    }
+    return new RevocationEntries(sortedDistinct(identifiers, count),
+        subjects);
+  }
+
+  /**
+   * Tests whether a token is revoked by these entries.
+   * @param id token identifier ({@code jti}) or {@code null}
+   * @param subject token subject ({@code sub}) or {@code null}
+   * @param issuedAt time at which the token was issued ({@code iat}) or
+   *    {@code null}; a token without an issue time is revoked if its
+   *    subject is revoked
+   * @return {@code true} if the token is revoked
+   */
+  boolean isRevoked(String id, String subject, Instant issuedAt) {
+    if (id != null && identifiers.length != 0
+        && Arrays.binarySearch(identifiers, IdentifierDigest.of(id)) >= 0) {
+      return true;
+    }
+    if (subject != null && !subjects.isEmpty()) {
+      final Long issuedBefore = subjects.get(subject);
+      return issuedBefore != null
+          && (issuedAt == null || issuedAt.getEpochSecond() < issuedBefore);
+    }
+    return false;
+  }
+
+  /**
+   * Tests whether this set of entries is empty.
+   * @return {@code true} if there are no entries
+   */
+  boolean isEmpty() {
+    return identifiers.length == 0 && subjects.isEmpty();
+  }
+
+  /**
+   * Gets the number of revoked token identifiers.
+   * @return number of identifiers
+   */
+  int identifierCount() {
+    return identifiers.length;
+  }
+
+  /**
+   * Gets the number of revoked subjects.
+   * @return number of subjects
+   */
+  int subjectCount() {
+    return subjects.size();
+  }
+
+  private static long[] sortedDistinct(long[] values, int count) {
+    Arrays.sort(values, 0, count);
+    int n = 0;
+    for (int i = 0; i < count; i++) {
+      if (n == 0 || values[i] != values[n - 1]) {
+        values[n++] = values[i];
+      }
+    }
+    return n == values.length ? values : Arrays.copyOf(values, n);
+  }
+
+  private static long issuedBefore(String value, Path path, int lineNumber)
+      throws IOException {
+    try {
+      if (value.chars().allMatch(Character::isDigit)) {
+        return Long.parseLong(value);
+      }
+      return Instant.parse(value).getEpochSecond();
+    }
+    catch (NumberFormatException | DateTimeParseException ex) {
+      throw invalidEntry(path, lineNumber,
+          "invalid issued-before time `" + value + "`");
+    }
+  }
+
+  private static IOException invalidEntry(Path path, int lineNumber,
+      String message) {
+    return new IOException(path + ":" + lineNumber + ": " + message);
+  }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.soulwing.jwt.extension.service.ServiceLogger.LOGGER;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.soulwing.jwt.api.Claims;
+import org.soulwing.jwt.api.exceptions.JWTAssertionFailedException;
+
+/**
+ * A list of revoked tokens and subjects, loaded from a feed of local files.
+ * <p>
+ * The feed is either a single file or a directory; each regular file in
+ * a directory feed (other than hidden files) contributes entries to the
+ * list. See {@link RevocationEntries} for the file format.
+ * <p>
+ * The entries are held in an immutable snapshot that is replaced
+ * atomically when the feed changes, so a token check is a read of the
+ * current snapshot followed by a lookup in it, and never waits for a
+ * reload. Changes to the feed are loaded by calling {@link #reload()},
+ * typically from a scheduled task owned by the service that provides the
+ * list. Only the files whose modification time or size has changed since
+ * the last load are parsed again. If the feed cannot be loaded, a warning
+ * is logged and the previous snapshot remains in effect.
+ *
+ * @author Carl Harris
+ */
+public class RevocationList implements Predicate<Claims> {
+
+  private final Path feed;
+
+  private volatile RevocationEntries entries = RevocationEntries.EMPTY;
+
+  private Map<Path, FeedFile> files = Collections.emptyMap();
+
+  /**
+   * Constructs a new instance.
+   * @param feed path to the feed file or directory
+   */
+  public RevocationList(Path feed) {
+    this.feed = feed;
+  }
+
+  /**
+   * Loads any changes in the feed, replacing the current snapshot of
+   * the list if necessary.
+   * @throws IOException if the feed cannot be read or contains an
+   *    invalid entry
+   */
+  public synchronized void load() throws IOException {
+    final Map<Path, FeedFile> files = new HashMap<>();
+    boolean changed = false;
+    for (final Path path : feedFiles()) {
+      final BasicFileAttributes attrs =
+          Files.readAttributes(path, BasicFileAttributes.class);
+      FeedFile file = this.files.get(path);
+      if (file == null || !file.isCurrent(attrs)) {
+        file = new FeedFile(attrs, RevocationEntries.parse(path));
+        changed = true;
+      }
+      files.put(path, file);
+    }
+    changed |= !files.keySet().equals(this.files.keySet());
+    this.files = files;
+    if (changed) {
+      final List<RevocationEntries> list = new ArrayList<>(files.size());
+      files.values().forEach(file -> list.add(file.entries));
+      final RevocationEntries entries = RevocationEntries.merge(list);
+      this.entries = entries;
+      LOGGER.debug("loaded revocation list " + feed + ": "
+          + entries.identifierCount() + " token identifiers, "
+          + entries.subjectCount() + " subjects");
+    }
+  }
+
+  /**
+   * Loads any changes in the feed, as for {@link #load()}, logging any
+   * error instead of throwing it; the current snapshot remains in effect
+   * if the feed cannot be loaded.
+   */
+  public void reload() {
+    try {
+      load();
+    }
+    catch (IOException | RuntimeException ex) {
+      LOGGER.warn("error reloading revocation list " + feed + ": " + ex);
+    }
+  }
+
+  /**
+   * Tests whether the given claims belong to a token that has not been
+   * revoked.
+   * @param claims the subject claims
+   * @return {@code true} if the token has not been revoked
+   */
+  @Override
+  public boolean test(Claims claims) {
+    return !isRevoked(claims);
+  }
+
+  /**
+   * Tests whether the given claims belong to a token that has been revoked.
+   * @param claims the subject claims
+   * @return {@code true} if the token has been revoked
+   */
+  boolean isRevoked(Claims claims) {
+    final RevocationEntries entries = this.entries;
+    if (entries.isEmpty()) return false;
+    final Object id = claims.claim("jti", Object.class).orElse(null);
+    return entries.isRevoked(id instanceof String ? (String) id : null,
+        claims.getSubject(),
+        NumericDate.toInstant(claims.claim("iat", Object.class).orElse(null)));
+  }
+
+  /**
+   * Creates the exception for a revoked token.
+   * @param claims the subject claims
+   * @return exception
+   */
+  JWTAssertionFailedException error(Claims claims) {
+    return new JWTAssertionFailedException("token has been revoked");
+  }
+
+  private List<Path> feedFiles() throws IOException {
+    if (!Files.isDirectory(feed)) {
+      return Collections.singletonList(feed);
+    }
+    final List<Path> paths = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(feed)) {
+      for (final Path path : stream) {
+        if (Files.isRegularFile(path)
+            && !path.getFileName().toString().startsWith(".")) {
+          paths.add(path);
+        }
+      }
+    }
+    return paths;
+  }
+
+  private static class FeedFile {
+
+    final FileTime lastModified;
+    final long size;
+    final RevocationEntries entries;
+
+    FeedFile(BasicFileAttributes attrs, RevocationEntries entries) {
+      this.lastModified = attrs.lastModifiedTime();
+      this.size = attrs.size();
+      this.entries = entries;
+    }
+
+    boolean isCurrent(BasicFileAttributes attrs) {
+      return lastModified.equals(attrs.lastModifiedTime())
+          && size == attrs.size();
+    }
+
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.soulwing.jwt.extension.service.ServiceLogger.LOGGER;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+
+/**
+ * A mapping from the values of a list of named claims to role names.
+ * <p>
+ * Each value of each named role claim is used as a role for the
+ * authentic user. The role names for a principal obtained from a validated
+ * token are computed once and reused for that principal.
+ *
+ * @author Carl Harris
+ */
+public class RoleClaims {
+
+  private final String[] claimNames;
+
+  public RoleClaims(List<String> claimNames) {
+    this.claimNames = claimNames.toArray(new String[0]);
+  }
+
+  /**
+   * Parses a list of claim names delimited with spaces and/or commas.
+   * @param claimNames the list to parse (may be {@code null})
+   * @return list of claim names
+   */
+  public static List<String> parse(String claimNames) {
+    if (claimNames == null) return Collections.emptyList();
+    final String names = claimNames.trim();
+    if (names.isEmpty()) return Collections.emptyList();
+    return Arrays.asList(names.split("\\s*(,|\\s)\\s*"));
+  }
+
+  /**
+   * Gets the role names for a user principal.
+   * @param principal the subject principal
+   * @return unmodifiable set of role names
+   */
+  public Set<String> getRoles(UserPrincipal principal) {
+    if (principal instanceof DelegatingUserPrincipal) {
+      return ((DelegatingUserPrincipal) principal).getRoles(this);
+    }
+    return mapRoles(principal);
+  }
+
+  /**
+   * Maps the role claims of a user principal to role names.
+   * @param principal the subject principal
+   * @return unmodifiable set of role names
+   */
+  Set<String> mapRoles(UserPrincipal principal) {
+    if (claimNames.length == 0) return Collections.emptySet();
+    final Set<String> roles = new LinkedHashSet<>();
+    for (final String claimName : claimNames) {
+      final Claim claim = principal.getClaim(claimName);
+      if (!claim.isNull()) {
+        roles.addAll(claim.asList(String.class));
+      }
+      else if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("assertion does not contain claim '"
+            + claimName + "'");
+      }
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("assertion-derived roles: " + roles);
+    }
+    return roles.isEmpty() ?
+        Collections.emptySet() : Collections.unmodifiableSet(roles);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(claimNames);
+  }
+
+}
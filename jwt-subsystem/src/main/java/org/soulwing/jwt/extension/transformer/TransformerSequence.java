@@ -18,27 +18,61 @@
  */
 package org.soulwing.jwt.extension.transformer;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
 /**
  * A transformer that invokes a sequence of configured transformers.
+ * <p>
+ * Use {@link #compose(List)} to obtain a function for a sequence; short
+ * sequences are collapsed into a single function so that the common cases
+ * avoid iterating over the sequence on each invocation.
  *
  * @author Carl Harris
  */
 public class TransformerSequence implements Function<Object, Object> {
 
-  private final List<Function<Object, Object>> transformers =
-      new ArrayList<>();
-  
+  /**
+   * The identity transformer.
+   * <p>
+   * An empty sequence is composed to this instance, so that callers can
+   * recognize (by reference) a transformer that has no effect.
+   */
+  public static final Function<Object, Object> IDENTITY = v -> v;
+
+  private final Function<Object, Object>[] transformers;
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   public TransformerSequence(List<Function<?, ?>> transformers) {
-    for (Function transformer : transformers) {
-      this.transformers.add(transformer);
+    this.transformers = transformers.toArray(new Function[0]);
+  }
+
+  /**
+   * Composes a sequence of transformers into a single function.
+   * <p>
+   * An empty sequence yields {@link #IDENTITY}, and a sequence of one
+   * yields the transformer itself.
+   *
+   * @param transformers the transformers to compose
+   * @return function that applies each of the transformers in order
+   */
+  @SuppressWarnings("unchecked")
+  public static Function<Object, Object> compose(
+      List<Function<?, ?>> transformers) {
+    switch (transformers.size()) {
+      case 0:
+        return IDENTITY;
+      case 1:
+        return (Function<Object, Object>) transformers.get(0);
+      case 2:
+        return new Pair((Function<Object, Object>) transformers.get(0),
+            (Function<Object, Object>) transformers.get(1));
+      default:
+        return new TransformerSequence(transformers);
     }
   }
-  
+
   @Override
   public Object apply(Object value) {
     Object t = value;
@@ -50,7 +84,29 @@ public class TransformerSequence implements Function<Object, Object> {
 
   @Override
   public String toString() {
-    return transformers.toString();
+    return Arrays.toString(transformers);
+  }
+
+  private static class Pair implements Function<Object, Object> {
+
+    private final Function<Object, Object> first;
+    private final Function<Object, Object> second;
+
+    Pair(Function<Object, Object> first, Function<Object, Object> second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public Object apply(Object value) {
+      return second.apply(first.apply(value));
+    }
+
+    @Override
+    public String toString() {
+      return "[" + first + ", " + second + "]";
+    }
+
   }
 
 }
@@ -0,0 +1,101 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import io.undertow.security.idm.Account;
+import org.soulwing.jwt.extension.spi.internal.BoundedCache;
+
+/**
+ * A bounded cache of {@link Account} objects keyed by token digest.
+ * <p>
+ * An entry remains valid only until the expiration time of the token
+ * from which it was obtained, so a cached account never outlives the
+ * token that was used to verify it. When the cache is full, expired
+ * entries are purged; if it is still full, an arbitrary entry is evicted
+ * to make room for the new one.
+ *
+ * @author Carl Harris
+ */
+class AccountCache {
+
+  private final BoundedCache<TokenDigest, Entry> entries;
+  private final Clock clock;
+
+  AccountCache(int maxEntries) {
+    this(maxEntries, Clock.systemUTC());
+  }
+
+  AccountCache(int maxEntries, Clock clock) {
+    this.entries = new BoundedCache<>(maxEntries,
+        entry -> entry.isExpired(clock.millis()));
+    this.clock = clock;
+  }
+
+  /**
+   * Gets the cached account for a token.
+   * @param digest digest of the subject token
+   * @return account or {@code null} if there is no unexpired entry for
+   *    the given token
+   */
+  Account get(TokenDigest digest) {
+    final Entry entry = entries.get(digest);
+    return entry != null ? entry.account : null;
+  }
+
+  /**
+   * Puts an account into the cache.
+   * @param digest digest of the token that was used to verify the account
+   * @param account the account to cache
+   * @param expiresAt expiration time of the token
+   */
+  void put(TokenDigest digest, Account account, Instant expiresAt) {
+    final Entry entry = new Entry(account, expiresAt.toEpochMilli());
+    if (entry.isExpired(clock.millis())) return;
+    entries.put(digest, entry);
+  }
+
+  /**
+   * Gets the number of entries in the cache.
+   * @return number of entries (including any that have expired but have
+   *    not yet been purged)
+   */
+  int size() {
+    return entries.size();
+  }
+
+  private static class Entry {
+
+    final Account account;
+    final long expiresAt;
+
+    Entry(Account account, long expiresAt) {
+      this.account = account;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+
+  }
+
+}
@@ -30,6 +30,16 @@ interface AuthenticationChallenge {
      */
     Builder message(String message);
 
+    /**
+     * Specifies the RFC 6750 error code for the challenge.
+     * <p>
+     * A challenge format that has no place for an error code ignores it.
+     * @param error error code (e.g. {@code invalid_token}) or {@code null}
+     *    if the request did not include a token
+     * @return this builder
+     */
+    Builder error(String error);
+
     /**
      * Specifies the token issuer URL.
      * @param issuerUrl token issuer URL
@@ -21,6 +21,9 @@ package org.soulwing.jwt.extension.undertow;
 /**
  * An exception thrown to indicate that authorization of an authentic user
  * has failed.
+ * <p>
+ * The exception is always caught by the authentication mechanism, so it
+ * does not capture a stack trace.
  *
  * @author Carl Harris
  */
@@ -29,7 +32,7 @@ class AuthorizationException extends Exception {
   private static final long serialVersionUID = -6641198835927858443L;
 
   public AuthorizationException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
   
 }
@@ -0,0 +1,155 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.net.URI;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+/**
+ * An authentication challenge conveyed in an RFC 6750 {@code WWW-Authenticate}
+ * header.
+ * <p>
+ * The header value for each category of challenge is built once and
+ * cached up to the start of the error description, which is appended for
+ * each challenge (see {@link ChallengeCache}). The response has no body.
+ *
+ * @author Carl Harris
+ */
+class BearerAuthenticationChallenge implements AuthenticationChallenge {
+
+  private static final String BEARER_AUTH_SCHEMA = "Bearer";
+
+  private static final ChallengeCache<String> HEADERS =
+      new ChallengeCache<>(BearerAuthenticationChallenge::render);
+
+  private int statusCode = StatusCodes.UNAUTHORIZED;
+  private String message;
+  private String error;
+  private URI issuerUrl;
+
+  private BearerAuthenticationChallenge() {}
+
+  public static class Builder implements AuthenticationChallenge.Builder {
+
+    private final BearerAuthenticationChallenge response =
+        new BearerAuthenticationChallenge();
+
+    private Builder() {}
+
+    @Override
+    public Builder statusCode(int statusCode) {
+      response.statusCode = statusCode;
+      return this;
+    }
+
+    @Override
+    public Builder message(String message) {
+      response.message = message;
+      return this;
+    }
+
+    @Override
+    public Builder error(String error) {
+      response.error = error;
+      return this;
+    }
+
+    @Override
+    public Builder issuerUrl(URI issuerUrl) {
+      response.issuerUrl = issuerUrl;
+      return this;
+    }
+
+    @Override
+    public AuthenticationChallenge build() {
+      return response;
+    }
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public void send(HttpServerExchange exchange) {
+    exchange.setStatusCode(statusCode);
+    exchange.setReasonPhrase(StatusCodes.getReason(statusCode));
+    exchange.getResponseHeaders().put(Headers.WWW_AUTHENTICATE, header());
+    exchange.setResponseContentLength(0);
+  }
+
+  String header() {
+    final boolean description = error != null && message != null;
+    final String template =
+        HEADERS.get(statusCode, issuerUrl, error, description);
+    if (!description) return template;
+    final StringBuilder sb = new StringBuilder(
+        template.length() + message.length() + 1).append(template);
+    appendValue(sb, message);
+    return sb.append('"').toString();
+  }
+
+  private static String render(ChallengeCache.Key key) {
+    final StringBuilder sb = new StringBuilder(BEARER_AUTH_SCHEMA);
+    char delimiter = ' ';
+    if (key.issuerUrl != null) {
+      appendParameter(sb, delimiter, "realm", key.issuerUrl.toString());
+      delimiter = ',';
+    }
+    if (key.error != null) {
+      appendParameter(sb, delimiter, "error", key.error);
+      if (key.message) {
+        // the description itself and its closing quote are appended
+        // by header()
+        sb.append(", error_description=\"");
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Appends a quoted parameter, replacing any characters that RFC 6750
+   * does not allow in a parameter value.
+   */
+  private static void appendParameter(StringBuilder sb, char delimiter,
+      String name, String value) {
+    sb.append(delimiter);
+    if (delimiter != ' ') {
+      sb.append(' ');
+    }
+    sb.append(name).append("=\"");
+    appendValue(sb, value);
+    sb.append('"');
+  }
+
+  /**
+   * Appends a parameter value, replacing any characters that RFC 6750
+   * does not allow.
+   */
+  private static void appendValue(StringBuilder sb, String value) {
+    for (int i = 0, length = value.length(); i < length; i++) {
+      final char c = value.charAt(i);
+      sb.append(c < 0x20 || c > 0x7e || c == '"' || c == '\\' ? '?' : c);
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of rendered authentication challenge templates.
+ * <p>
+ * A template is rendered once for each category of failure, that is, for
+ * each distinct combination of status code, issuer URL, error code, and
+ * whether the challenge has a message. The message itself is not part of
+ * the key, since it may include details of the rejected token; it is
+ * inserted into the template each time a challenge is sent. The number of
+ * categories is small, so the cache is a concurrent map that simply stops
+ * inserting when it is full, rather than evicting; a challenge whose
+ * template is not cached is rendered each time it is sent.
+ *
+ * @param <V> type of the rendered template
+ * @author Carl Harris
+ */
+final class ChallengeCache<V> {
+
+  static final int DEFAULT_MAX_ENTRIES = 64;
+
+  private final ConcurrentMap<Key, V> entries = new ConcurrentHashMap<>();
+  private final int maxEntries;
+  private final Function<Key, V> renderer;
+
+  ChallengeCache(Function<Key, V> renderer) {
+    this(DEFAULT_MAX_ENTRIES, renderer);
+  }
+
+  ChallengeCache(int maxEntries, Function<Key, V> renderer) {
+    this.maxEntries = maxEntries;
+    this.renderer = renderer;
+  }
+
+  /**
+   * Gets the rendered template for the given parameters.
+   * @param statusCode HTTP status code
+   * @param issuerUrl token issuer URL (may be {@code null})
+   * @param error RFC 6750 error code (may be {@code null})
+   * @param message {@code true} if the challenge has a message
+   * @return rendered template
+   */
+  V get(int statusCode, URI issuerUrl, String error, boolean message) {
+    final Key key = new Key(statusCode, issuerUrl, error, message);
+    final V value = entries.get(key);
+    if (value != null) return value;
+    // a concurrent render of the same template is harmless, and the
+    // first one cached wins
+    final V rendered = renderer.apply(key);
+    if (entries.size() >= maxEntries) return rendered;
+    final V existing = entries.putIfAbsent(key, rendered);
+    return existing != null ? existing : rendered;
+  }
+
+  /**
+   * Gets the number of cached templates.
+   * @return number of entries
+   */
+  int size() {
+    return entries.size();
+  }
+
+  static final class Key {
+
+    final int statusCode;
+    final URI issuerUrl;
+    final String error;
+    final boolean message;
+    private final int hashCode;
+
+    Key(int statusCode, URI issuerUrl, String error, boolean message) {
+      this.statusCode = statusCode;
+      this.issuerUrl = issuerUrl;
+      this.error = error;
+      this.message = message;
+      this.hashCode = Objects.hash(statusCode, issuerUrl, error, message);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.statusCode == that.statusCode
+          && this.message == that.message
+          && Objects.equals(this.issuerUrl, that.issuerUrl)
+          && Objects.equals(this.error, that.error);
+    }
+
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.util.Locale;
+
+/**
+ * An enumeration of the formats in which an authentication challenge can be
+ * conveyed to the client.
+ *
+ * @author Carl Harris
+ */
+public enum ChallengeFormat {
+
+  /** a pretty-printed JSON response body */
+  PRETTY,
+
+  /** a compact JSON response body */
+  COMPACT,
+
+  /** an RFC 6750 {@code WWW-Authenticate} header with no response body */
+  BEARER;
+
+  /**
+   * Gets the format whose name matches the given descriptor value.
+   * @param value the value to match (case insensitive)
+   * @return format
+   * @throws IllegalArgumentException if there is no matching format
+   */
+  public static ChallengeFormat of(String value) {
+    return valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import org.soulwing.jwt.extension.service.Authenticator;
+import org.soulwing.jwt.extension.service.Credential;
+import io.undertow.security.idm.Account;
+import io.undertow.util.Attachable;
+
+/**
+ * The result of a successful authentication, attached to the connection
+ * on which the bearer token was presented.
+ * <p>
+ * Clients that send the same bearer token on every request over a
+ * long-lived (keep-alive or HTTP/2) connection can be authenticated once
+ * per connection rather than once per request. The attachment records the
+ * digest of the token and the authentication mechanism that produced it;
+ * it is used only by the same mechanism, for the same token, until the
+ * token expires. Since a connection may carry requests for more than one
+ * deployment, an authentication obtained by one deployment's mechanism
+ * (and validator) is never accepted by another's.
+ *
+ * @author Carl Harris
+ */
+final class ConnectionAuthentication {
+
+  private final Object owner;
+  private final TokenDigest digest;
+  private final Authenticator authenticator;
+  private final Credential credential;
+  private final Account account;
+  private final long expiresAt;
+
+  ConnectionAuthentication(Object owner, TokenDigest digest,
+      Authenticator authenticator, Credential credential, Account account,
+      long expiresAt) {
+    this.owner = owner;
+    this.digest = digest;
+    this.authenticator = authenticator;
+    this.credential = credential;
+    this.account = account;
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * Gets the authentication attached to a connection for a token.
+   * @param connection the subject connection (may be {@code null})
+   * @param owner the mechanism requesting the authentication
+   * @param digest digest of the token presented on the connection
+   * @param now current time in milliseconds since the epoch
+   * @return authentication or {@code null} if there is no unexpired
+   *    authentication attached by the given owner for the given token
+   */
+  static ConnectionAuthentication get(Attachable connection, Object owner,
+      TokenDigest digest, long now) {
+    if (connection == null) return null;
+    final ConnectionAuthentication authentication;
+    synchronized (connection) {
+      authentication = connection.getAttachment(
+          JwtAttachments.CONNECTION_AUTHENTICATION_KEY);
+      if (authentication == null) return null;
+      if (now >= authentication.expiresAt) {
+        connection.removeAttachment(
+            JwtAttachments.CONNECTION_AUTHENTICATION_KEY);
+        return null;
+      }
+    }
+    return authentication.owner == owner
+        && authentication.digest.equals(digest) ? authentication : null;
+  }
+
+  /**
+   * Attaches an authentication to a connection, replacing any previous
+   * authentication.
+   * @param connection the subject connection (may be {@code null})
+   * @param authentication the authentication to attach
+   */
+  static void put(Attachable connection,
+      ConnectionAuthentication authentication) {
+    if (connection == null) return;
+    synchronized (connection) {
+      connection.putAttachment(JwtAttachments.CONNECTION_AUTHENTICATION_KEY,
+          authentication);
+    }
+  }
+
+  Authenticator getAuthenticator() {
+    return authenticator;
+  }
+
+  Credential getCredential() {
+    return credential;
+  }
+
+  Account getAccount() {
+    return account;
+  }
+
+}
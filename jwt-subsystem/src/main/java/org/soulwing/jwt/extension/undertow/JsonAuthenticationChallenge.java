@@ -20,9 +20,12 @@ package org.soulwing.jwt.extension.undertow;
 
 import java.io.StringWriter;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import javax.json.Json;
 import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriterFactory;
 import javax.json.stream.JsonGenerator;
 
 import io.undertow.server.HttpServerExchange;
@@ -31,6 +34,12 @@ import io.undertow.util.StatusCodes;
 
 /**
  * A JSON authentication challenge.
+ * <p>
+ * The response body for each category of challenge is rendered once and
+ * cached as a pair of read-only buffers that precede and follow the
+ * message (see {@link ChallengeCache}); the message is encoded and placed
+ * between them for each challenge. The body has no field for an RFC 6750
+ * error code, so the error code given to the builder is ignored.
  *
  * @author Carl Harris
  */
@@ -40,19 +49,38 @@ class JsonAuthenticationChallenge implements AuthenticationChallenge {
 
   private static final String ISSUER_KEY = "issuer";
   private static final String MESSAGE_KEY = "message";
+  private static final String MESSAGE_PLACEHOLDER = "@message@";
+
+  private static final JsonWriterFactory PRETTY_WRITER_FACTORY =
+      Json.createWriterFactory(
+          Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+
+  private static final JsonWriterFactory COMPACT_WRITER_FACTORY =
+      Json.createWriterFactory(Collections.emptyMap());
+
+  private static final ChallengeCache<Template> PRETTY_BODIES =
+      new ChallengeCache<>(key -> render(key, true));
+
+  private static final ChallengeCache<Template> COMPACT_BODIES =
+      new ChallengeCache<>(key -> render(key, false));
+
+  private final ChallengeCache<Template> bodies;
 
   private int statusCode = StatusCodes.UNAUTHORIZED;
   private String message;
   private URI issuerUrl;
 
-  private JsonAuthenticationChallenge() {}
+  private JsonAuthenticationChallenge(boolean pretty) {
+    this.bodies = pretty ? PRETTY_BODIES : COMPACT_BODIES;
+  }
 
   public static class Builder implements AuthenticationChallenge.Builder {
 
-    private final JsonAuthenticationChallenge response =
-        new JsonAuthenticationChallenge();
+    private final JsonAuthenticationChallenge response;
 
-    private Builder() {}
+    private Builder(boolean pretty) {
+      response = new JsonAuthenticationChallenge(pretty);
+    }
 
     @Override
     public AuthenticationChallenge.Builder statusCode(int statusCode) {
@@ -66,6 +94,17 @@ class JsonAuthenticationChallenge implements AuthenticationChallenge {
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A JSON challenge does not include the error code, so this method
+     * has no effect.
+     */
+    @Override
+    public Builder error(String error) {
+      return this;
+    }
+
     @Override
     public Builder issuerUrl(URI issuerUrl) {
       response.issuerUrl = issuerUrl;
@@ -79,7 +118,17 @@ class JsonAuthenticationChallenge implements AuthenticationChallenge {
   }
 
   static Builder builder() {
-    return new Builder();
+    return builder(true);
+  }
+
+  /**
+   * Creates a builder for a JSON challenge.
+   * @param pretty {@code true} if the response body should be pretty
+   *    printed, {@code false} for a compact body
+   * @return builder
+   */
+  static Builder builder(boolean pretty) {
+    return new Builder(pretty);
   }
 
   @Override
@@ -91,22 +140,96 @@ class JsonAuthenticationChallenge implements AuthenticationChallenge {
     exchange.getResponseSender().send(body());
   }
 
-  private String body() {
+  ByteBuffer body() {
+    final Template template =
+        bodies.get(statusCode, issuerUrl, null, message != null);
+    if (template.suffix == null) return template.prefix.duplicate();
+    final byte[] encoded = encode(message).getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer body = ByteBuffer.allocate(template.prefix.remaining()
+        + encoded.length + template.suffix.remaining());
+    body.put(template.prefix.duplicate()).put(encoded)
+        .put(template.suffix.duplicate()).flip();
+    return body;
+  }
+
+  private static Template render(ChallengeCache.Key key, boolean pretty) {
     final JsonObjectBuilder json = Json.createObjectBuilder();
-    if (issuerUrl != null) {
-      json.add(ISSUER_KEY, issuerUrl.toString());
+    if (key.issuerUrl != null) {
+      json.add(ISSUER_KEY, key.issuerUrl.toString());
     }
-    if (message != null) {
-      json.add(MESSAGE_KEY, message);
+    if (key.message) {
+      json.add(MESSAGE_KEY, MESSAGE_PLACEHOLDER);
     }
 
+    final JsonWriterFactory writerFactory = pretty ?
+        PRETTY_WRITER_FACTORY : COMPACT_WRITER_FACTORY;
     final StringWriter writer = new StringWriter();
-    Json.createWriterFactory(
-        Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true))
-        .createWriter(writer)
-        .writeObject(json.build());
+    writerFactory.createWriter(writer).writeObject(json.build());
+    final String body = writer.toString().trim();
+    if (!key.message) {
+      return new Template(buffer(body), null);
+    }
+
+    // the message is the last value written, so the last occurrence of
+    // the placeholder is the one that the writer put there
+    final int index = body.lastIndexOf(MESSAGE_PLACEHOLDER);
+    return new Template(buffer(body.substring(0, index)),
+        buffer(body.substring(index + MESSAGE_PLACEHOLDER.length())));
+  }
+
+  private static ByteBuffer buffer(String s) {
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8))
+        .asReadOnlyBuffer();
+  }
+
+  /**
+   * Encodes a string for use as the content of a JSON string value.
+   */
+  private static String encode(String s) {
+    final StringBuilder sb = new StringBuilder(s.length() + 8);
+    for (int i = 0, length = s.length(); i < length; i++) {
+      final char c = s.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          }
+          else {
+            sb.append(c);
+          }
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * A rendered body, divided at the position of the message.
+   */
+  private static final class Template {
+
+    final ByteBuffer prefix;
+    final ByteBuffer suffix;
+
+    Template(ByteBuffer prefix, ByteBuffer suffix) {
+      this.prefix = prefix;
+      this.suffix = suffix;
+    }
 
-    return writer.toString().trim();
   }
 
 }
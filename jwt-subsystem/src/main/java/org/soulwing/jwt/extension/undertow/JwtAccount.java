@@ -0,0 +1,66 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.util.Set;
+
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import io.undertow.security.idm.Account;
+
+/**
+ * An immutable {@link Account} for a user whose identity and roles are
+ * derived entirely from the claims of a validated token.
+ *
+ * @author Carl Harris
+ */
+class JwtAccount implements Account {
+
+  private static final long serialVersionUID = 2286342052880575785L;
+
+  private final UserPrincipal principal;
+  private final Set<String> roles;
+
+  /**
+   * Constructs a new instance.
+   * @param principal user principal
+   * @param roles set of role names; the caller must not modify this set
+   *    after constructing the account
+   */
+  JwtAccount(UserPrincipal principal, Set<String> roles) {
+    this.principal = principal;
+    this.roles = roles;
+  }
+
+  @Override
+  public UserPrincipal getPrincipal() {
+    return principal;
+  }
+
+  @Override
+  public Set<String> getRoles() {
+    return roles;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{ principal=%s roles=%s }",
+        principal.getName(), roles);
+  }
+
+}
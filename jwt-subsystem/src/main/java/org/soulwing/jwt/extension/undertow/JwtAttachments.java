@@ -37,8 +37,14 @@ interface JwtAttachments {
 
   AttachmentKey<String> AUTH_MESSAGE_KEY =
       AttachmentKey.create(String.class);
+
+  AttachmentKey<String> AUTH_ERROR_KEY =
+      AttachmentKey.create(String.class);
   
   AttachmentKey<Authenticator> AUTHENTICATOR_KEY =
       AttachmentKey.create(Authenticator.class);
 
+  AttachmentKey<ConnectionAuthentication> CONNECTION_AUTHENTICATION_KEY =
+      AttachmentKey.create(ConnectionAuthentication.class);
+
 }
@@ -32,6 +32,10 @@ import io.undertow.server.HttpServerExchange;
  * When using bearer authentication, we want to validate the bearer token
  * for each no request. To ensure that this happens, we log out of the security
  * context.
+ * <p>
+ * Logging out does not discard an authentication attached to the connection
+ * when connection reuse is enabled (see {@link ConnectionAuthentication});
+ * such an authentication is discarded when the token expires.
  *
  * @author Carl Harris
  */
@@ -20,9 +20,16 @@ package org.soulwing.jwt.extension.undertow;
 
 import static org.soulwing.jwt.extension.undertow.UndertowLogger.LOGGER;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.function.Supplier;
 
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.soulwing.jwt.extension.audit.AuditLog;
+import org.soulwing.jwt.extension.jfr.JwtEvents;
 import org.soulwing.jwt.extension.service.AuthenticationException;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
 import org.soulwing.jwt.extension.service.AuthenticationService;
 import org.soulwing.jwt.extension.service.Authenticator;
 import org.soulwing.jwt.extension.service.Credential;
@@ -52,23 +59,62 @@ public class JwtAuthenticationMechanism implements AuthenticationMechanism {
   private static final String NOT_AUTHORIZED_MESSAGE =
       "identity manager does not recognize user '%s'";
 
+  private static final String EXPIRATION_CLAIM = "exp";
+
+  private static final String INVALID_TOKEN_ERROR = "invalid_token";
+
+  private static final String NO_TOKEN_MESSAGE = "No token present";
+
+  private static final String ACCOUNT_CACHE_NAME = "account";
+
+  private static final String CONNECTION_CACHE_NAME = "connection";
+
   private final IdentityManager identityManager;
   private final Supplier<AuthenticationService> authenticationService;
+  private final AccountCache accountCache;
+  private final boolean connectionReuse;
   private final Supplier<AuthenticationChallenge.Builder> challengeBuilder;
+  private final Clock clock;
 
   JwtAuthenticationMechanism(IdentityManager identityManager,
       Supplier<AuthenticationService> authenticationService) {
-    this(identityManager, authenticationService,
-        JsonAuthenticationChallenge::builder);
+    this(identityManager, authenticationService, null);
+  }
+
+  JwtAuthenticationMechanism(IdentityManager identityManager,
+      Supplier<AuthenticationService> authenticationService,
+      AccountCache accountCache) {
+    this(identityManager, authenticationService, accountCache, false);
   }
 
-  private JwtAuthenticationMechanism(
+  JwtAuthenticationMechanism(IdentityManager identityManager,
+      Supplier<AuthenticationService> authenticationService,
+      AccountCache accountCache, boolean connectionReuse) {
+    this(identityManager, authenticationService, accountCache,
+        connectionReuse, ChallengeFormat.PRETTY);
+  }
+
+  JwtAuthenticationMechanism(IdentityManager identityManager,
+      Supplier<AuthenticationService> authenticationService,
+      AccountCache accountCache, boolean connectionReuse,
+      ChallengeFormat challengeFormat) {
+    this(identityManager, authenticationService, accountCache,
+        connectionReuse, challengeBuilder(challengeFormat),
+        Clock.systemUTC());
+  }
+
+  JwtAuthenticationMechanism(
       IdentityManager identityManager,
       Supplier<AuthenticationService> authenticationService,
-      Supplier<AuthenticationChallenge.Builder> challengeBuilder) {
+      AccountCache accountCache, boolean connectionReuse,
+      Supplier<AuthenticationChallenge.Builder> challengeBuilder,
+      Clock clock) {
     this.identityManager = identityManager;
     this.authenticationService = authenticationService;
+    this.accountCache = accountCache;
+    this.connectionReuse = connectionReuse;
     this.challengeBuilder = challengeBuilder;
+    this.clock = clock;
   }
 
   @Override
@@ -79,45 +125,132 @@ public class JwtAuthenticationMechanism implements AuthenticationMechanism {
       return AuthenticationMechanismOutcome.NOT_ATTEMPTED;
     }
 
+    final AuditLog auditLog = authenticationService.get().getAuditLog();
+    final AuthenticationMetrics metrics =
+        authenticationService.get().getMetrics();
+    final long startTime =
+        auditLog != null || metrics != null ? System.nanoTime() : 0;
+
     final String token = getToken(exchange);
     if (token == null) {
       exchange.putAttachment(JwtAttachments.AUTH_MESSAGE_KEY,
           "Bearer token authentication is required");
-      securityContext.authenticationFailed("No token present", MECHANISM_NAME);
+      securityContext.authenticationFailed(NO_TOKEN_MESSAGE, MECHANISM_NAME);
+      recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.FAILURE,
+          null, NO_TOKEN_MESSAGE, startTime);
       return AuthenticationMechanismOutcome.NOT_AUTHENTICATED;
     }
 
+    final TokenDigest digest = accountCache != null || connectionReuse ?
+        TokenDigest.of(token) : null;
+
+    if (connectionReuse) {
+      final Object event = JwtEvents.CACHE_ACCESS.begin();
+      final ConnectionAuthentication authentication =
+          ConnectionAuthentication.get(exchange.getConnection(), this,
+              digest, clock.millis());
+      if (event != null) {
+        JwtEvents.CACHE_ACCESS.commit(event,
+            authenticationService.get().getName(), CONNECTION_CACHE_NAME,
+            authentication != null);
+      }
+      if (metrics != null) {
+        metrics.recordConnectionReuse(authentication != null);
+      }
+      if (authentication != null) {
+        exchange.putAttachment(JwtAttachments.AUTHENTICATOR_KEY,
+            authentication.getAuthenticator());
+        exchange.putAttachment(JwtAttachments.CREDENTIAL_KEY,
+            authentication.getCredential());
+        securityContext.authenticationComplete(authentication.getAccount(),
+            MECHANISM_NAME, true);
+        recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.SUCCESS,
+            authentication.getCredential().getPrincipal(), null, startTime);
+        return AuthenticationMechanismOutcome.AUTHENTICATED;
+      }
+    }
+
+    UserPrincipal principal = null;
     try {
       final Authenticator authenticator =
           authenticationService.get().newAuthenticator();
 
       exchange.putAttachment(JwtAttachments.AUTHENTICATOR_KEY, authenticator);
       final Credential credential = authenticator.validate(token);
-      final Account account = authorize(credential);
+      principal = credential.getPrincipal();
+      final Account account = authorize(digest, credential, metrics);
 
       exchange.putAttachment(JwtAttachments.CREDENTIAL_KEY, credential);
 
+      if (connectionReuse) {
+        final Instant expiresAt = expiresAt(credential);
+        if (expiresAt != null) {
+          ConnectionAuthentication.put(exchange.getConnection(),
+              new ConnectionAuthentication(this, digest, authenticator,
+                  credential, account, expiresAt.toEpochMilli()));
+        }
+      }
+
       securityContext.authenticationComplete(account, MECHANISM_NAME, true);
+      recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.SUCCESS,
+          principal, null, startTime);
       return AuthenticationMechanismOutcome.AUTHENTICATED;
     }
     catch (AuthorizationException ex) {
       exchange.putAttachment(JwtAttachments.AUTH_FAILED_KEY,
           StatusCodes.FORBIDDEN);
       securityContext.authenticationFailed(ex.getMessage(), MECHANISM_NAME);
+      recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.FAILURE,
+          principal, ex.getMessage(), startTime);
       return AuthenticationMechanismOutcome.NOT_AUTHENTICATED;
     }
     catch (AuthenticationException ex) {
+      if (ex.getCause() != null) {
+        // the cause is retained only when debug logging is enabled
+        LOGGER.debug("authentication failed: " + ex.getMessage(),
+            ex.getCause());
+      }
       exchange.putAttachment(JwtAttachments.AUTH_MESSAGE_KEY,
           ex.getMessage());
+      exchange.putAttachment(JwtAttachments.AUTH_ERROR_KEY,
+          INVALID_TOKEN_ERROR);
       securityContext.setAuthenticationRequired();
+      recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.FAILURE,
+          null, ex.getMessage(), startTime);
       return AuthenticationMechanismOutcome.NOT_AUTHENTICATED;
     }
     catch (Exception ex) {
       LOGGER.error(ex.getMessage(), ex);
+      recordOutcome(auditLog, metrics, exchange, AuditLog.Outcome.FAILURE,
+          principal, ex.getMessage(), startTime);
       return AuthenticationMechanismOutcome.NOT_AUTHENTICATED;
     }
   }
 
+  /**
+   * Records an authentication outcome in the audit log and metrics, if
+   * either is configured.
+   */
+  private static void recordOutcome(AuditLog auditLog,
+      AuthenticationMetrics metrics, HttpServerExchange exchange,
+      AuditLog.Outcome outcome, UserPrincipal principal, String reason,
+      long startTime) {
+    if (auditLog == null && metrics == null) return;
+    final long latency = System.nanoTime() - startTime;
+    if (metrics != null) {
+      if (outcome == AuditLog.Outcome.SUCCESS) {
+        metrics.recordSuccess(latency);
+      }
+      else {
+        metrics.recordFailure(latency);
+      }
+    }
+    if (auditLog != null) {
+      auditLog.publish(outcome, principal, exchange.getSourceAddress(),
+          reason, latency);
+    }
+  }
+
   private String getToken(HttpServerExchange exchange) {
     final String token = extractTokenFromHeader(exchange);
     return (token != null) ? token : extractTokenFromQueryParam(exchange);
@@ -153,10 +286,12 @@ public class JwtAuthenticationMechanism implements AuthenticationMechanism {
         .statusCode(status)
         .issuerUrl(authenticationService.get().getIssuerUrl())
         .message(exchange.getAttachment(JwtAttachments.AUTH_MESSAGE_KEY))
+        .error(exchange.getAttachment(JwtAttachments.AUTH_ERROR_KEY))
         .build()
         .send(exchange);
 
     exchange.removeAttachment(JwtAttachments.AUTH_MESSAGE_KEY);
+    exchange.removeAttachment(JwtAttachments.AUTH_ERROR_KEY);
 
     return new ChallengeResult(true, status);
   }
@@ -164,11 +299,41 @@ public class JwtAuthenticationMechanism implements AuthenticationMechanism {
   /**
    * Authorizes the user associated with the given assertion credential via
    * the container's identity manager.
+   * <p>
+   * When an account cache is configured, an account previously verified
+   * for the same token is reused instead of consulting the identity manager.
+   *
+   * @param digest digest of the bearer token from which the credential was
+   *    obtained; {@code null} if neither the account cache nor connection
+   *    reuse is enabled
    * @param credential the subject user credential
+   * @param metrics metrics to which account cache lookups are recorded;
+   *    {@code null} if statistics are not enabled
    * @return authorized user's account object
    * @throws AuthorizationException if the user is not authorized
    */
-  private Account authorize(Credential credential) throws AuthorizationException {
+  private Account authorize(TokenDigest digest, Credential credential,
+      AuthenticationMetrics metrics) throws AuthorizationException {
+
+    if (accountCache != null) {
+      final Object event = JwtEvents.CACHE_ACCESS.begin();
+      final Account account = accountCache.get(digest);
+      if (event != null) {
+        JwtEvents.CACHE_ACCESS.commit(event,
+            authenticationService.get().getName(), ACCOUNT_CACHE_NAME,
+            account != null);
+      }
+      if (metrics != null) {
+        metrics.recordAccountCache(account != null);
+      }
+      if (account != null) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("using cached account for user "
+              + account.getPrincipal().getName());
+        }
+        return account;
+      }
+    }
 
     String name = credential.getPrincipal().getName();
 
@@ -188,7 +353,32 @@ public class JwtAuthenticationMechanism implements AuthenticationMechanism {
           + " roles=" + account.getRoles());
     }
 
+    if (accountCache != null) {
+      final Instant expiresAt = expiresAt(credential);
+      if (expiresAt != null) {
+        accountCache.put(digest, account, expiresAt);
+      }
+    }
+
     return account;
   }
 
+  private static Supplier<AuthenticationChallenge.Builder> challengeBuilder(
+      ChallengeFormat format) {
+    switch (format) {
+      case COMPACT:
+        return () -> JsonAuthenticationChallenge.builder(false);
+      case BEARER:
+        return BearerAuthenticationChallenge::builder;
+      default:
+        return () -> JsonAuthenticationChallenge.builder(true);
+    }
+  }
+
+  private static Instant expiresAt(Credential credential) {
+    final Claim expiration =
+        credential.getPrincipal().getClaim(EXPIRATION_CLAIM);
+    return expiration.isNull() ? null : expiration.asInstant();
+  }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.soulwing.jwt.extension.undertow.UndertowLogger.LOGGER;
+
+import java.util.List;
+
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.soulwing.jwt.extension.service.RoleClaims;
+import io.undertow.security.idm.Account;
+import io.undertow.security.idm.Credential;
+import io.undertow.security.idm.IdentityManager;
+
+/**
+ * An {@link IdentityManager} that creates accounts directly from the
+ * claims of a validated token, without consulting a security domain.
+ * <p>
+ * Role names are taken from the values of the configured role claims,
+ * in the same manner as the {@code role-claims} option of
+ * {@link org.soulwing.jwt.extension.jaas.JwtLoginModule}. Each value of
+ * each named role claim is used as a role for the authentic user.
+ *
+ * @author Carl Harris
+ */
+class JwtIdentityManager implements IdentityManager {
+
+  private final RoleClaims roleClaims;
+
+  JwtIdentityManager(List<String> roleClaims) {
+    this.roleClaims = new RoleClaims(roleClaims);
+  }
+
+  @Override
+  public Account verify(Account account) {
+    return account instanceof JwtAccount ? account : null;
+  }
+
+  @Override
+  public Account verify(String id, Credential credential) {
+    final Account account = verify(credential);
+    if (account == null) return null;
+    if (!account.getPrincipal().getName().equals(id)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("principal name does not match `" + id + "`");
+      }
+      return null;
+    }
+    return account;
+  }
+
+  @Override
+  public Account verify(Credential credential) {
+    if (!(credential instanceof
+        org.soulwing.jwt.extension.service.Credential)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("not a credential");
+      }
+      return null;
+    }
+    final UserPrincipal principal =
+        ((org.soulwing.jwt.extension.service.Credential) credential)
+            .getPrincipal();
+    return new JwtAccount(principal, roleClaims.getRoles(principal));
+  }
+
+}
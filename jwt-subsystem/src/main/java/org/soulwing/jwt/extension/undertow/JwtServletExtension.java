@@ -20,6 +20,7 @@ package org.soulwing.jwt.extension.undertow;
 
 import static org.soulwing.jwt.extension.undertow.UndertowLogger.LOGGER;
 
+import java.util.List;
 import java.util.function.Supplier;
 import javax.servlet.ServletContext;
 
@@ -38,12 +39,58 @@ public class JwtServletExtension
     implements Service<ServletExtension>, ServletExtension {
 
   private Supplier<AuthenticationService> authenticationService;
+  private int accountCacheSize;
+  private boolean connectionReuse;
+  private ChallengeFormat challengeFormat = ChallengeFormat.PRETTY;
+  private List<String> roleClaims;
 
   public void setAuthenticationService(
       Supplier<AuthenticationService> authenticationService) {
     this.authenticationService = authenticationService;
   }
 
+  /**
+   * Sets the maximum number of verified accounts to cache for the deployment.
+   * @param accountCacheSize maximum number of entries; zero disables the
+   *    account cache
+   */
+  public void setAccountCacheSize(int accountCacheSize) {
+    this.accountCacheSize = accountCacheSize;
+  }
+
+  /**
+   * Sets a flag indicating whether the result of authenticating a bearer
+   * token should be reused for subsequent requests on the same connection
+   * that present the same token.
+   * <p>
+   * Connection reuse is not compatible with replay protection, since a
+   * reused result would accept the same token again, nor with a revocation
+   * list, since a reused result would not be checked against the current
+   * list; if the validator has either enabled, this flag is ignored.
+   * @param connectionReuse {@code true} to enable connection reuse
+   */
+  public void setConnectionReuse(boolean connectionReuse) {
+    this.connectionReuse = connectionReuse;
+  }
+
+  /**
+   * Sets the format in which authentication challenges are sent.
+   * @param challengeFormat challenge format
+   */
+  public void setChallengeFormat(ChallengeFormat challengeFormat) {
+    this.challengeFormat = challengeFormat;
+  }
+
+  /**
+   * Sets the claims whose values are used as role names by the native
+   * identity manager.
+   * @param roleClaims list of claim names; {@code null} to use the
+   *    deployment's own identity manager
+   */
+  public void setRoleClaims(List<String> roleClaims) {
+    this.roleClaims = roleClaims;
+  }
+
   @Override
   public ServletExtension getValue()
       throws IllegalStateException, IllegalArgumentException {
@@ -66,10 +113,35 @@ public class JwtServletExtension
 
     deploymentInfo.clearLoginMethods();
 
+    if (roleClaims != null) {
+      deploymentInfo.setIdentityManager(new JwtIdentityManager(roleClaims));
+      LOGGER.debug("using JWT identity manager; role claims: " + roleClaims);
+    }
+
+    boolean connectionReuse = this.connectionReuse;
+    if (connectionReuse && authenticationService.get().isReplayProtection()) {
+      // a reused authentication would accept a replayed token
+      LOGGER.warn("connection reuse disabled for deployment "
+          + deploymentInfo.getDeploymentName() + ": validator '"
+          + authenticationService.get().getName()
+          + "' has replay protection enabled");
+      connectionReuse = false;
+    }
+    if (connectionReuse && authenticationService.get().isRevocationCheck()) {
+      // a reused authentication would accept a token revoked since
+      LOGGER.warn("connection reuse disabled for deployment "
+          + deploymentInfo.getDeploymentName() + ": validator '"
+          + authenticationService.get().getName()
+          + "' has a revocation list");
+      connectionReuse = false;
+    }
+
     deploymentInfo.addFirstAuthenticationMechanism(
         JwtAuthenticationMechanism.MECHANISM_NAME,
         new JwtAuthenticationMechanism(
-            deploymentInfo.getIdentityManager(), authenticationService));
+            deploymentInfo.getIdentityManager(), authenticationService,
+            accountCacheSize > 0 ? new AccountCache(accountCacheSize) : null,
+            connectionReuse, challengeFormat));
 
     deploymentInfo.addOuterHandlerChainWrapper(
         new JwtAuthenticationContextInvalidator());
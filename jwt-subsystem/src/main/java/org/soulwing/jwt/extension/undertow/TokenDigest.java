@@ -0,0 +1,85 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * A SHA-256 digest of a bearer token, suitable for use as a map key.
+ * <p>
+ * Keying on the digest rather than the token itself avoids retaining
+ * bearer tokens in memory for the lifetime of a cache entry.
+ *
+ * @author Carl Harris
+ */
+final class TokenDigest {
+
+  private static final String ALGORITHM = "SHA-256";
+
+  private static final ThreadLocal<MessageDigest> DIGEST =
+      ThreadLocal.withInitial(TokenDigest::newMessageDigest);
+
+  private final byte[] digest;
+  private final int hashCode;
+
+  private TokenDigest(byte[] digest) {
+    this.digest = digest;
+    // digest bytes are uniformly distributed, so any four of them will do
+    this.hashCode = (digest[0] & 0xff) << 24 | (digest[1] & 0xff) << 16
+        | (digest[2] & 0xff) << 8 | (digest[3] & 0xff);
+  }
+
+  /**
+   * Creates the digest of a token.
+   * @param token the subject token
+   * @return digest
+   */
+  static TokenDigest of(String token) {
+    final MessageDigest md = DIGEST.get();
+    md.reset();
+    return new TokenDigest(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ALGORITHM + " is not available", ex);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof TokenDigest)) return false;
+    final TokenDigest that = (TokenDigest) obj;
+    return this.hashCode == that.hashCode
+        && Arrays.equals(this.digest, that.digest);
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+
+/**
+ * Unit tests for {@link AuditLog}.
+ *
+ * @author Carl Harris
+ */
+public class AuditLogTest {
+
+  private static final InetSocketAddress CLIENT =
+      new InetSocketAddress("192.0.2.1", 1234);
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {{
+    setThreadingPolicy(new Synchroniser());
+  }};
+
+  @Mock
+  private UserPrincipal principal;
+
+  @Mock
+  private Claim issuer;
+
+  @Mock
+  private Claim id;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  @Test
+  public void testCapacityIsPowerOfTwo() throws Exception {
+    assertThat(newLog(5, AuditLog.OverflowPolicy.DROP).getCapacity(), is(8));
+    assertThat(newLog(8, AuditLog.OverflowPolicy.DROP).getCapacity(), is(8));
+    assertThat(newLog(1, AuditLog.OverflowPolicy.DROP).getCapacity(), is(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenBufferSizeNotPositive() throws Exception {
+    newLog(0, AuditLog.OverflowPolicy.DROP);
+  }
+
+  @Test
+  public void testPublishSuccess() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(principal).getName();
+        will(returnValue("subject"));
+        allowing(principal).getClaim("iss");
+        will(returnValue(issuer));
+        allowing(issuer).getValue();
+        will(returnValue("issuer"));
+        allowing(principal).getClaim("jti");
+        will(returnValue(id));
+        allowing(id).getValue();
+        will(returnValue("id"));
+      }
+    });
+
+    final AuditLog log = newLog(8, AuditLog.OverflowPolicy.DROP);
+    log.start();
+    log.publish(AuditLog.Outcome.SUCCESS, principal, CLIENT, null, 42000);
+    log.close();
+
+    final String line = output();
+    assertThat(line, containsString("\"outcome\":\"success\""));
+    assertThat(line, containsString("\"subject\":\"subject\""));
+    assertThat(line, containsString("\"issuer\":\"issuer\""));
+    assertThat(line, containsString("\"jti\":\"id\""));
+    assertThat(line, containsString("\"client\":\"192.0.2.1\""));
+    assertThat(line, containsString("\"latencyMicros\":42}\n"));
+  }
+
+  @Test
+  public void testPublishEscapesValues() throws Exception {
+    final AuditLog log = newLog(8, AuditLog.OverflowPolicy.DROP);
+    log.start();
+    log.publish(AuditLog.Outcome.FAILURE, null, null,
+        "bad \"token\"\n\\", 0);
+    log.close();
+
+    assertThat(output(), containsString(
+        "\"reason\":\"bad \\\"token\\\"\\n\\\\\""));
+  }
+
+  @Test
+  public void testSkipsEventThatCannotBeRendered() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(principal).getName();
+        will(throwException(new IllegalStateException()));
+      }
+    });
+
+    final AuditLog log = newLog(8, AuditLog.OverflowPolicy.DROP);
+    log.start();
+    log.publish(AuditLog.Outcome.SUCCESS, principal, CLIENT, null, 0);
+    log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, "reason", 0);
+    log.close();
+
+    assertThat(lineCount(), is(1));
+    assertThat(output(), containsString("\"reason\":\"reason\""));
+  }
+
+  @Test
+  public void testDropWhenFull() throws Exception {
+    final AuditLog log = newLog(2, AuditLog.OverflowPolicy.DROP);
+    assertThat(log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, "1", 0),
+        is(true));
+    assertThat(log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, "2", 0),
+        is(true));
+    assertThat(log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, "3", 0),
+        is(false));
+    assertThat(log.getDroppedCount(), is(equalTo(1L)));
+
+    log.start();
+    log.close();
+    assertThat(lineCount(), is(2));
+  }
+
+  @Test
+  public void testBlockWhenFull() throws Exception {
+    final AuditLog log = newLog(1, AuditLog.OverflowPolicy.BLOCK);
+    log.start();
+    final Thread producer = new Thread(() -> {
+      for (int i = 0; i < 1000; i++) {
+        log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, "reason", 0);
+      }
+    });
+    producer.start();
+    producer.join();
+    log.close();
+
+    assertThat(log.getDroppedCount(), is(equalTo(0L)));
+    assertThat(lineCount(), is(1000));
+  }
+
+  @Test
+  public void testPublishAfterClose() throws Exception {
+    final AuditLog log = newLog(8, AuditLog.OverflowPolicy.BLOCK);
+    log.start();
+    log.close();
+    assertThat(log.publish(AuditLog.Outcome.FAILURE, null, CLIENT, null, 0),
+        is(false));
+    assertThat(log.getDroppedCount(), is(equalTo(1L)));
+  }
+
+  private AuditLog newLog(int bufferSize, AuditLog.OverflowPolicy policy) {
+    return new AuditLog("test-audit-log", out, bufferSize, policy);
+  }
+
+  private String output() {
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private int lineCount() {
+    return output().split("\n").length;
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RollingFileOutputStream}.
+ *
+ * @author Carl Harris
+ */
+public class RollingFileOutputStreamTest {
+
+  private Path directory;
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("audit");
+    path = directory.resolve("logs").resolve("audit.log");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testWriteWithinMaxFileSize() throws Exception {
+    try (RollingFileOutputStream out =
+        new RollingFileOutputStream(path, 10, 2)) {
+      write(out, "12345");
+      write(out, "67890");
+    }
+    assertThat(read(path), is(equalTo("1234567890")));
+    assertThat(Files.exists(backup(1)), is(false));
+  }
+
+  @Test
+  public void testRollOver() throws Exception {
+    try (RollingFileOutputStream out =
+        new RollingFileOutputStream(path, 10, 2)) {
+      write(out, "aaaaaa");
+      write(out, "bbbbbb");
+      write(out, "cccccc");
+      write(out, "dddddd");
+    }
+    assertThat(read(path), is(equalTo("dddddd")));
+    assertThat(read(backup(1)), is(equalTo("cccccc")));
+    assertThat(read(backup(2)), is(equalTo("bbbbbb")));
+    assertThat(Files.exists(backup(3)), is(false));
+  }
+
+  @Test
+  public void testRollOverWithoutBackups() throws Exception {
+    try (RollingFileOutputStream out =
+        new RollingFileOutputStream(path, 10, 0)) {
+      write(out, "aaaaaa");
+      write(out, "bbbbbb");
+    }
+    assertThat(read(path), is(equalTo("bbbbbb")));
+    assertThat(Files.exists(backup(1)), is(false));
+  }
+
+  @Test
+  public void testAppendsToExistingFile() throws Exception {
+    try (RollingFileOutputStream out =
+        new RollingFileOutputStream(path, 10, 1)) {
+      write(out, "aaaaaa");
+    }
+    try (RollingFileOutputStream out =
+        new RollingFileOutputStream(path, 10, 1)) {
+      write(out, "bbbbbb");
+    }
+    assertThat(read(path), is(equalTo("bbbbbb")));
+    assertThat(read(backup(1)), is(equalTo("aaaaaa")));
+  }
+
+  private Path backup(int index) {
+    return path.resolveSibling(path.getFileName() + "." + index);
+  }
+
+  private static void write(RollingFileOutputStream out, String s)
+      throws IOException {
+    out.write(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String read(Path path) throws IOException {
+    return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+  }
+
+}
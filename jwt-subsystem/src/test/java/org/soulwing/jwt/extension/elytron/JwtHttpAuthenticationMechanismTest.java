@@ -0,0 +1,233 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.CallbackHandler;
+import javax.security.sasl.AuthorizeCallback;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.wildfly.security.auth.callback.AuthenticationCompleteCallback;
+import org.wildfly.security.auth.callback.EvidenceVerifyCallback;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+import org.wildfly.security.http.HttpConstants;
+import org.wildfly.security.http.HttpServerMechanismsResponder;
+import org.wildfly.security.http.HttpServerRequest;
+import org.wildfly.security.http.HttpServerResponse;
+
+/**
+ * Unit tests for {@link JwtHttpAuthenticationMechanism}.
+ *
+ * @author Carl Harris
+ */
+public class JwtHttpAuthenticationMechanismTest {
+
+  private static final String TOKEN = "token";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private CallbackHandler callbackHandler;
+
+  @Mock
+  private HttpServerRequest request;
+
+  @Mock
+  private HttpServerResponse response;
+
+  private final List<Callback> callbacks = new ArrayList<>();
+
+  private final List<HttpServerMechanismsResponder> responders =
+      new ArrayList<>();
+
+  private JwtHttpAuthenticationMechanism mechanism;
+
+  @Before
+  public void setUp() throws Exception {
+    mechanism = new JwtHttpAuthenticationMechanism(callbackHandler);
+  }
+
+  @Test
+  public void testEvaluateRequest() throws Exception {
+    context.checking(tokenExpectations("Bearer " + TOKEN));
+    context.checking(callbackExpectations(true, true));
+    context.checking(new Expectations() { {
+      oneOf(request).authenticationComplete();
+    } });
+
+    mechanism.evaluateRequest(request);
+
+    assertThat(callbacks.size(), is(3));
+    final EvidenceVerifyCallback verifyCallback =
+        (EvidenceVerifyCallback) callbacks.get(0);
+    assertThat(verifyCallback.getEvidence(),
+        is(instanceOf(BearerTokenEvidence.class)));
+    assertThat(((BearerTokenEvidence) verifyCallback.getEvidence())
+        .getToken(), is(TOKEN));
+    assertThat(callbacks.get(1), is(instanceOf(AuthorizeCallback.class)));
+    assertThat(callbacks.get(2),
+        is(sameInstance(AuthenticationCompleteCallback.SUCCEEDED)));
+  }
+
+  @Test
+  public void testEvaluateRequestWhenTokenInvalid() throws Exception {
+    context.checking(tokenExpectations("Bearer " + TOKEN));
+    context.checking(callbackExpectations(false, true));
+    context.checking(new Expectations() { {
+      oneOf(request).authenticationFailed(with(any(String.class)),
+          with(any(HttpServerMechanismsResponder.class)));
+      will(captureResponder(1));
+      oneOf(response).addResponseHeader(HttpConstants.WWW_AUTHENTICATE,
+          "Bearer error=\"invalid_token\"");
+      oneOf(response).setStatusCode(HttpConstants.UNAUTHORIZED);
+    } });
+
+    mechanism.evaluateRequest(request);
+    responders.get(0).sendResponse(response);
+
+    assertThat(callbacks.size(), is(2));
+    assertThat(callbacks.get(1),
+        is(sameInstance(AuthenticationCompleteCallback.FAILED)));
+  }
+
+  @Test
+  public void testEvaluateRequestWhenNoToken() throws Exception {
+    context.checking(tokenExpectations(null));
+    context.checking(new Expectations() { {
+      oneOf(request).noAuthenticationInProgress(
+          with(any(HttpServerMechanismsResponder.class)));
+      will(captureResponder(0));
+      oneOf(response).addResponseHeader(HttpConstants.WWW_AUTHENTICATE,
+          "Bearer");
+      oneOf(response).setStatusCode(HttpConstants.UNAUTHORIZED);
+    } });
+
+    mechanism.evaluateRequest(request);
+    responders.get(0).sendResponse(response);
+  }
+
+  @Test
+  public void testEvaluateRequestWhenNotBearerToken() throws Exception {
+    context.checking(tokenExpectations("Basic " + TOKEN));
+    context.checking(new Expectations() { {
+      oneOf(request).noAuthenticationInProgress(
+          with(any(HttpServerMechanismsResponder.class)));
+    } });
+
+    mechanism.evaluateRequest(request);
+  }
+
+  @Test
+  public void testEvaluateRequestWhenNotAuthorized() throws Exception {
+    context.checking(tokenExpectations("Bearer " + TOKEN));
+    context.checking(callbackExpectations(true, false));
+    context.checking(new Expectations() { {
+      oneOf(request).authenticationFailed(with(any(String.class)),
+          with(any(HttpServerMechanismsResponder.class)));
+      will(captureResponder(1));
+      oneOf(response).setStatusCode(HttpConstants.FORBIDDEN);
+    } });
+
+    mechanism.evaluateRequest(request);
+    responders.get(0).sendResponse(response);
+
+    assertThat(callbacks.size(), is(3));
+    assertThat(callbacks.get(2),
+        is(sameInstance(AuthenticationCompleteCallback.FAILED)));
+  }
+
+  @Test
+  public void testEvaluateRequestWithQueryParameter() throws Exception {
+    context.checking(new Expectations() { {
+      allowing(request).getFirstRequestHeaderValue(
+          HttpConstants.AUTHORIZATION);
+      will(returnValue(null));
+      allowing(request).getFirstParameterValue("access_token");
+      will(returnValue(TOKEN));
+    } });
+    context.checking(callbackExpectations(true, true));
+    context.checking(new Expectations() { {
+      oneOf(request).authenticationComplete();
+    } });
+
+    mechanism.evaluateRequest(request);
+
+    assertThat(callbacks.get(2),
+        is(sameInstance(AuthenticationCompleteCallback.SUCCEEDED)));
+  }
+
+  private Expectations tokenExpectations(String header) throws Exception {
+    return new Expectations() { {
+      allowing(request).getFirstRequestHeaderValue(
+          HttpConstants.AUTHORIZATION);
+      will(returnValue(header));
+      allowing(request).getFirstParameterValue("access_token");
+      will(returnValue(null));
+    } };
+  }
+
+  private Expectations callbackExpectations(boolean verified,
+      boolean authorized) throws Exception {
+    return new Expectations() { {
+      allowing(callbackHandler).handle(with(any(Callback[].class)));
+      will(new CustomAction("handle callback") {
+        @Override
+        public Object invoke(Invocation invocation) throws Throwable {
+          final Callback callback =
+              ((Callback[]) invocation.getParameter(0))[0];
+          if (callback instanceof EvidenceVerifyCallback) {
+            ((EvidenceVerifyCallback) callback).setVerified(verified);
+          }
+          else if (callback instanceof AuthorizeCallback) {
+            ((AuthorizeCallback) callback).setAuthorized(authorized);
+          }
+          callbacks.add(callback);
+          return null;
+        }
+      });
+    } };
+  }
+
+  private CustomAction captureResponder(int index) {
+    return new CustomAction("capture responder") {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        responders.add(
+            (HttpServerMechanismsResponder) invocation.getParameter(index));
+        return null;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+
+/**
+ * Unit tests for {@link JwtRealmIdentity}.
+ *
+ * @author Carl Harris
+ */
+public class JwtRealmIdentityTest {
+
+  private static final String TOKEN = "token";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private UserPrincipal principal;
+
+  @Test
+  public void testIdentity() throws Exception {
+    final JwtRealmIdentity identity = new JwtRealmIdentity(TOKEN, principal,
+        new LinkedHashSet<>(Arrays.asList("a", "b")));
+
+    assertThat(identity.exists(), is(true));
+    assertThat(identity.getRealmIdentityPrincipal(),
+        is(sameInstance(principal)));
+    assertThat(identity.verifyEvidence(new BearerTokenEvidence(TOKEN)),
+        is(true));
+    assertThat(identity.verifyEvidence(new BearerTokenEvidence("other")),
+        is(false));
+    assertThat(identity.getAuthorizationIdentity().getAttributes()
+        .get(JwtSecurityRealm.ROLES_ATTRIBUTE), contains("a", "b"));
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.elytron;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.soulwing.jwt.extension.service.AuthenticationException;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
+import org.soulwing.jwt.extension.service.AuthenticationService;
+import org.soulwing.jwt.extension.service.Authenticator;
+import org.soulwing.jwt.extension.service.Credential;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.evidence.BearerTokenEvidence;
+import org.wildfly.security.evidence.PasswordGuessEvidence;
+
+/**
+ * Unit tests for {@link JwtSecurityRealm}.
+ *
+ * @author Carl Harris
+ */
+public class JwtSecurityRealmTest {
+
+  private static final String TOKEN = "token";
+
+  private static final String ROLE_CLAIM = "groups";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ServiceRegistry serviceRegistry;
+
+  @Mock
+  private ServiceController<?> controller;
+
+  @Mock
+  private AuthenticationService authenticationService;
+
+  @Mock
+  private Authenticator authenticator;
+
+  @Mock
+  private Credential credential;
+
+  @Mock
+  private UserPrincipal principal;
+
+  @Mock
+  private Claim roleClaim;
+
+  private final AuthenticationMetrics metrics = new AuthenticationMetrics();
+
+  private JwtSecurityRealm realm;
+
+  @Before
+  public void setUp() throws Exception {
+    realm = new JwtSecurityRealm(() -> serviceRegistry);
+    realm.initialize(Collections.singletonMap(
+        JwtSecurityRealm.ROLE_CLAIMS, ROLE_CLAIM));
+  }
+
+  @Test
+  public void testGetRealmIdentity() throws Exception {
+    context.checking(validatorExpectations(ServiceController.State.UP));
+    context.checking(new Expectations() { {
+      oneOf(authenticator).validate(TOKEN);
+      will(returnValue(credential));
+      allowing(credential).getPrincipal();
+      will(returnValue(principal));
+      oneOf(principal).getClaim(ROLE_CLAIM);
+      will(returnValue(roleClaim));
+      oneOf(roleClaim).isNull();
+      will(returnValue(false));
+      oneOf(roleClaim).asList(String.class);
+      will(returnValue(Collections.singletonList("role")));
+    } });
+
+    final RealmIdentity identity =
+        realm.getRealmIdentity(new BearerTokenEvidence(TOKEN));
+
+    assertThat(identity.exists(), is(true));
+    assertThat(identity.getRealmIdentityPrincipal(),
+        is(sameInstance(principal)));
+    assertThat(identity.getAuthorizationIdentity().getAttributes()
+        .get(JwtSecurityRealm.ROLES_ATTRIBUTE), contains("role"));
+    assertThat(metrics.getSuccessCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testGetRealmIdentityWhenTokenInvalid() throws Exception {
+    context.checking(validatorExpectations(ServiceController.State.UP));
+    context.checking(new Expectations() { {
+      oneOf(authenticator).validate(TOKEN);
+      will(throwException(new AuthenticationException("invalid token")));
+    } });
+
+    assertThat(realm.getRealmIdentity(new BearerTokenEvidence(TOKEN)),
+        is(sameInstance(RealmIdentity.NON_EXISTENT)));
+    assertThat(metrics.getFailureCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testGetRealmIdentityWhenNotBearerToken() throws Exception {
+    assertThat(realm.getRealmIdentity(
+        new PasswordGuessEvidence("password".toCharArray())),
+        is(sameInstance(RealmIdentity.NON_EXISTENT)));
+  }
+
+  @Test(expected = RealmUnavailableException.class)
+  public void testGetRealmIdentityWhenValidatorNotUp() throws Exception {
+    context.checking(validatorExpectations(ServiceController.State.DOWN));
+    realm.getRealmIdentity(new BearerTokenEvidence(TOKEN));
+  }
+
+  private Expectations validatorExpectations(ServiceController.State state)
+      throws Exception {
+    return new Expectations() { {
+      allowing(serviceRegistry).getService(with(any(ServiceName.class)));
+      will(returnValue(controller));
+      allowing(controller).getState();
+      will(returnValue(state));
+      allowing(controller).getValue();
+      will(returnValue(authenticationService));
+      allowing(authenticationService).getMetrics();
+      will(returnValue(metrics));
+      allowing(authenticationService).newAuthenticator();
+      will(returnValue(authenticator));
+    } };
+  }
+
+}
@@ -31,6 +31,7 @@ import java.security.Principal;
 import java.security.acl.Group;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Map;
 import java.util.Set;
 import javax.security.auth.Subject;
@@ -228,6 +229,41 @@ public class JwtLoginModuleTest {
     assertThat(module.getRoles(), is(empty()));
   }
 
+  @Test
+  public void testGetRolesUsesCachedRoleSet() throws Exception {
+    final String value = "cachedClaimValue";
+    final AtomicInteger created = new AtomicInteger();
+    options.put(JwtLoginModule.ROLE_CLAIMS, CLAIM_NAME);
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(credential).getPrincipal();
+        will(returnValue(principal));
+        exactly(2).of(principal).getClaim(CLAIM_NAME);
+        will(returnValue(claim));
+        exactly(2).of(claim).isNull();
+        will(returnValue(false));
+        exactly(2).of(claim).asList(String.class);
+        will(returnValue(Collections.singletonList(value)));
+      }
+    });
+
+    for (int i = 0; i < 2; i++) {
+      final JwtLoginModule module = new JwtLoginModule() {
+        @Override
+        Principal createRole(String name) throws LoginException {
+          created.incrementAndGet();
+          return super.createRole(name);
+        }
+      };
+      module.initialize(subject, callbackHandler, sharedState, options);
+      assertThat(module.login(), is(true));
+      assertThat(module.getRoles(),
+          contains(hasProperty("name", is(equalTo(value)))));
+    }
+
+    assertThat(created.get(), is(equalTo(1)));
+  }
+
   private Expectations claimsExpectations() {
     return new Expectations() {
       {
@@ -0,0 +1,138 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jaas;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RealmRoleCache}.
+ *
+ * @author Carl Harris
+ */
+public class RealmRoleCacheTest {
+
+  private static final String USER = "user";
+  private static final long TTL = 1000;
+
+  private final MockClock clock = new MockClock();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Callable<Set<String>> loader = () ->
+      Collections.singleton("role" + loads.incrementAndGet());
+
+  @Test
+  public void testGetWhenCached() throws Exception {
+    final RealmRoleCache cache = new RealmRoleCache(2, TTL, clock, null);
+    assertThat(cache.get(USER, loader), contains("role1"));
+    clock.millis = TTL - 1;
+    assertThat(cache.get(USER, loader), contains("role1"));
+    assertThat(loads.get(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testGetWhenExpired() throws Exception {
+    final RealmRoleCache cache = new RealmRoleCache(2, TTL, clock, null);
+    assertThat(cache.get(USER, loader), contains("role1"));
+    clock.millis = TTL;
+    assertThat(cache.get(USER, loader), contains("role2"));
+  }
+
+  @Test
+  public void testGetWhenRefreshDue() throws Exception {
+    final RealmRoleCache cache =
+        new RealmRoleCache(2, TTL, clock, Runnable::run);
+    assertThat(cache.get(USER, loader), contains("role1"));
+    clock.millis = TTL * 3 / 4;
+    // the refresh runs in the background; cached roles are returned
+    assertThat(cache.get(USER, loader), contains("role1"));
+    assertThat(cache.get(USER, loader), contains("role2"));
+    assertThat(loads.get(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testGetWhenFull() throws Exception {
+    final RealmRoleCache cache = new RealmRoleCache(1, TTL, clock, null);
+    cache.get(USER, loader);
+    cache.get("other", loader);
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testGetWhenRefreshDueWithoutRefresh() throws Exception {
+    final RealmRoleCache cache = new RealmRoleCache(2, TTL, clock, null);
+    assertThat(cache.get(USER, loader), contains("role1"));
+    clock.millis = TTL * 3 / 4;
+    assertThat(cache.get(USER, loader), contains("role1"));
+    assertThat(loads.get(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final RealmRoleCache cache = new RealmRoleCache(2, TTL, clock, executor);
+    cache.get(USER, loader);
+    cache.close();
+    assertThat(cache.size(), is(equalTo(0)));
+    assertThat(executor.isShutdown(), is(true));
+  }
+
+  private static class MockClock extends Clock {
+
+    long millis;
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FlightRecorderEvent}.
+ *
+ * @author Carl Harris
+ */
+public class FlightRecorderEventTest {
+
+  @Test
+  public void testWhenNotRecording() throws Exception {
+    final FlightRecorderEvent eventType = JwtEvents.TOKEN_REJECTED;
+    assertThat(eventType.getName(), is(equalTo("TokenRejected")));
+    assertThat(eventType.isEnabled(), is(false));
+    assertThat(eventType.begin(), is(nullValue()));
+    eventType.commit(null, "validator", "EXPIRED");
+    eventType.record("validator", "EXPIRED", 1L);
+  }
+
+  @Test
+  public void testWhenDefinitionFails() throws Exception {
+    final FlightRecorderEvent eventType = FlightRecorderEvent.define(
+        "Invalid", "Invalid", "An event with an unsupported field type",
+        new FlightRecorderEvent.Field(Object.class, "value", "Value"));
+    assertThat(eventType.isEnabled(), is(false));
+    assertThat(eventType.begin(), is(nullValue()));
+  }
+
+}
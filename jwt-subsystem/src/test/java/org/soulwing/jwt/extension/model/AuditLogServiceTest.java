@@ -0,0 +1,183 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.audit.AuditLog;
+
+/**
+ * Unit tests for {@link AuditLogService}.
+ *
+ * @author Carl Harris
+ */
+public class AuditLogServiceTest {
+
+  private static final String NAME = "name";
+  private static final String RELATIVE_TO = "relativeTo";
+  private static final int BUFFER_SIZE = 16;
+  private static final long MAX_FILE_SIZE = 1024L;
+  private static final int MAX_BACKUP_INDEX = 2;
+  private static final ServiceName SERVICE_NAME = ServiceName.of("test");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+    setThreadingPolicy(new Synchroniser());
+  }};
+
+  @Mock
+  private StartContext startContext;
+
+  @Mock
+  private StopContext stopContext;
+
+  @Mock
+  private ServiceController serviceController;
+
+  @Mock
+  private PathManager pathManager;
+
+  private Path directory;
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("audit");
+    path = directory.resolve("audit.log");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(path);
+    Files.deleteIfExists(directory);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenNoName() throws Exception {
+    serviceBuilder().name(null).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenNoPath() throws Exception {
+    serviceBuilder().path(null).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenBufferSizeNotPositive() throws Exception {
+    serviceBuilder().bufferSize(0).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenMaxFileSizeNotPositive() throws Exception {
+    serviceBuilder().maxFileSize(0).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenMaxBackupIndexNegative() throws Exception {
+    serviceBuilder().maxBackupIndex(-1).build();
+  }
+
+  @Test
+  public void testSuccessfulBuild() throws Exception {
+    final AuditLogService service = serviceBuilder().build();
+    assertThat(service.getName(), is(equalTo(NAME)));
+    assertThat(service.getPath(), is(equalTo(path.toString())));
+    assertThat(service.getRelativeTo(), is(equalTo(RELATIVE_TO)));
+    assertThat(service.getBufferSize(), is(equalTo(BUFFER_SIZE)));
+    assertThat(service.getOverflowPolicy(),
+        is(equalTo(AuditLog.OverflowPolicy.BLOCK)));
+    assertThat(service.getMaxFileSize(), is(equalTo(MAX_FILE_SIZE)));
+    assertThat(service.getMaxBackupIndex(), is(equalTo(MAX_BACKUP_INDEX)));
+    assertThat(service.getValue(), is(sameInstance(service)));
+  }
+
+  @Test
+  public void testStartStop() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(startContext).getController();
+        will(returnValue(serviceController));
+        oneOf(stopContext).getController();
+        will(returnValue(serviceController));
+        allowing(serviceController).getName();
+        will(returnValue(SERVICE_NAME));
+        oneOf(pathManager).resolveRelativePathEntry(path.toString(),
+            RELATIVE_TO);
+        will(returnValue(path.toString()));
+      }
+    });
+
+    final AuditLogService service = serviceBuilder().build();
+    service.setPathManager(() -> pathManager);
+    service.start(startContext);
+    assertThat(service.getAuditLog(), is(not(nullValue())));
+    assertThat(service.getAuditLog().getCapacity(), is(equalTo(BUFFER_SIZE)));
+    assertThat(service.getDroppedEvents(), is(equalTo(0L)));
+    assertThat(Files.exists(path), is(true));
+    service.stop(stopContext);
+    assertThat(service.getAuditLog(), is(nullValue()));
+    assertThat(service.getDroppedEvents(), is(nullValue()));
+  }
+
+  @Test(expected = StartException.class)
+  public void testStartWhenPathIsDirectory() throws Exception {
+    final AuditLogService service = serviceBuilder()
+        .path(directory.toString())
+        .relativeTo(null)
+        .build();
+    service.start(startContext);
+  }
+
+  private AuditLogService.Builder serviceBuilder() {
+    return AuditLogService.builder()
+        .name(NAME)
+        .path(path.toString())
+        .relativeTo(RELATIVE_TO)
+        .bufferSize(BUFFER_SIZE)
+        .overflowPolicy(AuditLog.OverflowPolicy.BLOCK)
+        .maxFileSize(MAX_FILE_SIZE)
+        .maxBackupIndex(MAX_BACKUP_INDEX);
+  }
+
+}
@@ -108,6 +108,7 @@ public class ClaimAssertionServiceTest {
         will(returnValue(serviceController));
         allowing(serviceController).getName();
         will(returnValue(SERVICE_NAME));
+        oneOf(serviceLocator).invalidate(MODULE);
 
         oneOf(serviceLocator).locate(Assertion.class, PROVIDER, MODULE);
         will(returnValue(assertion));
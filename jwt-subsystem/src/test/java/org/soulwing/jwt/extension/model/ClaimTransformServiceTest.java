@@ -115,6 +115,28 @@ public class ClaimTransformServiceTest {
     assertThat(config.getTransformer().apply("value"), is(equalTo("value")));
   }
 
+  @Test
+  public void testGetConfigurationWhenStarted() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(transformerService).getTransformer();
+        will(returnValue(transformer));
+        oneOf(startContext).getController();
+        will(returnValue(serviceController));
+        allowing(serviceController).getName();
+        will(returnValue(SERVICE_NAME));
+      }
+    });
+
+    final ClaimTransformService service = serviceBuilder().build();
+    service.setTransformerServices(Collections.singletonList(
+        () -> transformerService));
+    service.start(startContext);
+
+    final TransformConfiguration config = service.getConfiguration();
+    assertThat(service.getConfiguration(), is(sameInstance(config)));
+    assertThat(config.getTransformer(), is(sameInstance(transformer)));
+  }
 
   private ClaimTransformService.Builder serviceBuilder() {
     return ClaimTransformService.builder()
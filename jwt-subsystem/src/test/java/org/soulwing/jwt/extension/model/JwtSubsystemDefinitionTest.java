@@ -62,6 +62,8 @@ public class JwtSubsystemDefinitionTest {
         oneOf(registration).registerSubModel(with(any(ClaimAssertionDefinition.class)));
         oneOf(registration).registerSubModel(with(any(SignatureDefinition.class)));
         oneOf(registration).registerSubModel(with(any(EncryptionDefinition.class)));
+        oneOf(registration).registerSubModel(with(any(RevocationListDefinition.class)));
+        oneOf(registration).registerSubModel(with(any(AuditLogDefinition.class)));
         oneOf(registration).registerSubModel(with(any(ValidatorDefinition.class)));
       }
     });
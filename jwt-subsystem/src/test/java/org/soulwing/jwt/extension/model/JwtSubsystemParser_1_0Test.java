@@ -74,6 +74,8 @@ public class JwtSubsystemParser_1_0Test extends AbstractSubsystemTest  {
     validateClaimAssertionResource(i.next());
     validateSignatureResource(i.next());
     validateEncryptionResource(i.next());
+    validateRevocationListResource(i.next());
+    validateAuditLogResource(i.next());
     validateValidatorResource(i.next());
     assertThat(i.hasNext(), is(false));
   }
@@ -195,6 +197,31 @@ public class JwtSubsystemParser_1_0Test extends AbstractSubsystemTest  {
         is(equalTo(Collections.singletonList("secret-key-name"))));
   }
 
+  private void validateRevocationListResource(ModelNode op) {
+    validateIsAdd(op);
+    validateAddress(op, Constants.REVOCATION_LIST, "revocation-list-name");
+    assertThat(op.get(Constants.PATH).asString(),
+        is(equalTo("path-name")));
+    assertThat(op.get(Constants.RELATIVE_TO).asString(),
+        is(equalTo("relative-to-name")));
+    assertThat(op.get(Constants.RELOAD_INTERVAL).asLong(), is(equalTo(30L)));
+  }
+
+  private void validateAuditLogResource(ModelNode op) {
+    validateIsAdd(op);
+    validateAddress(op, Constants.AUDIT_LOG, "audit-log-name");
+    assertThat(op.get(Constants.PATH).asString(),
+        is(equalTo("path-name")));
+    assertThat(op.get(Constants.RELATIVE_TO).asString(),
+        is(equalTo("relative-to-name")));
+    assertThat(op.get(Constants.BUFFER_SIZE).asInt(), is(equalTo(1024)));
+    assertThat(op.get(Constants.OVERFLOW_POLICY).asString(),
+        is(equalTo("block")));
+    assertThat(op.get(Constants.MAX_FILE_SIZE).asLong(),
+        is(equalTo(1048576L)));
+    assertThat(op.get(Constants.MAX_BACKUP_INDEX).asInt(), is(equalTo(3)));
+  }
+
   private void validateValidatorResource(ModelNode op) {
     validateIsAdd(op);
     validateAddress(op, Constants.VALIDATOR, "validator-name");
@@ -216,6 +243,10 @@ public class JwtSubsystemParser_1_0Test extends AbstractSubsystemTest  {
     assertThat(op.get(Constants.ASSERTIONS).asListOrEmpty()
             .stream().map(ModelNode::asString).collect(Collectors.toList()),
         is(equalTo(Collections.singletonList("assertion-name"))));
+    assertThat(op.get(Constants.REVOCATION_LIST).asString(),
+        is(equalTo("revocation-list-name")));
+    assertThat(op.get(Constants.AUDIT_LOG).asString(),
+        is(equalTo("audit-log-name")));
   }
 
   private void validateIsAdd(ModelNode op) {
@@ -0,0 +1,125 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.CapabilityServiceBuilder;
+import org.jboss.as.controller.CapabilityServiceTarget;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RevocationListAdd}.
+ *
+ * @author Carl Harris
+ */
+public class RevocationListAddTest {
+
+  private static final String NAME = "name";
+
+  private static final String PATH = "path";
+  private static final String RELATIVE_TO = "relativeTo";
+  private static final long RELOAD_INTERVAL = 30L;
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private OperationContext operationContext;
+
+  @Mock
+  private CapabilityServiceTarget target;
+
+  @Mock
+  private CapabilityServiceBuilder<RevocationListService> builder;
+
+  @Mock
+  private Supplier<PathManager> pathManager;
+
+  private ModelNode operation = new ModelNode();
+
+  private ModelNode model = new ModelNode();
+
+  private RevocationListService service;
+
+  @Before
+  public void setUp() throws Exception {
+    operation.set(ModelDescriptionConstants.OP_ADDR,
+        PathAddress.pathAddress(Constants.REVOCATION_LIST, NAME)
+            .toModelNode());
+
+    model.get(Constants.PATH).set(PATH);
+    model.get(Constants.RELATIVE_TO).set(RELATIVE_TO);
+    model.get(Constants.RELOAD_INTERVAL).set(RELOAD_INTERVAL);
+  }
+
+  @Test
+  public void testPerformBoottime() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(operationContext).resolveExpressions(with(any(ModelNode.class)));
+        will(OperationContextUtil.resolveExpressionsAction());
+        oneOf(operationContext).getCapabilityServiceTarget();
+        will(returnValue(target));
+        oneOf(target).addCapability(with(any(RuntimeCapability.class)),
+            with(any(RevocationListService.class)));
+        will(new CustomAction("capture service") {
+          @Override
+          public Object invoke(Invocation invocation) throws Throwable {
+            service = (RevocationListService) invocation.getParameter(1);
+            return builder;
+          }
+        });
+        oneOf(builder).requiresCapability(Capabilities.REF_PATH_MANAGER,
+            PathManager.class);
+        will(returnValue(pathManager));
+        oneOf(builder).setInitialMode(ServiceController.Mode.ACTIVE);
+        will(returnValue(builder));
+        oneOf(builder).install();
+      }
+    });
+
+    RevocationListAdd.INSTANCE.performRuntime(operationContext, operation,
+        model);
+    assertThat(service.getPath(), is(equalTo(PATH)));
+    assertThat(service.getRelativeTo(), is(equalTo(RELATIVE_TO)));
+    assertThat(service.getReloadInterval(), is(equalTo(RELOAD_INTERVAL)));
+    assertThat(service.getPathManager(), is(sameInstance(pathManager)));
+  }
+
+}
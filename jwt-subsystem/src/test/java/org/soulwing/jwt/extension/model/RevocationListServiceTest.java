@@ -0,0 +1,151 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RevocationListService}.
+ *
+ * @author Carl Harris
+ */
+public class RevocationListServiceTest {
+
+  private static final String RELATIVE_TO = "relativeTo";
+  private static final long RELOAD_INTERVAL = 30L;
+  private static final ServiceName SERVICE_NAME = ServiceName.of("test");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+    setThreadingPolicy(new Synchroniser());
+  }};
+
+  @Mock
+  private StartContext startContext;
+
+  @Mock
+  private StopContext stopContext;
+
+  @Mock
+  private ServiceController serviceController;
+
+  @Mock
+  private PathManager pathManager;
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    path = Files.createTempFile("revocation", ".txt");
+    Files.write(path, Collections.singletonList("jti token"),
+        StandardCharsets.UTF_8);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenNoPath() throws Exception {
+    serviceBuilder().path(null).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenReloadIntervalNotPositive() throws Exception {
+    serviceBuilder().reloadInterval(0).build();
+  }
+
+  @Test
+  public void testSuccessfulBuild() throws Exception {
+    final RevocationListService service = serviceBuilder().build();
+    assertThat(service.getPath(), is(equalTo(path.toString())));
+    assertThat(service.getRelativeTo(), is(equalTo(RELATIVE_TO)));
+    assertThat(service.getReloadInterval(), is(equalTo(RELOAD_INTERVAL)));
+    assertThat(service.getValue(), is(sameInstance(service)));
+  }
+
+  @Test
+  public void testStartStop() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(startContext).getController();
+        will(returnValue(serviceController));
+        oneOf(stopContext).getController();
+        will(returnValue(serviceController));
+        allowing(serviceController).getName();
+        will(returnValue(SERVICE_NAME));
+        oneOf(pathManager).resolveRelativePathEntry(path.toString(),
+            RELATIVE_TO);
+        will(returnValue(path.toString()));
+      }
+    });
+
+    final RevocationListService service = serviceBuilder().build();
+    service.setPathManager(() -> pathManager);
+    service.start(startContext);
+    assertThat(service.getRevocationList(), is(not(nullValue())));
+    service.stop(stopContext);
+    assertThat(service.getRevocationList(), is(nullValue()));
+  }
+
+  @Test(expected = StartException.class)
+  public void testStartWhenFileNotFound() throws Exception {
+    final RevocationListService service = serviceBuilder()
+        .path(path.resolveSibling(path.getFileName() + ".missing").toString())
+        .relativeTo(null)
+        .build();
+    service.start(startContext);
+  }
+
+  private RevocationListService.Builder serviceBuilder() {
+    return RevocationListService.builder()
+        .path(path.toString())
+        .relativeTo(RELATIVE_TO)
+        .reloadInterval(RELOAD_INTERVAL);
+  }
+
+}
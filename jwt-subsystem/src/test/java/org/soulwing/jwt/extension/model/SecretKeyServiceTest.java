@@ -133,6 +133,7 @@ public class SecretKeyServiceTest {
         will(returnValue(serviceController));
         allowing(serviceController).getName();
         will(returnValue(SERVICE_NAME));
+        oneOf(serviceLocator).invalidate(MODULE);
 
         oneOf(serviceLocator).locate(SecretKeyProvider.class, PROVIDER, MODULE);
         will(returnValue(secretKeyProvider));
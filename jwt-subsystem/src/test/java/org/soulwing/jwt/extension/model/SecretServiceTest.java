@@ -107,6 +107,7 @@ public class SecretServiceTest {
         will(returnValue(serviceController));
         allowing(serviceController).getName();
         will(returnValue(SERVICE_NAME));
+        oneOf(serviceLocator).invalidate(MODULE);
 
         oneOf(serviceLocator).locate(SecretProvider.class, PROVIDER, MODULE);
         will(returnValue(secretProvider));
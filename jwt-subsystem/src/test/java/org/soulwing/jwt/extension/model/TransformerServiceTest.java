@@ -102,6 +102,7 @@ public class TransformerServiceTest {
         will(returnValue(serviceController));
         allowing(serviceController).getName();
         will(returnValue(SERVICE_NAME));
+        oneOf(serviceLocator).invalidate(MODULE);
 
         oneOf(serviceLocator).locate(Transformer.class, PROVIDER, MODULE);
         will(returnValue(transformer));
@@ -133,6 +133,7 @@ public class TrustStoreServiceTest {
         will(returnValue(serviceController));
         allowing(serviceController).getName();
         will(returnValue(SERVICE_NAME));
+        oneOf(serviceLocator).invalidate(MODULE);
 
         oneOf(pathManager).resolveRelativePathEntry(PATH, RELATIVE_TO);
         will(returnValue(RESOLVED_PATH));
@@ -153,6 +154,7 @@ public class TrustStoreServiceTest {
     service.setPathManager(() -> pathManager);
     service.start(startContext);
     assertThat(service.getTrustStore(), is(sameInstance(trustStore)));
+    assertThat(service.getLoadAge(), is(equalTo(0L)));
     service.stop(stopContext);
   }
 
@@ -43,6 +43,7 @@ import org.jmock.lib.action.CustomAction;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.soulwing.jwt.extension.service.ReplayProtectionConfiguration;
 
 /**
  * Unit tests for {@link ValidatorAdd}.
@@ -56,10 +57,13 @@ public class ValidatorAddTest {
   private static final URI ISSUER_URL = URI.create("issuerUrl");
   private static final String AUDIENCE = "audience";
   private static final long TOLERANCE = -1L;
+  private static final int REPLAY_CACHE_SIZE = 42;
   private static final String SIGNATURE = "signature";
   private static final String ENCRYPTION = "encryption";
   private static final String TRANSFORM = "transform";
   private static final String ASSERTION = "assertion";
+  private static final String REVOCATION_LIST = "revocationList";
+  private static final String AUDIT_LOG = "auditLog";
 
   @Rule
   public final JUnitRuleMockery context = new JUnitRuleMockery();
@@ -73,6 +77,9 @@ public class ValidatorAddTest {
   @Mock
   private CapabilityServiceBuilder<SecretService> builder;
 
+  @Mock
+  private Supplier<JwtService> jwtService;
+
   @Mock
   private Supplier<SignatureService> signatureService;
 
@@ -85,6 +92,12 @@ public class ValidatorAddTest {
   @Mock
   private Supplier<ClaimAssertionService> assertionService;
 
+  @Mock
+  private Supplier<RevocationListService> revocationListService;
+
+  @Mock
+  private Supplier<AuditLogService> auditLogService;
+
   private ModelNode operation = new ModelNode();
 
   private ModelNode model = new ModelNode();
@@ -101,10 +114,16 @@ public class ValidatorAddTest {
     model.get(Constants.ISSUER_URL).set(ISSUER_URL.toString());
     model.get(Constants.AUDIENCE).set(AUDIENCE);
     model.get(Constants.EXPIRATION_TOLERANCE).set(TOLERANCE);
+    model.get(Constants.ADAPTIVE_ASSERTION_ORDER).set(true);
+    model.get(Constants.REPLAY_PROTECTION).set(true);
+    model.get(Constants.REPLAY_CACHE_SIZE).set(REPLAY_CACHE_SIZE);
+    model.get(Constants.REPLAY_OVERFLOW_POLICY).set("evict-oldest");
     model.get(Constants.SIGNATURE).set(SIGNATURE);
     model.get(Constants.ENCRYPTION).set(ENCRYPTION);
     model.get(Constants.TRANSFORMS).add(TRANSFORM);
     model.get(Constants.ASSERTIONS).add(ASSERTION);
+    model.get(Constants.REVOCATION_LIST).set(REVOCATION_LIST);
+    model.get(Constants.AUDIT_LOG).set(AUDIT_LOG);
   }
 
   @Test
@@ -124,12 +143,22 @@ public class ValidatorAddTest {
             return builder;
           }
         });
+        oneOf(builder).requiresCapability(Capabilities.CAPABILITY_JWT,
+            JwtService.class);
+        will(returnValue(jwtService));
         oneOf(builder).requiresCapability(Capabilities.CAPABILITY_SIGNATURE,
             SignatureService.class, SIGNATURE);
         will(returnValue(signatureService));
         oneOf(builder).requiresCapability(Capabilities.CAPABILITY_ENCRYPTION,
             EncryptionService.class, ENCRYPTION);
         will(returnValue(encryptionService));
+        oneOf(builder).requiresCapability(
+            Capabilities.CAPABILITY_REVOCATION_LIST,
+            RevocationListService.class, REVOCATION_LIST);
+        will(returnValue(revocationListService));
+        oneOf(builder).requiresCapability(Capabilities.CAPABILITY_AUDIT_LOG,
+            AuditLogService.class, AUDIT_LOG);
+        will(returnValue(auditLogService));
         oneOf(builder).requiresCapability(Capabilities.CAPABILITY_CLAIM_TRANSFORM,
             ClaimTransformService.class, TRANSFORM);
         will(returnValue(transformService));
@@ -143,12 +172,23 @@ public class ValidatorAddTest {
     });
 
     ValidatorAdd.INSTANCE.performRuntime(operationContext, operation, model);
+    assertThat(service.getName(), is(equalTo(NAME)));
     assertThat(service.getIssuer(), is(equalTo(ISSUER)));
     assertThat(service.getIssuerUrl(), is(equalTo(ISSUER_URL)));
     assertThat(service.getAudience(), is(equalTo(AUDIENCE)));
     assertThat(service.getExpirationTolerance(), is(equalTo(TOLERANCE)));
+    assertThat(service.isAdaptiveAssertionOrder(), is(true));
+    assertThat(service.isReplayProtection(), is(true));
+    assertThat(service.getReplayCacheSize(), is(equalTo(REPLAY_CACHE_SIZE)));
+    assertThat(service.getReplayOverflowPolicy(),
+        is(equalTo(ReplayProtectionConfiguration.OverflowPolicy.EVICT_OLDEST)));
+    assertThat(service.getJwtService(), is(sameInstance(jwtService)));
     assertThat(service.getSignatureService(), is(sameInstance(signatureService)));
     assertThat(service.getEncryptionService(), is(sameInstance(encryptionService)));
+    assertThat(service.getRevocationListService(),
+        is(sameInstance(revocationListService)));
+    assertThat(service.getAuditLogService(),
+        is(sameInstance(auditLogService)));
     assertThat(service.getTransformServices(),
         is(Collections.singletonList(transformService)));
     assertThat(service.getAssertionServices(),
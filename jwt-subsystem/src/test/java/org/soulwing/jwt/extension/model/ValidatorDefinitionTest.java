@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 
 import org.junit.Test;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
 
 /**
  * Unit tests for {@link ValidatorDefinition}.
@@ -49,4 +50,15 @@ public class ValidatorDefinitionTest {
         startsWith(Capabilities.CAPABILITY_VALIDATOR));
   }
 
+  @Test
+  public void testLatencyBucketName() throws Exception {
+    assertThat(ValidatorDefinition.latencyBucketName(0),
+        is(equalTo("authentication-time-le-100us")));
+    assertThat(ValidatorDefinition.latencyBucketName(2),
+        is(equalTo("authentication-time-le-1ms")));
+    assertThat(ValidatorDefinition.latencyBucketName(
+        AuthenticationMetrics.getLatencyBucketCount() - 1),
+        is(equalTo("authentication-time-le-1s")));
+  }
+
 }
\ No newline at end of file
@@ -45,6 +45,7 @@ import org.soulwing.jwt.extension.service.Authenticator;
 import org.soulwing.jwt.extension.service.AuthenticatorFactory;
 import org.soulwing.jwt.extension.service.Configuration;
 import org.soulwing.jwt.extension.service.EncryptionConfiguration;
+import org.soulwing.jwt.extension.service.ReplayProtectionConfiguration;
 import org.soulwing.jwt.extension.service.SignatureConfiguration;
 import org.soulwing.jwt.extension.service.TransformConfiguration;
 
@@ -55,10 +56,12 @@ import org.soulwing.jwt.extension.service.TransformConfiguration;
  */
 public class ValidatorServiceTest {
 
+  private static final String NAME = "name";
   private static final String ISSUER = "issuer";
   private static final URI ISSUER_URL = URI.create("issuerUrl");
   private static final String AUDIENCE = "audience";
   private static final long TOLERANCE = -1L;
+  private static final int REPLAY_CACHE_SIZE = 42;
   private static final ServiceName SERVICE_NAME = ServiceName.of("test");
 
   @Rule
@@ -76,6 +79,9 @@ public class ValidatorServiceTest {
   @Mock
   private ServiceController<?> serviceController;
 
+  @Mock
+  private JwtService jwtService;
+
   @Mock
   private SignatureService signatureService;
 
@@ -119,10 +125,19 @@ public class ValidatorServiceTest {
   @Test
   public void testSuccessfulBuild() throws Exception {
     final ValidatorService service = serviceBuilder().build();
+    assertThat(service.getName(), is(equalTo(NAME)));
     assertThat(service.getIssuer(), is(equalTo(ISSUER)));
     assertThat(service.getIssuerUrl(), is(equalTo(ISSUER_URL)));
     assertThat(service.getAudience(), is(equalTo(AUDIENCE)));
     assertThat(service.getExpirationTolerance(), is(equalTo(TOLERANCE)));
+    assertThat(service.isAdaptiveAssertionOrder(), is(true));
+    assertThat(service.isReplayProtection(), is(true));
+    assertThat(service.isRevocationCheck(), is(false));
+    assertThat(service.getReplayCacheSize(), is(equalTo(REPLAY_CACHE_SIZE)));
+    assertThat(service.getReplayOverflowPolicy(), is(equalTo(
+        ReplayProtectionConfiguration.OverflowPolicy.ACCEPT)));
+    assertThat(service.getAuditLog(), is(nullValue()));
+    assertThat(service.getMetrics(), is(nullValue()));
     assertThat(service.getValue(), is(sameInstance(service)));
   }
 
@@ -150,10 +165,14 @@ public class ValidatorServiceTest {
 
         allowing(transformService).getConfiguration();
         will(returnValue(transform));
+
+        allowing(jwtService).isStatisticsEnabled();
+        will(returnValue(true));
       }
     });
 
     final ValidatorService service = serviceBuilder().build();
+    service.setJwtService(() -> jwtService);
     service.setSignatureService(() -> signatureService);
     service.setEncryptionService(() -> encryptionService);
     service.setAssertionServices(Collections.singletonList(() -> assertionService));
@@ -161,12 +180,21 @@ public class ValidatorServiceTest {
     service.start(startContext);
 
     final Configuration config = service.getConfiguration();
+    assertThat(service.getMetrics(), is(not(nullValue())));
+    assertThat(config.getName(), is(equalTo(NAME)));
     assertThat(config.getProvider(), is(not(nullValue())));
     assertThat(config.getIssuer(), is(equalTo(ISSUER)));
     assertThat(config.getIssuerUrl(), is(equalTo(ISSUER_URL)));
     assertThat(config.getAudience(), is(equalTo(AUDIENCE)));
     assertThat(config.getExpirationTolerance(), is(equalTo(
         Duration.ofSeconds(TOLERANCE))));
+    assertThat(config.isAdaptiveAssertionOrder(), is(true));
+    assertThat(config.getReplayProtection().getMaxEntries(),
+        is(equalTo(REPLAY_CACHE_SIZE)));
+    assertThat(config.getReplayProtection().getOverflowPolicy(), is(equalTo(
+        ReplayProtectionConfiguration.OverflowPolicy.ACCEPT)));
+    assertThat(config.getRevocationList(), is(nullValue()));
+    assertThat(config.getFailureLog(), is(not(nullValue())));
     assertThat(config.getSignatureConfiguration(),
         is(sameInstance(signatureConfiguration)));
     assertThat(config.getEncryptionConfiguration(),
@@ -183,18 +211,25 @@ public class ValidatorServiceTest {
       }
     });
 
+    assertThat(service.newAuthenticator(), is(sameInstance(authenticator)));
     assertThat(service.newAuthenticator(), is(sameInstance(authenticator)));
     service.stop(stopContext);
-
+    assertThat(service.getMetrics(), is(nullValue()));
   }
 
   private ValidatorService.Builder serviceBuilder() {
     return ValidatorService.builder()
         .authenticatorFactory(authenticatorFactory)
+        .name(NAME)
         .issuer(ISSUER)
         .issuerUrl(ISSUER_URL)
         .audience(AUDIENCE)
-        .expirationTolerance(TOLERANCE);
+        .expirationTolerance(TOLERANCE)
+        .adaptiveAssertionOrder(true)
+        .replayProtection(true)
+        .replayCacheSize(REPLAY_CACHE_SIZE)
+        .replayOverflowPolicy(
+            ReplayProtectionConfiguration.OverflowPolicy.ACCEPT);
   }
 
 }
\ No newline at end of file
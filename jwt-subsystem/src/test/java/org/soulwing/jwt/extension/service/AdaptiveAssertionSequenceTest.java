@@ -0,0 +1,114 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.soulwing.jwt.api.Claims;
+import org.soulwing.jwt.api.exceptions.JWTAssertionFailedException;
+
+/**
+ * Unit tests for {@link AdaptiveAssertionSequence}.
+ *
+ * @author Carl Harris
+ */
+public class AdaptiveAssertionSequenceTest {
+
+  private static final String ACCEPT = "accept";
+  private static final String REJECT = "reject";
+  private static final String OTHER = "other";
+
+  @Test
+  public void testWhenAllSatisfied() throws Exception {
+    final AdaptiveAssertionSequence sequence = new AdaptiveAssertionSequence(
+        Arrays.asList(assertion(ACCEPT, true), assertion(ACCEPT, true)));
+    assertThat(sequence.test(null), is(true));
+  }
+
+  @Test
+  public void testErrorFromRejectingAssertion() throws Exception {
+    final AdaptiveAssertionSequence sequence = new AdaptiveAssertionSequence(
+        Arrays.asList(assertion(ACCEPT, true), assertion(REJECT, false)));
+    assertThat(sequence.test(null), is(false));
+    assertThat(sequence.error(null).getMessage(), is(equalTo(REJECT)));
+  }
+
+  @Test
+  public void testErrorWithoutPriorEvaluation() throws Exception {
+    final AdaptiveAssertionSequence sequence = new AdaptiveAssertionSequence(
+        Arrays.asList(assertion(ACCEPT, true), assertion(REJECT, false)));
+    assertThat(sequence.error(null).getMessage(), is(equalTo(REJECT)));
+  }
+
+  @Test
+  public void testErrorReportsRejectingAssertion() throws Exception {
+    final AtomicBoolean rejected = new AtomicBoolean();
+    final AdaptiveAssertionSequence sequence = new AdaptiveAssertionSequence(
+        Arrays.asList(assertion(OTHER, c -> rejected.getAndSet(true)),
+            assertion(REJECT, false)));
+    assertThat(sequence.test(null), is(false));
+    assertThat(sequence.error(null).getMessage(), is(equalTo(OTHER)));
+  }
+
+  @Test
+  public void testReorderAfterInterval() throws Exception {
+    final AdaptiveAssertionSequence sequence = new AdaptiveAssertionSequence(
+        Arrays.asList(assertion(ACCEPT, true), assertion(REJECT, false)), 1);
+    assertThat(sequence.getOrder(), contains(ACCEPT, REJECT));
+    for (int i = 0; i < AdaptiveAssertionSequence.REORDER_INTERVAL; i++) {
+      sequence.test(null);
+    }
+    assertThat(sequence.getOrder(), contains(REJECT, ACCEPT));
+  }
+
+  private static AssertionConfiguration assertion(String name,
+      boolean satisfied) {
+    return assertion(name, claims -> satisfied);
+  }
+
+  private static AssertionConfiguration assertion(String name,
+      Predicate<Claims> predicate) {
+    return new AssertionConfiguration() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public Predicate<Claims> getPredicate() {
+        return predicate;
+      }
+
+      @Override
+      public Function<Claims, JWTAssertionFailedException> getErrorSupplier() {
+        return claims -> new JWTAssertionFailedException(name);
+      }
+    };
+  }
+
+}
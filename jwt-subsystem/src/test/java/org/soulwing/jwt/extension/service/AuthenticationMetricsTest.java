@@ -0,0 +1,76 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AuthenticationMetrics}.
+ *
+ * @author Carl Harris
+ */
+public class AuthenticationMetricsTest {
+
+  private final AuthenticationMetrics metrics = new AuthenticationMetrics();
+
+  @Test
+  public void testRecordOutcomes() throws Exception {
+    metrics.recordSuccess(0);
+    metrics.recordSuccess(0);
+    metrics.recordFailure(0);
+    assertThat(metrics.getSuccessCount(), is(equalTo(2L)));
+    assertThat(metrics.getFailureCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testLatencyHistogram() throws Exception {
+    final long first = AuthenticationMetrics.getLatencyBound(0);
+    final int last = AuthenticationMetrics.getLatencyBucketCount() - 1;
+    final long lastBound = AuthenticationMetrics.getLatencyBound(last);
+
+    metrics.recordSuccess(TimeUnit.MICROSECONDS.toNanos(first));
+    metrics.recordSuccess(TimeUnit.MICROSECONDS.toNanos(first + 1));
+    metrics.recordFailure(TimeUnit.MICROSECONDS.toNanos(lastBound + 1));
+
+    assertThat(metrics.getLatencyCount(0), is(equalTo(1L)));
+    assertThat(metrics.getLatencyCount(1), is(equalTo(2L)));
+    assertThat(metrics.getLatencyCount(last), is(equalTo(2L)));
+    assertThat(metrics.getLatencyTotal(),
+        is(equalTo(first + first + 1 + lastBound + 1)));
+  }
+
+  @Test
+  public void testRecordCacheLookups() throws Exception {
+    metrics.recordAccountCache(true);
+    metrics.recordAccountCache(false);
+    metrics.recordAccountCache(false);
+    metrics.recordConnectionReuse(true);
+    assertThat(metrics.getAccountCacheHits(), is(equalTo(1L)));
+    assertThat(metrics.getAccountCacheMisses(), is(equalTo(2L)));
+    assertThat(metrics.getConnectionReuseHits(), is(equalTo(1L)));
+    assertThat(metrics.getConnectionReuseMisses(), is(equalTo(0L)));
+  }
+
+}
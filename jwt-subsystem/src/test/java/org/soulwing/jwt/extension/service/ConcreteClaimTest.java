@@ -28,8 +28,10 @@ import static org.hamcrest.Matchers.sameInstance;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.soulwing.jwt.extension.api.Claim;
@@ -93,6 +95,36 @@ public class ConcreteClaimTest {
     assertThat(claim.toString(), is(equalTo(STRING_VALUE)));
   }
 
+  @Test
+  public void testTransformerAppliedOnce() throws Exception {
+    final AtomicInteger count = new AtomicInteger();
+    final ConcreteClaim claim = new ConcreteClaim(NAME, STRING_VALUE,
+        v -> { count.incrementAndGet(); return v; });
+    assertThat(claim.isNull(), is(false));
+    assertThat(claim.asString(), is(equalTo(STRING_VALUE)));
+    assertThat(claim.getValue(), is(equalTo(STRING_VALUE)));
+    assertThat(count.get(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testTransformerAppliedToArrayElements() throws Exception {
+    final AtomicInteger count = new AtomicInteger();
+    final ConcreteClaim claim = new ConcreteClaim(NAME,
+        Arrays.asList("a", "b", null, "a"),
+        v -> { count.incrementAndGet(); return v.toString().toUpperCase(); });
+    assertThat(claim.getValue(),
+        is(equalTo(Arrays.asList("A", "B", null, "A"))));
+    assertThat(count.get(), is(equalTo(2)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  @SuppressWarnings("unchecked")
+  public void testTransformedArrayIsImmutable() throws Exception {
+    final ConcreteClaim claim = new ConcreteClaim(NAME,
+        Collections.singletonList(STRING_VALUE), v -> v);
+    ((List<Object>) claim.getValue()).add(STRING_VALUE);
+  }
+
   @Test
   public void testStringWithNull() throws Exception {
     assertThat(new ConcreteClaim(NAME, null, v -> v).asString(), is(nullValue()));
@@ -50,6 +50,11 @@ public class DefaultAuthenticatorFactoryTest {
 
   private static class MockConfiguration implements Configuration {
 
+    @Override
+    public String getName() {
+      return "test-validator";
+    }
+
     @Override
     public JWTProvider getProvider() {
       return JWTProviderLocator.getProvider();
@@ -130,6 +135,26 @@ public class DefaultAuthenticatorFactoryTest {
       return Collections.emptyList();
     }
 
+    @Override
+    public boolean isAdaptiveAssertionOrder() {
+      return false;
+    }
+
+    @Override
+    public ReplayProtectionConfiguration getReplayProtection() {
+      return null;
+    }
+
+    @Override
+    public RevocationList getRevocationList() {
+      return null;
+    }
+
+    @Override
+    public FailureLog getFailureLog() {
+      return null;
+    }
+
     @Override
     public List<TransformConfiguration> getTransforms() {
       return Collections.emptyList();
@@ -19,13 +19,19 @@
 package org.soulwing.jwt.extension.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.jmock.Expectations;
@@ -100,6 +106,35 @@ public class DelegatingUserPrincipalTest {
         is(equalTo(CLAIM_VALUE)));
   }
 
+  @Test
+  public void testGetClaimIsMemoized() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(claims).claim(CLAIM_NAME, Object.class);
+        will(returnValue(Optional.of(CLAIM_VALUE)));
+      }
+    });
+
+    final Claim claim = principal.getClaim(CLAIM_NAME);
+    assertThat(principal.getClaim(CLAIM_NAME), is(sameInstance(claim)));
+  }
+
+  @Test
+  public void testGetRolesIsMemoized() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(claims).claim(CLAIM_NAME, Object.class);
+        will(returnValue(Optional.of(Arrays.asList("a", "b"))));
+      }
+    });
+
+    final RoleClaims roleClaims =
+        new RoleClaims(Collections.singletonList(CLAIM_NAME));
+    final Set<String> roles = roleClaims.getRoles(principal);
+    assertThat(roles, contains("a", "b"));
+    assertThat(roleClaims.getRoles(principal), is(sameInstance(roles)));
+  }
+
   @Test
   public void testGetClaimWhenNotPresent() throws Exception {
     context.checking(new Expectations() {
@@ -143,6 +178,49 @@ public class DelegatingUserPrincipalTest {
     assertThat(claims.size(), is(equalTo(1)));
     assertThat(claims.containsKey(CLAIM_NAME), is(true));
     assertThat(claims.get(CLAIM_NAME).getValue(), is(equalTo(CLAIM_VALUE)));
+
+    claims.clear();
+    assertThat(principal.getClaims().get(CLAIM_NAME),
+        is(sameInstance(principal.getClaim(CLAIM_NAME))));
+  }
+
+  @Test
+  public void testTypedAccessors() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(claims).claim(CLAIM_NAME, Object.class);
+        will(returnValue(Optional.of(CLAIM_VALUE)));
+        oneOf(claims).claim("uid", Object.class);
+        will(returnValue(Optional.of(42L)));
+        oneOf(claims).claim("missing", Object.class);
+        will(returnValue(Optional.empty()));
+      }
+    });
+
+    assertThat(principal.getString(CLAIM_NAME), is(equalTo(CLAIM_VALUE)));
+    assertThat(principal.getLong("uid", -1L), is(equalTo(42L)));
+    assertThat(principal.getLong("missing", -1L), is(equalTo(-1L)));
+    assertThat(principal.getString("missing"), is(nullValue()));
+    assertThat(principal.hasClaimValue(CLAIM_NAME, CLAIM_VALUE), is(true));
+    assertThat(principal.hasClaimValue("uid", 41L), is(false));
+    assertThat(principal.hasClaimValue("missing", CLAIM_VALUE), is(false));
+  }
+
+  @Test
+  public void testArrayClaimValues() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(claims).claim(CLAIM_NAME, Object.class);
+        will(returnValue(Optional.of(Arrays.asList("a", "b"))));
+      }
+    });
+
+    assertThat(principal.hasClaimValue(CLAIM_NAME, "b"), is(true));
+    assertThat(principal.hasClaimValue(CLAIM_NAME, "c"), is(false));
+
+    final List<Object> values = new ArrayList<>();
+    principal.forEachValue(CLAIM_NAME, values::add);
+    assertThat(values, contains("a", "b"));
   }
 
   @Test
@@ -0,0 +1,145 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FailureLog}.
+ *
+ * @author Carl Harris
+ */
+public class FailureLogTest {
+
+  private static final Instant NOW = Instant.ofEpochSecond(1000000);
+
+  private final MockClock clock = new MockClock(NOW);
+
+  private final List<String> messages = new ArrayList<>();
+
+  private FailureLog log;
+
+  @Before
+  public void setUp() throws Exception {
+    log = new FailureLog(Duration.ofSeconds(10), clock, messages::add);
+  }
+
+  @Test
+  public void testFirstFailureIsLoggedInFull() throws Exception {
+    log.record(FailureLog.Category.EXPIRED, "token expired");
+    assertThat(messages, contains(
+        "attempt to authenticate using expired token: token expired"));
+  }
+
+  @Test
+  public void testFailuresWithinIntervalAreSummarized() throws Exception {
+    for (int i = 0; i < 1533; i++) {
+      log.record(FailureLog.Category.EXPIRED, "token expired");
+    }
+    assertThat(messages.size(), is(1));
+    messages.clear();
+
+    clock.instant = NOW.plusSeconds(9);
+    log.record(FailureLog.Category.EXPIRED, "token expired");
+    assertThat(messages, is(empty()));
+
+    clock.instant = NOW.plusSeconds(10);
+    log.record(FailureLog.Category.EXPIRED, "another");
+    assertThat(messages, contains(
+        "1,533 expired tokens in the last 10s",
+        "attempt to authenticate using expired token: another"));
+  }
+
+  @Test
+  public void testFlushSummarizesSuppressedFailures() throws Exception {
+    log.record(FailureLog.Category.EXPIRED, "token expired");
+    log.record(FailureLog.Category.EXPIRED, "token expired");
+    log.record(FailureLog.Category.EXPIRED, "token expired");
+    messages.clear();
+
+    clock.instant = NOW.plusSeconds(9);
+    log.flush();
+    assertThat(messages, is(empty()));
+
+    clock.instant = NOW.plusSeconds(10);
+    log.flush();
+    assertThat(messages, contains("2 expired tokens in the last 10s"));
+    messages.clear();
+
+    clock.instant = NOW.plusSeconds(30);
+    log.flush();
+    assertThat(messages, is(empty()));
+
+    log.record(FailureLog.Category.EXPIRED, "another");
+    assertThat(messages, contains(
+        "attempt to authenticate using expired token: another"));
+  }
+
+  @Test
+  public void testCategoriesAreIndependent() throws Exception {
+    log.record(FailureLog.Category.EXPIRED, "expired");
+    log.record(FailureLog.Category.REPLAYED, "id");
+    log.record(FailureLog.Category.MISSING_CLAIMS, null);
+    assertThat(messages, contains(
+        "attempt to authenticate using expired token: expired",
+        "attempt to authenticate using replayed token: jti=id",
+        "attempt to authenticate using token without `jti` "
+            + "and `exp` claims required for replay protection"));
+  }
+
+  private static class MockClock extends Clock {
+
+    Instant instant;
+
+    MockClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+  }
+
+}
@@ -57,6 +57,7 @@ import org.soulwing.s2ks.KeyPairStorage;
  */
 public class JWTValidatorFactoryTest {
 
+  private static final String VALIDATOR_NAME = "validator";
   private static final String ISSUER = "issuer";
   private static final String AUDIENCE = "audience";
   private static final Duration TOLERANCE = Duration.ZERO;
@@ -322,6 +323,8 @@ public class JWTValidatorFactoryTest {
   private Expectations validatorExpectations() throws Exception {
     return new Expectations() {
       {
+        allowing(configuration).getName();
+        will(returnValue(VALIDATOR_NAME));
         allowing(configuration).getProvider();
         will(returnValue(provider));
         allowing(configuration).getSignatureConfiguration();
@@ -451,6 +454,10 @@ public class JWTValidatorFactoryTest {
         will(returnValue(trustStore));
         allowing(configuration).getAssertions();
         will(returnValue(Collections.singletonList(assertionConfiguration)));
+        allowing(configuration).isAdaptiveAssertionOrder();
+        will(returnValue(false));
+        allowing(configuration).getRevocationList();
+        will(returnValue(null));
 
         oneOf(provider).assertions();
         will(returnValue(assertionsBuilder));
@@ -22,10 +22,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -118,6 +122,52 @@ public class JwtAuthenticatorTest {
         is(equalTo(TRANSFORMED_CLAIM_VALUE)));
   }
 
+  @Test
+  public void testValidateWhenReplayed() throws Exception {
+    final Instant expiresAt = Instant.now().plusSeconds(300);
+    authenticator = new JwtAuthenticator(validator, configuration,
+        new ReplayCache(1, ReplayProtectionConfiguration.OverflowPolicy.REJECT,
+            Duration.ZERO, Clock.systemUTC()));
+
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(validator).validate(BEARER_TOKEN);
+        will(returnValue(claims));
+        allowing(claims).claim("jti", Object.class);
+        will(returnValue(Optional.of("id")));
+        allowing(claims).claim("exp", Object.class);
+        will(returnValue(Optional.of(expiresAt)));
+      }
+    });
+
+    authenticator.validate(BEARER_TOKEN);
+    expectedException.expect(AuthenticationException.class);
+    expectedException.expectMessage("already been used");
+    authenticator.validate(BEARER_TOKEN);
+  }
+
+  @Test
+  public void testValidateWhenReplayProtectedAndNoId() throws Exception {
+    authenticator = new JwtAuthenticator(validator, configuration,
+        new ReplayCache(1, ReplayProtectionConfiguration.OverflowPolicy.REJECT,
+            Duration.ZERO, Clock.systemUTC()));
+
+    context.checking(new Expectations() {
+      {
+        oneOf(validator).validate(BEARER_TOKEN);
+        will(returnValue(claims));
+        allowing(claims).claim("jti", Object.class);
+        will(returnValue(Optional.empty()));
+        allowing(claims).claim("exp", Object.class);
+        will(returnValue(Optional.of(Instant.now())));
+      }
+    });
+
+    expectedException.expect(AuthenticationException.class);
+    expectedException.expectMessage("required");
+    authenticator.validate(BEARER_TOKEN);
+  }
+
   @Test
   public void testValidateWhenExpiredToken() throws Exception {
     context.checking(new Expectations() {
@@ -204,4 +254,65 @@ public class JwtAuthenticatorTest {
     authenticator.validate(BEARER_TOKEN);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testValidateFailureIsStacklessAndRateLimited() throws Exception {
+    final List<String> messages = new ArrayList<>();
+    authenticator = new JwtAuthenticator(validator, configuration, null,
+        new FailureLog(Duration.ofSeconds(10), Clock.systemUTC(),
+            messages::add));
+
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(validator).validate(BEARER_TOKEN);
+        will(throwException(new JWTSignatureException("signature error")));
+      }
+    });
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        authenticator.validate(BEARER_TOKEN);
+      }
+      catch (AuthenticationException ex) {
+        assertThat(ex.getStackTrace().length, is(0));
+      }
+    }
+
+    assertThat(messages, is(equalTo(Collections.singletonList(
+        "attempt to authenticate using corrupt token: signature error"))));
+  }
+
+  @Test
+  public void testValidateWhenReplayedThrowsPreallocatedException()
+      throws Exception {
+    final Instant expiresAt = Instant.now().plusSeconds(300);
+    authenticator = new JwtAuthenticator(validator, configuration,
+        new ReplayCache(1, ReplayProtectionConfiguration.OverflowPolicy.REJECT,
+            Duration.ZERO, Clock.systemUTC()));
+
+    context.checking(new Expectations() {
+      {
+        exactly(3).of(validator).validate(BEARER_TOKEN);
+        will(returnValue(claims));
+        allowing(claims).claim("jti", Object.class);
+        will(returnValue(Optional.of("id")));
+        allowing(claims).claim("exp", Object.class);
+        will(returnValue(Optional.of(expiresAt)));
+      }
+    });
+
+    authenticator.validate(BEARER_TOKEN);
+    final AuthenticationException first = replayFailure();
+    assertThat(replayFailure(), is(sameInstance(first)));
+  }
+
+  private AuthenticationException replayFailure() {
+    try {
+      authenticator.validate(BEARER_TOKEN);
+      throw new AssertionError("expected AuthenticationException");
+    }
+    catch (AuthenticationException ex) {
+      return ex;
+    }
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LongHashSet}.
+ *
+ * @author Carl Harris
+ */
+public class LongHashSetTest {
+
+  private final LongHashSet set = new LongHashSet();
+
+  @Test
+  public void testAddAndContains() throws Exception {
+    assertThat(set.add(42L), is(true));
+    assertThat(set.add(42L), is(false));
+    assertThat(set.contains(42L), is(true));
+    assertThat(set.contains(43L), is(false));
+    assertThat(set.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testZero() throws Exception {
+    assertThat(set.contains(0L), is(false));
+    assertThat(set.add(0L), is(true));
+    assertThat(set.add(0L), is(false));
+    assertThat(set.contains(0L), is(true));
+    assertThat(set.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testResize() throws Exception {
+    for (long i = 1; i <= 10000; i++) {
+      set.add(i * 0x9E3779B97F4A7C15L);
+    }
+    assertThat(set.size(), is(equalTo(10000)));
+    for (long i = 1; i <= 10000; i++) {
+      assertThat(set.contains(i * 0x9E3779B97F4A7C15L), is(true));
+    }
+    assertThat(set.contains(-1L), is(false));
+  }
+
+}
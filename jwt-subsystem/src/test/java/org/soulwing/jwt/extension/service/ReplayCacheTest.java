@@ -0,0 +1,176 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReplayCache}.
+ *
+ * @author Carl Harris
+ */
+public class ReplayCacheTest {
+
+  private static final Instant NOW = Instant.ofEpochSecond(1_000_000);
+
+  private final MockClock clock = new MockClock(NOW);
+
+  @Test
+  public void testCheckAndReplay() throws Exception {
+    final ReplayCache cache = newCache(10,
+        ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+    final Instant exp = NOW.plusSeconds(300);
+    assertThat(cache.check("a", exp), is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.check("b", exp), is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.check("a", exp), is(equalTo(ReplayCache.Result.REPLAYED)));
+    assertThat(cache.size(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testExpiration() throws Exception {
+    final ReplayCache cache = newCache(10,
+        ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+    final Instant exp = NOW.plusSeconds(300);
+    cache.check("a", exp);
+    clock.instant = exp;
+    assertThat(cache.check("a", exp), is(equalTo(ReplayCache.Result.REPLAYED)));
+    clock.instant = exp.plusSeconds(2 * ReplayCache.BUCKET_WIDTH);
+    assertThat(cache.check("b", clock.instant.plusSeconds(60)),
+        is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testOverflowWhenReject() throws Exception {
+    final ReplayCache cache = newCache(1,
+        ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+    final Instant exp = NOW.plusSeconds(300);
+    cache.check("a", exp);
+    assertThat(cache.check("b", exp), is(equalTo(ReplayCache.Result.OVERFLOW)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testOverflowWhenAccept() throws Exception {
+    final ReplayCache cache = newCache(1,
+        ReplayProtectionConfiguration.OverflowPolicy.ACCEPT);
+    final Instant exp = NOW.plusSeconds(300);
+    cache.check("a", exp);
+    assertThat(cache.check("b", exp), is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.check("b", exp), is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.check("a", exp), is(equalTo(ReplayCache.Result.REPLAYED)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testOverflowWhenEvictOldest() throws Exception {
+    final ReplayCache cache = newCache(2,
+        ReplayProtectionConfiguration.OverflowPolicy.EVICT_OLDEST);
+    cache.check("a", NOW.plusSeconds(300));
+    cache.check("b", NOW.plusSeconds(600));
+    assertThat(cache.check("c", NOW.plusSeconds(900)),
+        is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.size(), is(equalTo(2)));
+    assertThat(cache.check("a", NOW.plusSeconds(300)),
+        is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.check("c", NOW.plusSeconds(900)),
+        is(equalTo(ReplayCache.Result.REPLAYED)));
+  }
+
+  @Test
+  public void testExpirationBeyondRing() throws Exception {
+    final ReplayCache cache = newCache(10,
+        ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+    final long span = ReplayCache.SLOTS * ReplayCache.BUCKET_WIDTH;
+    final Instant far = NOW.plusSeconds(2 * span);
+    final Instant near = far.minusSeconds(span);
+    cache.check("a", far);
+    cache.check("b", near);
+    clock.instant = near.plusSeconds(2 * ReplayCache.BUCKET_WIDTH);
+    // the shared bucket is retained until the later token expires
+    assertThat(cache.check("a", far), is(equalTo(ReplayCache.Result.REPLAYED)));
+    clock.instant = far.plusSeconds(2 * ReplayCache.BUCKET_WIDTH);
+    assertThat(cache.check("a", clock.instant.plusSeconds(60)),
+        is(equalTo(ReplayCache.Result.ACCEPTED)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testStriping() throws Exception {
+    final ReplayCache cache = newCache(1 << 20,
+        ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+    assertThat(cache.stripes() > 1, is(true));
+    final Instant exp = NOW.plusSeconds(300);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(cache.check("id" + i, exp),
+          is(equalTo(ReplayCache.Result.ACCEPTED)));
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertThat(cache.check("id" + i, exp),
+          is(equalTo(ReplayCache.Result.REPLAYED)));
+    }
+    assertThat(cache.size(), is(equalTo(1000)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenMaxEntriesNotPositive() throws Exception {
+    newCache(0, ReplayProtectionConfiguration.OverflowPolicy.REJECT);
+  }
+
+  private ReplayCache newCache(int maxEntries,
+      ReplayProtectionConfiguration.OverflowPolicy policy) {
+    return new ReplayCache(maxEntries, policy, Duration.ofSeconds(30), clock);
+  }
+
+  private static class MockClock extends Clock {
+
+    Instant instant;
+
+    MockClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+  }
+
+}
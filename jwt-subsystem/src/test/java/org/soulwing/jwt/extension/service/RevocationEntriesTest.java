@@ -0,0 +1,133 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RevocationEntries}.
+ *
+ * @author Carl Harris
+ */
+public class RevocationEntriesTest {
+
+  private static final Instant ISSUED_BEFORE =
+      Instant.parse("2019-04-01T00:00:00Z");
+
+  private Path path;
+
+  @Before
+  public void setUp() throws Exception {
+    path = Files.createTempFile("revocation", ".txt");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testParse() throws Exception {
+    write("# revoked tokens",
+        "",
+        "jti token-1",
+        "jti token-2",
+        "jti token-1",
+        "sub cn=Some User,o=Example " + ISSUED_BEFORE,
+        "sub other " + ISSUED_BEFORE.getEpochSecond());
+
+    final RevocationEntries entries = RevocationEntries.parse(path);
+    assertThat(entries.identifierCount(), is(equalTo(2)));
+    assertThat(entries.subjectCount(), is(equalTo(2)));
+    assertThat(entries.isRevoked("token-1", null, null), is(true));
+    assertThat(entries.isRevoked("token-2", "nobody", null), is(true));
+    assertThat(entries.isRevoked("token-3", "nobody", null), is(false));
+    assertThat(entries.isRevoked(null, "cn=Some User,o=Example",
+        ISSUED_BEFORE.minusSeconds(1)), is(true));
+    assertThat(entries.isRevoked(null, "cn=Some User,o=Example",
+        ISSUED_BEFORE), is(false));
+    assertThat(entries.isRevoked(null, "other", null), is(true));
+  }
+
+  @Test
+  public void testParseWhenInvalidEntry() throws Exception {
+    write("jti token-1", "unknown entry");
+    try {
+      RevocationEntries.parse(path);
+    }
+    catch (IOException ex) {
+      assertThat(ex.getMessage(), containsString(":2:"));
+      return;
+    }
+    throw new AssertionError("expected IOException");
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseWhenNoIssuedBefore() throws Exception {
+    write("sub subject");
+    RevocationEntries.parse(path);
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseWhenInvalidIssuedBefore() throws Exception {
+    write("sub subject yesterday");
+    RevocationEntries.parse(path);
+  }
+
+  @Test
+  public void testMerge() throws Exception {
+    write("jti token-1", "sub subject 100");
+    final RevocationEntries first = RevocationEntries.parse(path);
+    write("jti token-1", "jti token-2", "sub subject 200");
+    final RevocationEntries second = RevocationEntries.parse(path);
+
+    final RevocationEntries entries =
+        RevocationEntries.merge(Arrays.asList(first, second));
+    assertThat(entries.identifierCount(), is(equalTo(2)));
+    assertThat(entries.subjectCount(), is(equalTo(1)));
+    assertThat(entries.isRevoked(null, "subject",
+        Instant.ofEpochSecond(150)), is(true));
+  }
+
+  @Test
+  public void testEmpty() throws Exception {
+    assertThat(RevocationEntries.EMPTY.isEmpty(), is(true));
+    assertThat(RevocationEntries.EMPTY.isRevoked("token", "subject", null),
+        is(false));
+  }
+
+  private void write(String... lines) throws IOException {
+    Files.write(path, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.api.Claims;
+
+/**
+ * Unit tests for {@link RevocationList}.
+ *
+ * @author Carl Harris
+ */
+public class RevocationListTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Claims claims;
+
+  private Path feed;
+
+  private RevocationList revocationList;
+
+  @Before
+  public void setUp() throws Exception {
+    feed = Files.createTempDirectory("revocation");
+    write("a.txt", 1000, "jti token-1");
+    write("b.txt", 1000, "sub subject 100");
+    revocationList = new RevocationList(feed);
+    revocationList.load();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    try (Stream<Path> paths = Files.list(feed)) {
+      for (final Path path : (Iterable<Path>) paths::iterator) {
+        Files.delete(path);
+      }
+    }
+    Files.delete(feed);
+  }
+
+  @Test
+  public void testRevokedIdentifier() throws Exception {
+    expectClaims("token-1", "other", 0);
+    assertThat(revocationList.isRevoked(claims), is(true));
+    assertThat(revocationList.test(claims), is(false));
+    assertThat(revocationList.error(claims).getMessage(),
+        containsString("revoked"));
+  }
+
+  @Test
+  public void testRevokedSubject() throws Exception {
+    expectClaims("token-2", "subject", 99);
+    assertThat(revocationList.isRevoked(claims), is(true));
+  }
+
+  @Test
+  public void testNotRevoked() throws Exception {
+    expectClaims("token-2", "subject", 100);
+    assertThat(revocationList.isRevoked(claims), is(false));
+  }
+
+  @Test
+  public void testReloadWhenFeedChanges() throws Exception {
+    expectClaims("token-2", "other", 0);
+    write("c.txt", 2000, "jti token-2");
+    assertThat(revocationList.isRevoked(claims), is(false));
+
+    revocationList.reload();
+    assertThat(revocationList.isRevoked(claims), is(true));
+
+    Files.delete(feed.resolve("c.txt"));
+    revocationList.reload();
+    assertThat(revocationList.isRevoked(claims), is(false));
+  }
+
+  @Test
+  public void testRetainsEntriesWhenReloadFails() throws Exception {
+    expectClaims("token-1", "other", 0);
+    write("a.txt", 2000, "not an entry");
+    revocationList.reload();
+    assertThat(revocationList.isRevoked(claims), is(true));
+  }
+
+  @Test
+  public void testRetainsEntriesWhenFileIsMalformed() throws Exception {
+    expectClaims("token-1", "other", 0);
+    final Path path = feed.resolve("a.txt");
+    Files.write(path, new byte[] { (byte) 0xff, (byte) 0xfe });
+    Files.setLastModifiedTime(path, FileTime.fromMillis(2000));
+    revocationList.reload();
+    assertThat(revocationList.isRevoked(claims), is(true));
+  }
+
+  @Test(expected = IOException.class)
+  public void testLoadWhenFeedNotFound() throws Exception {
+    new RevocationList(feed.resolve("missing")).load();
+  }
+
+  private void expectClaims(String id, String subject, long issuedAt) {
+    context.checking(new Expectations() {
+      {
+        allowing(claims).claim("jti", Object.class);
+        will(returnValue(Optional.of(id)));
+        allowing(claims).getSubject();
+        will(returnValue(subject));
+        allowing(claims).claim("iat", Object.class);
+        will(returnValue(Optional.of(Instant.ofEpochSecond(issuedAt))));
+      }
+    });
+  }
+
+  private void write(String name, long lastModified, String... lines)
+      throws IOException {
+    final Path path = feed.resolve(name);
+    Files.write(path, Arrays.asList(lines), StandardCharsets.UTF_8);
+    Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+
+/**
+ * Unit tests for {@link RoleClaims}.
+ *
+ * @author Carl Harris
+ */
+public class RoleClaimsTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private UserPrincipal principal;
+
+  @Mock
+  private Claim groups;
+
+  @Mock
+  private Claim missing;
+
+  @Test
+  public void testParse() throws Exception {
+    assertThat(RoleClaims.parse(" grp, afl  other,last "),
+        contains("grp", "afl", "other", "last"));
+  }
+
+  @Test
+  public void testParseWhenNullOrEmpty() throws Exception {
+    assertThat(RoleClaims.parse(null), is(empty()));
+    assertThat(RoleClaims.parse("  "), is(empty()));
+  }
+
+  @Test
+  public void testGetRoles() throws Exception {
+    context.checking(new Expectations() { {
+      oneOf(principal).getClaim("grp");
+      will(returnValue(groups));
+      oneOf(groups).isNull();
+      will(returnValue(false));
+      oneOf(groups).asList(String.class);
+      will(returnValue(Arrays.asList("a", "b", "a")));
+      oneOf(principal).getClaim("afl");
+      will(returnValue(missing));
+      oneOf(missing).isNull();
+      will(returnValue(true));
+    } });
+
+    assertThat(new RoleClaims(Arrays.asList("grp", "afl")).getRoles(principal),
+        contains("a", "b"));
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.transformer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TransformerSequence}.
+ *
+ * @author Carl Harris
+ */
+public class TransformerSequenceTest {
+
+  private final Function<Object, Object> upper =
+      v -> v.toString().toUpperCase();
+
+  private final Function<Object, Object> exclaim = v -> v + "!";
+
+  private final Function<Object, Object> question = v -> v + "?";
+
+  @Test
+  public void testComposeEmpty() throws Exception {
+    final Object value = new Object();
+    assertThat(TransformerSequence.compose(Collections.emptyList()),
+        is(sameInstance(TransformerSequence.IDENTITY)));
+    assertThat(TransformerSequence.compose(Collections.emptyList())
+        .apply(value), is(sameInstance(value)));
+  }
+
+  @Test
+  public void testComposeOne() throws Exception {
+    assertThat(TransformerSequence.compose(
+        Collections.singletonList(upper)), is(sameInstance(upper)));
+  }
+
+  @Test
+  public void testComposeTwo() throws Exception {
+    assertThat(TransformerSequence.compose(Arrays.asList(upper, exclaim))
+        .apply("a"), is(equalTo("A!")));
+  }
+
+  @Test
+  public void testComposeMany() throws Exception {
+    assertThat(TransformerSequence.compose(
+        Arrays.asList(upper, exclaim, question)).apply("a"),
+        is(equalTo("A!?")));
+  }
+
+}
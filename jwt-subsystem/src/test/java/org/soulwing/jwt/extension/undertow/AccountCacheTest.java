@@ -0,0 +1,117 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import io.undertow.security.idm.Account;
+
+/**
+ * Unit tests for {@link AccountCache}.
+ *
+ * @author Carl Harris
+ */
+public class AccountCacheTest {
+
+  private static final Instant NOW = Instant.ofEpochSecond(1000000);
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Account account;
+
+  @Mock
+  private Account otherAccount;
+
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @Test
+  public void testPutAndGet() throws Exception {
+    final AccountCache cache = new AccountCache(2, clock);
+    cache.put(TokenDigest.of("token"), account, NOW.plusSeconds(1));
+    assertThat(cache.get(TokenDigest.of("token")), is(sameInstance(account)));
+    assertThat(cache.get(TokenDigest.of("other")), is(nullValue()));
+  }
+
+  @Test
+  public void testGetWhenExpired() throws Exception {
+    final MockClock clock = new MockClock(NOW);
+    final AccountCache cache = new AccountCache(2, clock);
+    cache.put(TokenDigest.of("token"), account, NOW.plusSeconds(1));
+    clock.instant = NOW.plusSeconds(1);
+    assertThat(cache.get(TokenDigest.of("token")), is(nullValue()));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  public void testPutWhenAlreadyExpired() throws Exception {
+    final AccountCache cache = new AccountCache(2, clock);
+    cache.put(TokenDigest.of("token"), account, NOW);
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  public void testPutWhenFull() throws Exception {
+    final AccountCache cache = new AccountCache(1, clock);
+    cache.put(TokenDigest.of("token"), account, NOW.plusSeconds(1));
+    cache.put(TokenDigest.of("other"), otherAccount, NOW.plusSeconds(1));
+    assertThat(cache.size(), is(1));
+    assertThat(cache.get(TokenDigest.of("other")),
+        is(sameInstance(otherAccount)));
+  }
+
+  private static class MockClock extends Clock {
+
+    Instant instant;
+
+    MockClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.net.URI;
+
+import org.junit.Test;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Unit tests for {@link BearerAuthenticationChallenge}.
+ *
+ * @author Carl Harris
+ */
+public class BearerAuthenticationChallengeTest {
+
+  private static final URI ISSUER_URL = URI.create("http://issuer.example.com");
+
+  @Test
+  public void testHeaderWhenNoToken() throws Exception {
+    assertThat(header(ISSUER_URL, null, "token is required"), is(equalTo(
+        "Bearer realm=\"" + ISSUER_URL + "\"")));
+  }
+
+  @Test
+  public void testHeaderWhenInvalidToken() throws Exception {
+    assertThat(header(ISSUER_URL, "invalid_token", "token has expired"),
+        is(equalTo("Bearer realm=\"" + ISSUER_URL + "\","
+            + " error=\"invalid_token\","
+            + " error_description=\"token has expired\"")));
+  }
+
+  @Test
+  public void testHeaderWhenNoIssuerUrl() throws Exception {
+    assertThat(header(null, "invalid_token", null),
+        is(equalTo("Bearer error=\"invalid_token\"")));
+  }
+
+  @Test
+  public void testHeaderReplacesDisallowedCharacters() throws Exception {
+    assertThat(header(null, "invalid_token", "bad \"claim\" \\ café\n"),
+        is(equalTo("Bearer error=\"invalid_token\","
+            + " error_description=\"bad ?claim? ? caf??\"")));
+  }
+
+  @Test
+  public void testSend() throws Exception {
+    final HttpServerExchange exchange = new HttpServerExchange(null);
+    BearerAuthenticationChallenge.builder()
+        .issuerUrl(ISSUER_URL)
+        .build()
+        .send(exchange);
+
+    assertThat(exchange.getStatusCode(), is(StatusCodes.UNAUTHORIZED));
+    assertThat(exchange.getResponseHeaders().getFirst(Headers.WWW_AUTHENTICATE),
+        is(equalTo("Bearer realm=\"" + ISSUER_URL + "\"")));
+    assertThat(exchange.getResponseContentLength(), is(0L));
+  }
+
+  private static String header(URI issuerUrl, String error, String message) {
+    return ((BearerAuthenticationChallenge)
+        BearerAuthenticationChallenge.builder()
+            .issuerUrl(issuerUrl)
+            .error(error)
+            .message(message)
+            .build()).header();
+  }
+
+}
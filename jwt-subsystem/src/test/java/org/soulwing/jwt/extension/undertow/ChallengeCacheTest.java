@@ -0,0 +1,88 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ChallengeCache}.
+ *
+ * @author Carl Harris
+ */
+public class ChallengeCacheTest {
+
+  private static final URI ISSUER_URL = URI.create("http://issuer.example.com");
+
+  private final AtomicInteger renderCount = new AtomicInteger();
+
+  @Test
+  public void testGetRendersOnce() throws Exception {
+    final ChallengeCache<String> cache = new ChallengeCache<>(this::render);
+    final String value = cache.get(401, ISSUER_URL, "error", true);
+    assertThat(value, is(equalTo("401 " + ISSUER_URL + " error true")));
+    assertThat(cache.get(401, ISSUER_URL, "error", true),
+        is(sameInstance(value)));
+    assertThat(renderCount.get(), is(1));
+    assertThat(cache.size(), is(1));
+  }
+
+  @Test
+  public void testGetWithDistinctKeys() throws Exception {
+    final ChallengeCache<String> cache = new ChallengeCache<>(this::render);
+    cache.get(401, ISSUER_URL, null, false);
+    cache.get(401, null, null, false);
+    cache.get(403, ISSUER_URL, null, false);
+    cache.get(401, ISSUER_URL, "error", false);
+    cache.get(401, ISSUER_URL, null, true);
+    assertThat(renderCount.get(), is(5));
+    assertThat(cache.size(), is(5));
+  }
+
+  @Test
+  public void testGetWhenFullDoesNotInsert() throws Exception {
+    final ChallengeCache<String> cache = new ChallengeCache<>(2, this::render);
+    final String first = cache.get(401, ISSUER_URL, null, false);
+    final String second = cache.get(401, ISSUER_URL, "error", false);
+    final String third = cache.get(403, ISSUER_URL, null, false);
+    assertThat(third, is(equalTo("403 " + ISSUER_URL + " null false")));
+    assertThat(cache.size(), is(2));
+    assertThat(cache.get(401, ISSUER_URL, null, false),
+        is(sameInstance(first)));
+    assertThat(cache.get(401, ISSUER_URL, "error", false),
+        is(sameInstance(second)));
+    assertThat(renderCount.get(), is(3));
+    cache.get(403, ISSUER_URL, null, false);
+    assertThat(renderCount.get(), is(4));
+  }
+
+  private String render(ChallengeCache.Key key) {
+    renderCount.incrementAndGet();
+    return key.statusCode + " " + key.issuerUrl + " " + key.error
+        + " " + key.message;
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.service.Authenticator;
+import org.soulwing.jwt.extension.service.Credential;
+
+import io.undertow.security.idm.Account;
+import io.undertow.util.AbstractAttachable;
+import io.undertow.util.Attachable;
+
+/**
+ * Unit tests for {@link ConnectionAuthentication}.
+ *
+ * @author Carl Harris
+ */
+public class ConnectionAuthenticationTest {
+
+  private static final long EXPIRES_AT = 1000L;
+
+  private static final TokenDigest DIGEST = TokenDigest.of("token");
+
+  private static final Object OWNER = new Object();
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Authenticator authenticator;
+
+  @Mock
+  private Credential credential;
+
+  @Mock
+  private Account account;
+
+  private final Attachable connection = new AbstractAttachable() {};
+
+  @Test
+  public void testPutAndGet() throws Exception {
+    final ConnectionAuthentication authentication = newAuthentication();
+    ConnectionAuthentication.put(connection, authentication);
+    assertThat(ConnectionAuthentication.get(connection, OWNER,
+        TokenDigest.of("token"), EXPIRES_AT - 1),
+        is(sameInstance(authentication)));
+  }
+
+  @Test
+  public void testGetWhenDifferentOwner() throws Exception {
+    ConnectionAuthentication.put(connection, newAuthentication());
+    assertThat(ConnectionAuthentication.get(connection, new Object(),
+        DIGEST, EXPIRES_AT - 1), is(nullValue()));
+  }
+
+  @Test
+  public void testGetWhenDifferentToken() throws Exception {
+    ConnectionAuthentication.put(connection, newAuthentication());
+    assertThat(ConnectionAuthentication.get(connection, OWNER,
+        TokenDigest.of("other token"), EXPIRES_AT - 1), is(nullValue()));
+  }
+
+  @Test
+  public void testGetWhenExpired() throws Exception {
+    ConnectionAuthentication.put(connection, newAuthentication());
+    assertThat(ConnectionAuthentication.get(connection, OWNER, DIGEST,
+        EXPIRES_AT), is(nullValue()));
+    assertThat(connection.getAttachment(
+        JwtAttachments.CONNECTION_AUTHENTICATION_KEY), is(nullValue()));
+  }
+
+  @Test
+  public void testWhenNoConnection() throws Exception {
+    ConnectionAuthentication.put(null, newAuthentication());
+    assertThat(ConnectionAuthentication.get(null, OWNER, DIGEST, 0),
+        is(nullValue()));
+  }
+
+  private ConnectionAuthentication newAuthentication() {
+    return new ConnectionAuthentication(OWNER, DIGEST, authenticator,
+        credential, account, EXPIRES_AT);
+  }
+
+}
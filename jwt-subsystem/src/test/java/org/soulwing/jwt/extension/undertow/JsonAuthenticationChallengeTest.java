@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link JsonAuthenticationChallenge}.
+ *
+ * @author Carl Harris
+ */
+public class JsonAuthenticationChallengeTest {
+
+  private static final URI ISSUER_URL = URI.create("http://issuer.example.com");
+
+  @Test
+  public void testCompactBody() throws Exception {
+    final JsonAuthenticationChallenge challenge = (JsonAuthenticationChallenge)
+        JsonAuthenticationChallenge.builder(false)
+            .issuerUrl(ISSUER_URL)
+            .message("token has expired")
+            .build();
+
+    assertThat(asString(challenge.body()), is(equalTo(
+        "{\"issuer\":\"" + ISSUER_URL + "\",\"message\":\"token has expired\"}")));
+  }
+
+  @Test
+  public void testPrettyBody() throws Exception {
+    final JsonAuthenticationChallenge challenge = (JsonAuthenticationChallenge)
+        JsonAuthenticationChallenge.builder()
+            .issuerUrl(ISSUER_URL)
+            .message("token has expired")
+            .build();
+
+    final String body = asString(challenge.body());
+    assertThat(body, containsString("\n"));
+    assertThat(body.replaceAll("\\s", ""), is(equalTo(
+        "{\"issuer\":\"" + ISSUER_URL + "\",\"message\":\"tokenhasexpired\"}")));
+  }
+
+  @Test
+  public void testBodyIsReusable() throws Exception {
+    final JsonAuthenticationChallenge challenge = (JsonAuthenticationChallenge)
+        JsonAuthenticationChallenge.builder(false)
+            .message("reusable")
+            .build();
+
+    final ByteBuffer body = challenge.body();
+    body.position(body.limit());
+    assertThat(asString(challenge.body()), is(equalTo(
+        "{\"message\":\"reusable\"}")));
+  }
+
+  @Test
+  public void testBodyEncodesMessage() throws Exception {
+    final JsonAuthenticationChallenge challenge = (JsonAuthenticationChallenge)
+        JsonAuthenticationChallenge.builder(false)
+            .message("bad \"claim\" \\ café\n")
+            .build();
+
+    assertThat(asString(challenge.body()), is(equalTo(
+        "{\"message\":\"bad \\\"claim\\\" \\\\ café\\n\"}")));
+  }
+
+  @Test
+  public void testBodyWithoutMessage() throws Exception {
+    final JsonAuthenticationChallenge challenge = (JsonAuthenticationChallenge)
+        JsonAuthenticationChallenge.builder(false)
+            .issuerUrl(ISSUER_URL)
+            .build();
+
+    assertThat(asString(challenge.body()), is(equalTo(
+        "{\"issuer\":\"" + ISSUER_URL + "\"}")));
+  }
+
+  private static String asString(ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
@@ -20,9 +20,14 @@ package org.soulwing.jwt.extension.undertow;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,13 +35,19 @@ import java.util.Collections;
 import io.undertow.security.api.AuthenticationMechanism;
 import io.undertow.security.api.SecurityContext;
 import org.jmock.Expectations;
+import org.jmock.api.Invocation;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.legacy.ClassImposteriser;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.soulwing.jwt.extension.api.Claim;
 import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.soulwing.jwt.extension.audit.AuditLog;
 import org.soulwing.jwt.extension.service.AuthenticationException;
+import org.soulwing.jwt.extension.service.AuthenticationMetrics;
 import org.soulwing.jwt.extension.service.AuthenticationService;
 import org.soulwing.jwt.extension.service.Authenticator;
 import org.soulwing.jwt.extension.service.Credential;
@@ -44,6 +55,10 @@ import org.soulwing.jwt.extension.service.Credential;
 import io.undertow.security.idm.Account;
 import io.undertow.security.idm.IdentityManager;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.ServerConnection;
+import io.undertow.util.AbstractAttachable;
+import io.undertow.util.Attachable;
+import io.undertow.util.AttachmentKey;
 import io.undertow.util.HttpString;
 import io.undertow.util.StatusCodes;
 
@@ -58,7 +73,9 @@ public class JwtAuthenticationMechanismTest {
   private static final String TOKEN = "sample-access-token";
   private static final URI ISSUER_URL = URI.create("http://oauth.example.com");
   @Rule
-  public final JUnitRuleMockery context = new JUnitRuleMockery();
+  public final JUnitRuleMockery context = new JUnitRuleMockery() { {
+    setImposteriser(ClassImposteriser.INSTANCE);
+  } };
 
   @Mock
   private IdentityManager identityManager;
@@ -81,10 +98,26 @@ public class JwtAuthenticationMechanismTest {
   @Mock
   private Account account;
 
+  @Mock
+  private Claim expiration;
+
+  @Mock
+  private ServerConnection connection;
+
+  @Mock
+  private AuthenticationService otherAuthenticationService;
+
+  @Mock
+  private Authenticator otherAuthenticator;
+
   private HttpServerExchange exchange;
 
   private JwtAuthenticationMechanism authMechanism;
 
+  private AuditLog auditLog;
+
+  private AuthenticationMetrics metrics;
+
   @Before
   public void setUp() {
     authMechanism = new JwtAuthenticationMechanism(
@@ -93,6 +126,23 @@ public class JwtAuthenticationMechanismTest {
     );
 
     exchange = new HttpServerExchange(null);
+
+    context.checking(new Expectations() { {
+      allowing(authenticationService).getAuditLog();
+      will(new CustomAction("get audit log") {
+        @Override
+        public Object invoke(Invocation invocation) throws Throwable {
+          return auditLog;
+        }
+      });
+      allowing(authenticationService).getMetrics();
+      will(new CustomAction("get metrics") {
+        @Override
+        public Object invoke(Invocation invocation) throws Throwable {
+          return metrics;
+        }
+      });
+    } });
   }
 
   @Test
@@ -182,6 +232,11 @@ public class JwtAuthenticationMechanismTest {
         exchange.getAttachment(JwtAttachments.AUTH_MESSAGE_KEY),
         is(equalTo("FAILURE"))
     );
+
+    assertThat(
+        exchange.getAttachment(JwtAttachments.AUTH_ERROR_KEY),
+        is(equalTo("invalid_token"))
+    );
   }
 
   @Test
@@ -205,6 +260,219 @@ public class JwtAuthenticationMechanismTest {
     );
   }
 
+  @Test
+  public void testAuthenticateWhenAccountIsCached() throws Exception {
+    authMechanism = new JwtAuthenticationMechanism(identityManager,
+        () -> authenticationService, new AccountCache(1));
+
+    exchange.getRequestHeaders().put(HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    context.checking(authExpectations(credential, account));
+    context.checking(new Expectations() { {
+      oneOf(userPrincipal).getClaim("exp");
+      will(returnValue(expiration));
+      allowing(expiration).isNull();
+      will(returnValue(false));
+      oneOf(expiration).asInstant();
+      will(returnValue(Instant.now().plusSeconds(60)));
+      oneOf(securityContext).authenticationComplete(account, "JWT", true);
+    } });
+
+    assertThat(authMechanism.authenticate(exchange, securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.AUTHENTICATED
+        )));
+
+    context.assertIsSatisfied();
+
+    final HttpServerExchange nextExchange = new HttpServerExchange(null);
+    nextExchange.getRequestHeaders().put(HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    context.checking(new Expectations() { {
+      oneOf(authenticationService).newAuthenticator();
+      will(returnValue(authenticator));
+      oneOf(authenticator).validate(TOKEN);
+      will(returnValue(credential));
+      oneOf(securityContext).authenticationComplete(account, "JWT", true);
+    } });
+
+    assertThat(authMechanism.authenticate(nextExchange, securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.AUTHENTICATED
+        )));
+    assertThat(nextExchange.getAttachment(JwtAttachments.CREDENTIAL_KEY), is(equalTo(credential)));
+  }
+
+  @Test
+  public void testAuthenticateWhenConnectionReuseAndNoConnection()
+      throws Exception {
+    authMechanism = new JwtAuthenticationMechanism(identityManager,
+        () -> authenticationService, null, true);
+
+    exchange.getRequestHeaders().put(HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    context.checking(authExpectations(credential, account));
+    context.checking(new Expectations() { {
+      oneOf(userPrincipal).getClaim("exp");
+      will(returnValue(expiration));
+      allowing(expiration).isNull();
+      will(returnValue(false));
+      oneOf(expiration).asInstant();
+      will(returnValue(Instant.now().plusSeconds(60)));
+      oneOf(securityContext).authenticationComplete(account, "JWT", true);
+    } });
+
+    assertThat(authMechanism.authenticate(exchange, securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.AUTHENTICATED
+        )));
+    assertThat(exchange.getAttachment(JwtAttachments.CREDENTIAL_KEY), is(equalTo(credential)));
+  }
+
+  @Test
+  public void testAuthenticateWhenConnectionReuse() throws Exception {
+    final Attachable attachments = new AbstractAttachable() {};
+    final JwtAuthenticationMechanism mechanism =
+        new JwtAuthenticationMechanism(identityManager,
+            () -> authenticationService, null, true);
+    final JwtAuthenticationMechanism otherMechanism =
+        new JwtAuthenticationMechanism(identityManager,
+            () -> otherAuthenticationService, null, true);
+
+    context.checking(connectionExpectations(attachments));
+    context.checking(authExpectations(credential, account));
+    context.checking(new Expectations() { {
+      oneOf(userPrincipal).getClaim("exp");
+      will(returnValue(expiration));
+      allowing(expiration).isNull();
+      will(returnValue(false));
+      oneOf(expiration).asInstant();
+      will(returnValue(Instant.now().plusSeconds(60)));
+      exactly(2).of(securityContext).authenticationComplete(
+          account, "JWT", true);
+    } });
+
+    // the first request is validated and the second reuses the result
+    assertThat(mechanism.authenticate(newExchange(), securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.AUTHENTICATED
+        )));
+    final HttpServerExchange nextExchange = newExchange();
+    assertThat(mechanism.authenticate(nextExchange, securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.AUTHENTICATED
+        )));
+    assertThat(nextExchange.getAttachment(JwtAttachments.CREDENTIAL_KEY),
+        is(equalTo(credential)));
+
+    context.assertIsSatisfied();
+
+    // another deployment's mechanism on the same connection must validate
+    // the token using its own validator
+    context.checking(new Expectations() { {
+      allowing(otherAuthenticationService).getAuditLog();
+      will(returnValue(null));
+      allowing(otherAuthenticationService).getMetrics();
+      will(returnValue(null));
+      allowing(otherAuthenticationService).getName();
+      will(returnValue("other"));
+      oneOf(otherAuthenticationService).newAuthenticator();
+      will(returnValue(otherAuthenticator));
+      oneOf(otherAuthenticator).validate(TOKEN);
+      will(throwException(new AuthenticationException("FAILURE")));
+      oneOf(securityContext).setAuthenticationRequired();
+    } });
+
+    assertThat(otherMechanism.authenticate(newExchange(), securityContext),
+        is(equalTo(
+            AuthenticationMechanism.AuthenticationMechanismOutcome.NOT_AUTHENTICATED
+        )));
+  }
+
+  @Test
+  public void testAuthenticateWhenAuditLogConfigured() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    auditLog = new AuditLog("test-audit-log", out, 8,
+        AuditLog.OverflowPolicy.DROP);
+    auditLog.start();
+
+    exchange.setSourceAddress(new InetSocketAddress("192.0.2.1", 1234));
+    exchange.getQueryParameters().put("access_token", new ArrayDeque<>(Collections.singleton(TOKEN)));
+    context.checking(authExpectations(null, null));
+    context.checking(new Expectations() { {
+      oneOf(securityContext).setAuthenticationRequired();
+    } });
+
+    authMechanism.authenticate(exchange, securityContext);
+    auditLog.close();
+
+    final String line = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertThat(line, containsString("\"outcome\":\"failure\""));
+    assertThat(line, containsString("\"client\":\"192.0.2.1\""));
+    assertThat(line, containsString("\"reason\":\"FAILURE\""));
+  }
+
+  @Test
+  public void testAuthenticateWhenMetricsEnabled() throws Exception {
+    metrics = new AuthenticationMetrics();
+    authMechanism = new JwtAuthenticationMechanism(identityManager,
+        () -> authenticationService, new AccountCache(1));
+
+    exchange.getRequestHeaders().put(HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    context.checking(authExpectations(credential, account));
+    context.checking(new Expectations() { {
+      oneOf(userPrincipal).getClaim("exp");
+      will(returnValue(expiration));
+      allowing(expiration).isNull();
+      will(returnValue(false));
+      oneOf(expiration).asInstant();
+      will(returnValue(Instant.now().plusSeconds(60)));
+      exactly(2).of(securityContext).authenticationComplete(account, "JWT", true);
+      oneOf(authenticationService).newAuthenticator();
+      will(returnValue(authenticator));
+      oneOf(authenticator).validate(TOKEN);
+      will(returnValue(credential));
+      oneOf(securityContext).authenticationFailed("No token present", "JWT");
+    } });
+
+    authMechanism.authenticate(exchange, securityContext);
+
+    final HttpServerExchange nextExchange = new HttpServerExchange(null);
+    nextExchange.getRequestHeaders().put(HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    authMechanism.authenticate(nextExchange, securityContext);
+
+    authMechanism.authenticate(new HttpServerExchange(null), securityContext);
+
+    assertThat(metrics.getSuccessCount(), is(equalTo(2L)));
+    assertThat(metrics.getFailureCount(), is(equalTo(1L)));
+    assertThat(metrics.getAccountCacheMisses(), is(equalTo(1L)));
+    assertThat(metrics.getAccountCacheHits(), is(equalTo(1L)));
+  }
+
+  private HttpServerExchange newExchange() {
+    final HttpServerExchange exchange = new HttpServerExchange(connection);
+    exchange.getRequestHeaders().put(
+        HttpString.tryFromString("Authorization"), "Bearer " + TOKEN);
+    return exchange;
+  }
+
+  private Expectations connectionExpectations(Attachable attachments)
+      throws Exception {
+    final CustomAction delegate = new CustomAction("delegate attachment") {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        return invocation.getInvokedMethod().invoke(attachments,
+            invocation.getParametersAsArray());
+      }
+    };
+    return new Expectations() { {
+      allowing(connection).getAttachment(with(any(AttachmentKey.class)));
+      will(delegate);
+      allowing(connection).putAttachment(with(any(AttachmentKey.class)),
+          with(any(Object.class)));
+      will(delegate);
+      allowing(connection).removeAttachment(with(any(AttachmentKey.class)));
+      will(delegate);
+    } };
+  }
+
   private Expectations authExpectations(final Credential credential, final Account account) throws Exception {
     return new Expectations() { {
       allowing(securityContext).isAuthenticationRequired();
@@ -0,0 +1,139 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2019 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jwt.extension.undertow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jwt.extension.api.Claim;
+import org.soulwing.jwt.extension.api.UserPrincipal;
+import org.soulwing.jwt.extension.service.Credential;
+import io.undertow.security.idm.Account;
+import io.undertow.security.idm.PasswordCredential;
+
+/**
+ * Unit tests for {@link JwtIdentityManager}.
+ *
+ * @author Carl Harris
+ */
+public class JwtIdentityManagerTest {
+
+  private static final String PRINCIPAL_NAME = "test-user";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Credential credential;
+
+  @Mock
+  private UserPrincipal principal;
+
+  @Mock
+  private Claim groups;
+
+  @Mock
+  private Claim affiliations;
+
+  @Mock
+  private Claim missing;
+
+  @Test
+  public void testVerifyWithRoleClaims() throws Exception {
+    context.checking(new Expectations() { {
+      allowing(credential).getPrincipal();
+      will(returnValue(principal));
+      allowing(principal).getName();
+      will(returnValue(PRINCIPAL_NAME));
+      oneOf(principal).getClaim("grp");
+      will(returnValue(groups));
+      oneOf(groups).isNull();
+      will(returnValue(false));
+      oneOf(groups).asList(String.class);
+      will(returnValue(Arrays.asList("a", "b")));
+      oneOf(principal).getClaim("afl");
+      will(returnValue(affiliations));
+      oneOf(affiliations).isNull();
+      will(returnValue(false));
+      oneOf(affiliations).asList(String.class);
+      will(returnValue(Arrays.asList("b", "c")));
+      oneOf(principal).getClaim("none");
+      will(returnValue(missing));
+      oneOf(missing).isNull();
+      will(returnValue(true));
+    } });
+
+    final JwtIdentityManager identityManager =
+        new JwtIdentityManager(Arrays.asList("grp", "afl", "none"));
+
+    final Account account = identityManager.verify(PRINCIPAL_NAME, credential);
+    assertThat(account, is(instanceOf(JwtAccount.class)));
+    assertThat(account.getPrincipal(), is(sameInstance(principal)));
+    assertThat(account.getRoles(), contains("a", "b", "c"));
+    assertThat(identityManager.verify(account), is(sameInstance(account)));
+  }
+
+  @Test
+  public void testVerifyWithNoRoleClaims() throws Exception {
+    context.checking(new Expectations() { {
+      allowing(credential).getPrincipal();
+      will(returnValue(principal));
+      allowing(principal).getName();
+      will(returnValue(PRINCIPAL_NAME));
+    } });
+
+    final Account account = new JwtIdentityManager(Collections.emptyList())
+        .verify(PRINCIPAL_NAME, credential);
+    assertThat(account.getRoles(), is(empty()));
+  }
+
+  @Test
+  public void testVerifyWhenNameDoesNotMatch() throws Exception {
+    context.checking(new Expectations() { {
+      allowing(credential).getPrincipal();
+      will(returnValue(principal));
+      allowing(principal).getName();
+      will(returnValue(PRINCIPAL_NAME));
+    } });
+
+    assertThat(new JwtIdentityManager(Collections.emptyList())
+        .verify("other-user", credential), is(nullValue()));
+  }
+
+  @Test
+  public void testVerifyWhenNotJwtCredential() throws Exception {
+    assertThat(new JwtIdentityManager(Collections.emptyList())
+            .verify(PRINCIPAL_NAME, new PasswordCredential(new char[0])),
+        is(nullValue()));
+  }
+
+}